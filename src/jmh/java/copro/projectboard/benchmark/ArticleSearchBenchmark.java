@@ -0,0 +1,170 @@
+package copro.projectboard.benchmark;
+
+import copro.projectboard.ProjectBoardApplication;
+import copro.projectboard.domain.type.SearchType;
+import copro.projectboard.dto.ArticleSummaryDto;
+import copro.projectboard.search.ArticleSearchIndex;
+import copro.projectboard.search.HashtagIndex;
+import copro.projectboard.search.UserAccountIndex;
+import copro.projectboard.service.ArticleCountService;
+import copro.projectboard.service.ArticleService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * H2 메모리 DB 에 게시글을 articleCount 건 만들어 두고 {@link ArticleService#searchArticles} 를 잰다.
+ * 검색어 없는 앞쪽 페이지는 캐시되므로, LIST 시나리오의 0 페이지는 캐시 적중, 10 페이지는 DB 조회 경로다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ArticleSearchBenchmark {
+
+    private static final int BATCH_SIZE = 5_000;
+    private static final String[] WORDS = {"스프링", "게시판", "자바", "댓글", "검색", "색인", "spring", "board", "java", "query"};
+    private static final String[] NICKNAMES = {"Uno", "Copro", "Dos", "Tres"};
+
+    public enum Scenario {
+        LIST(null, null),
+        TITLE(SearchType.TITLE, "게시판"),
+        CONTENT(SearchType.CONTENT, "spring"),
+        NICKNAME(SearchType.NICKNAME, "Copro"),
+        HASHTAG(SearchType.HASHTAG, "#tag7");
+
+        private final SearchType searchType;
+        private final String searchKeyword;
+
+        Scenario(SearchType searchType, String searchKeyword) {
+            this.searchType = searchType;
+            this.searchKeyword = searchKeyword;
+        }
+    }
+
+    @Param({"10000"})
+    public int articleCount;
+
+    @Param({"LIST", "TITLE", "CONTENT", "NICKNAME", "HASHTAG"})
+    public Scenario scenario;
+
+    @Param({"0", "10"})
+    public int page;
+
+    private ConfigurableApplicationContext context;
+    private ArticleService articleService;
+    private Pageable pageable;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(ProjectBoardApplication.class)
+                // application.yaml 의 MySQL 설정보다 우선하도록 커맨드라인 인자로 넘긴다.
+                .run(
+                        "--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.sql.init.mode=never",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=warn",
+                        "--logging.level.org.springframework.web.servlet=warn",
+                        "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=warn"
+                );
+
+        seed(context.getBean(JdbcTemplate.class));
+        context.getBean(ArticleSearchIndex.class).rebuild();
+        context.getBean(HashtagIndex.class).rebuild();
+        context.getBean(UserAccountIndex.class).rebuild();
+        context.getBean(ArticleCountService.class).reconcile();
+
+        articleService = context.getBean(ArticleService.class);
+        pageable = PageRequest.of(page, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<ArticleSummaryDto> searchArticles() {
+        return articleService.searchArticles(scenario.searchType, scenario.searchKeyword, pageable);
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp seededAt = Timestamp.valueOf(now);
+
+        List<Object[]> users = new ArrayList<>();
+        for (int i = 0; i < NICKNAMES.length; i++) {
+            users.add(new Object[]{"user" + i, "password", NICKNAMES[i], "user" + i + "@mail.com", seededAt, "user" + i, seededAt, "user" + i});
+        }
+        jdbcTemplate.batchUpdate(
+                "insert into user_account (user_id, user_password, nickname, email, created_at, created_by, modified_at, modified_by) values (?, ?, ?, ?, ?, ?, ?, ?)",
+                users);
+        List<Long> userIds = jdbcTemplate.queryForList("select id from user_account order by id", Long.class);
+
+        List<Object[]> tags = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            tags.add(new Object[]{"tag" + i});
+        }
+        jdbcTemplate.batchUpdate("insert into hashtag (hashtag_name) values (?)", tags);
+        List<Long> tagIds = jdbcTemplate.queryForList("select id from hashtag order by id", Long.class);
+
+        Random random = new Random(42);
+        List<Object[]> articles = new ArrayList<>(BATCH_SIZE);
+        List<Object[]> articleHashtags = new ArrayList<>(BATCH_SIZE);
+        for (long id = 1; id <= articleCount; id++) {
+            int tag = (int) (id % tagIds.size());
+            Timestamp createdAt = Timestamp.valueOf(now.minusSeconds(id));
+            articles.add(new Object[]{
+                    id,
+                    userIds.get((int) (id % userIds.size())),
+                    WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " 게시글 " + id,
+                    sentence(random, 30),
+                    "#tag" + tag,
+                    createdAt, "benchmark", createdAt, "benchmark"
+            });
+            articleHashtags.add(new Object[]{id, tagIds.get(tag)});
+
+            if (articles.size() == BATCH_SIZE || id == articleCount) {
+                jdbcTemplate.batchUpdate(
+                        "insert into article (id, user_account_id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                        articles);
+                jdbcTemplate.batchUpdate("insert into article_hashtag (article_id, hashtag_id) values (?, ?)", articleHashtags);
+                articles.clear();
+                articleHashtags.clear();
+            }
+        }
+        jdbcTemplate.execute("alter table article alter column id restart with " + (articleCount + 1L));
+    }
+
+    private static String sentence(Random random, int words) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            sb.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,62 @@
+package copro.projectboard.benchmark;
+
+import copro.projectboard.domain.Article;
+import copro.projectboard.domain.ArticleComment;
+import copro.projectboard.domain.AuditingFields;
+import copro.projectboard.domain.UserAccount;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크용 엔티티. 실제 조회 결과와 비슷하게 ID 와 감사 필드를 채워 둔다.
+ */
+final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {}
+
+    static UserAccount userAccount() {
+        UserAccount userAccount = UserAccount.of("uno", "password", "uno@mail.com", "Uno", "I am Uno.");
+        setField(userAccount, UserAccount.class, "id", 1L);
+        audit(userAccount, LocalDateTime.now());
+        return userAccount;
+    }
+
+    static Article article(long id, UserAccount userAccount) {
+        Article article = Article.of(userAccount, "게시글 제목 " + id, "게시글 본문입니다. ".repeat(20) + id, "#java #spring");
+        setField(article, Article.class, "id", id);
+        audit(article, LocalDateTime.now().minusMinutes(id));
+        return article;
+    }
+
+    static List<ArticleComment> comments(Article article, int count) {
+        List<ArticleComment> comments = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ArticleComment comment = ArticleComment.of(article, article.getUserAccount(), "댓글 " + i);
+            setField(comment, ArticleComment.class, "id", (long) i + 1);
+            audit(comment, LocalDateTime.now().minusSeconds(i));
+            comments.add(comment);
+        }
+        return comments;
+    }
+
+    private static void audit(AuditingFields entity, LocalDateTime at) {
+        setField(entity, AuditingFields.class, "createdAt", at);
+        setField(entity, AuditingFields.class, "createdBy", "uno");
+        setField(entity, AuditingFields.class, "modifiedAt", at);
+        setField(entity, AuditingFields.class, "modifiedBy", "uno");
+    }
+
+    private static void setField(Object target, Class<?> type, String name, Object value) {
+        try {
+            Field field = type.getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,66 @@
+package copro.projectboard.benchmark;
+
+import copro.projectboard.domain.Article;
+import copro.projectboard.domain.ArticleComment;
+import copro.projectboard.dto.ArticleDto;
+import copro.projectboard.dto.ArticleSummaryDto;
+import copro.projectboard.dto.ArticleWithCommentsDto;
+import copro.projectboard.dto.response.ArticleResponse;
+import copro.projectboard.dto.response.ArticleSummaryResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔티티 → DTO → 응답 객체 변환 비용. 목록 한 페이지, 상세 한 건을 만들 때마다 반복되는 경로다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class DtoMappingBenchmark {
+
+    @Param({"0", "20", "200"})
+    public int commentCount;
+
+    private Article article;
+    private List<ArticleComment> comments;
+    private ArticleDto articleDto;
+    private ArticleSummaryDto articleSummaryDto;
+
+    @Setup
+    public void setUp() {
+        article = BenchmarkFixtures.article(1L, BenchmarkFixtures.userAccount());
+        comments = BenchmarkFixtures.comments(article, commentCount);
+        articleDto = ArticleDto.from(article);
+        articleSummaryDto = ArticleSummaryDto.from(article);
+    }
+
+    @Benchmark
+    public ArticleDto articleDtoFrom() {
+        return ArticleDto.from(article);
+    }
+
+    @Benchmark
+    public ArticleWithCommentsDto articleWithCommentsDtoFrom() {
+        return ArticleWithCommentsDto.from(article, comments);
+    }
+
+    @Benchmark
+    public ArticleResponse articleResponseFrom() {
+        return ArticleResponse.from(articleDto);
+    }
+
+    @Benchmark
+    public ArticleSummaryResponse articleSummaryResponseFrom() {
+        return ArticleSummaryResponse.from(articleSummaryDto);
+    }
+
+}
@@ -0,0 +1,90 @@
+package copro.projectboard.benchmark;
+
+import copro.projectboard.ProjectBoardApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Data REST(/api/articles) 의 HAL 응답과 JSON API(/json/articles) 의 응답 비교.
+ * 앱을 H2 메모리 DB 로 띄우고 같은 페이지를 두 경로로 요청한다. 결과는 응답 본문 크기(바이트)를 돌려준다.
+ * <p>
+ * 같은 페이지 크기에서 HAL 쪽은 링크 생성, 엔티티 -> 리소스 변환, 연관관계 지연 로딩 비용이 더해진다.
+ * 예: ./gradlew jmh -PjmhIncludes=JsonApiBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class JsonApiBenchmark {
+
+    @Param({"20", "100"})
+    public int size;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private URI halArticlesUri;
+    private URI jsonArticlesUri;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(ProjectBoardApplication.class)
+                .run(
+                        "--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:json-api;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=warn",
+                        "--logging.level.org.springframework.web.servlet=warn"
+                );
+
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        halArticlesUri = URI.create("http://localhost:" + port + "/api/articles?page=1&size=" + size + "&sort=createdAt,desc");
+        jsonArticlesUri = URI.create("http://localhost:" + port + "/json/articles?page=1&size=" + size + "&sort=createdAt,desc");
+        httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int halArticles() throws IOException, InterruptedException {
+        return get(halArticlesUri);
+    }
+
+    @Benchmark
+    public int jsonArticles() throws IOException, InterruptedException {
+        return get(jsonArticlesUri);
+    }
+
+    private int get(URI uri) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = httpClient.send(HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("요청 실패 - uri: " + uri + ", status: " + response.statusCode());
+        }
+        return response.body().length;
+    }
+
+}
@@ -0,0 +1,33 @@
+package copro.projectboard.benchmark;
+
+import copro.projectboard.service.PaginationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class PaginationBenchmark {
+
+    @Param({"0", "500", "49999"})
+    public int currentPageNumber;
+
+    @Param({"50000"})
+    public int totalPages;
+
+    private final PaginationService paginationService = new PaginationService();
+
+    @Benchmark
+    public List<Integer> paginationBarNumbers() {
+        return paginationService.getPaginationBarNumbers(currentPageNumber, totalPages);
+    }
+
+}
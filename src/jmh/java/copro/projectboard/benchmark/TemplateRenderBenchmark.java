@@ -0,0 +1,142 @@
+package copro.projectboard.benchmark;
+
+import copro.projectboard.ProjectBoardApplication;
+import copro.projectboard.domain.Article;
+import copro.projectboard.domain.UserAccount;
+import copro.projectboard.dto.ArticleSummaryDto;
+import copro.projectboard.dto.ArticleWithCommentsDto;
+import copro.projectboard.dto.response.ArticleSummaryResponse;
+import copro.projectboard.dto.response.ArticleWithCommentsResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.View;
+import org.thymeleaf.spring5.view.ThymeleafViewResolver;
+
+import javax.servlet.ServletContext;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * 목록(articles/index)과 상세(articles/detail) 화면을 rows 건으로 그리는 시간.
+ * 컨트롤러와 같은 ThymeleafView 로 그리므로, 링크/CSRF 처리와 decoupled logic 적용까지 포함된다.
+ * <p>
+ * templateCache=false 는 매번 템플릿과 *.th.xml 을 다시 파싱하는 경로다. 두 값의 차이가 캐시로 아끼는 파싱 비용이다.
+ * 예: ./gradlew jmh -PjmhIncludes=TemplateRenderBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class TemplateRenderBenchmark {
+
+    public enum Template {
+        INDEX("articles/index"),
+        DETAIL("articles/detail");
+
+        private final String viewName;
+
+        Template(String viewName) {
+            this.viewName = viewName;
+        }
+    }
+
+    @Param({"INDEX", "DETAIL"})
+    public Template template;
+
+    @Param({"10", "100", "1000"})
+    public int rows;
+
+    @Param({"true", "false"})
+    public boolean templateCache;
+
+    private ConfigurableApplicationContext context;
+    private ServletContext servletContext;
+    private View view;
+    private Map<String, Object> model;
+
+    @Setup
+    public void setUp() throws Exception {
+        context = new SpringApplicationBuilder(ProjectBoardApplication.class)
+                .run(
+                        "--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:template-benchmark;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.sql.init.mode=never",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.thymeleaf.cache=" + templateCache,
+                        "--board.thymeleaf.precompile=" + templateCache,
+                        "--logging.level.root=warn"
+                );
+
+        servletContext = ((WebApplicationContext) context).getServletContext();
+        view = context.getBean("thymeleafViewResolver", ThymeleafViewResolver.class)
+                .resolveViewName(template.viewName, Locale.KOREAN);
+        model = switch (template) {
+            case INDEX -> indexModel(rows);
+            case DETAIL -> detailModel(rows);
+        };
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int render() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(servletContext, "GET", "/" + template.viewName);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        view.render(model, request, response);
+        return response.getContentAsByteArray().length;
+    }
+
+    private static Map<String, Object> indexModel(int rows) {
+        UserAccount userAccount = BenchmarkFixtures.userAccount();
+        List<ArticleSummaryResponse> articles = LongStream.rangeClosed(1, rows)
+                .mapToObj(id -> BenchmarkFixtures.article(id, userAccount))
+                .map(ArticleSummaryDto::from)
+                .map(ArticleSummaryResponse::from)
+                .toList();
+
+        Map<String, Object> model = new HashMap<>();
+        model.put("articles", new PageImpl<>(articles, PageRequest.of(0, rows, Sort.by(Sort.Direction.DESC, "createdAt")), rows * 10L));
+        model.put("paginationBarNumbers", List.of(0, 1, 2, 3, 4));
+        model.put("totalCount", rows * 10L);
+        return model;
+    }
+
+    private static Map<String, Object> detailModel(int rows) {
+        Article article = BenchmarkFixtures.article(1L, BenchmarkFixtures.userAccount());
+        ArticleWithCommentsResponse response = ArticleWithCommentsResponse.from(
+                ArticleWithCommentsDto.from(article, BenchmarkFixtures.comments(article, rows)));
+
+        Map<String, Object> model = new HashMap<>();
+        model.put("article", response);
+        model.put("articleComments", List.copyOf(response.articleCommentsResponse()));
+        model.put("nextCommentCursor", null);
+        model.put("viewCount", 0L);
+        model.put("totalCount", 123L);
+        return model;
+    }
+
+}
@@ -0,0 +1,106 @@
+package copro.projectboard.benchmark;
+
+import copro.projectboard.ProjectBoardApplication;
+import copro.projectboard.config.WebExecutionConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 플랫폼 스레드와 가상 스레드 모드의 HTTP 처리량/지연 비교용 부하 테스트.
+ * 앱을 H2 메모리 DB 로 띄우고, 클라이언트 스레드 {@value #CLIENTS} 개가 동시에 목록 화면과 Data REST 를 호출한다.
+ * Tomcat 스레드 수를 클라이언트 수보다 작게 잡아 두었으므로, 플랫폼 모드에서는 요청이 스레드를 기다리는 구간이 생긴다.
+ * <p>
+ * 처리량은 Throughput, 지연 분포(p50/p99 등)는 SampleTime 결과로 본다.
+ * 가상 스레드 모드는 Java 21 이상에서만 돈다. 그보다 낮은 JDK 에서는 build.gradle 이 mode 파라미터를 PLATFORM 으로 줄이고,
+ * 직접 VIRTUAL 을 지정하면 플랫폼 스레드 결과를 VIRTUAL 로 남기지 않도록 준비 단계에서 실패한다.
+ * 예: ./gradlew jmh -PjmhIncludes=WebExecutionBenchmark
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(WebExecutionBenchmark.CLIENTS)
+@State(Scope.Benchmark)
+public class WebExecutionBenchmark {
+
+    static final int CLIENTS = 128;
+
+    @Param({"PLATFORM", "VIRTUAL"})
+    public String mode;
+
+    @Param({"32"})
+    public int tomcatThreads;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private URI articlesUri;
+    private URI apiArticlesUri;
+
+    @Setup
+    public void setUp() {
+        if ("VIRTUAL".equals(mode) && !WebExecutionConfig.isVirtualThreadSupported()) {
+            throw new IllegalStateException("가상 스레드를 쓸 수 없는 JDK 입니다. Java 21 이상에서 실행하세요 - java: " + Runtime.version());
+        }
+        context = new SpringApplicationBuilder(ProjectBoardApplication.class)
+                .run(
+                        "--server.port=0",
+                        "--server.tomcat.threads.max=" + tomcatThreads,
+                        "--board.web-execution.mode=" + mode,
+                        "--spring.datasource.url=jdbc:h2:mem:web-execution;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=warn",
+                        "--logging.level.org.springframework.web.servlet=warn"
+                );
+
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        articlesUri = URI.create("http://localhost:" + port + "/articles?page=10");
+        apiArticlesUri = URI.create("http://localhost:" + port + "/api/articles?page=3");
+        httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int articles() throws IOException, InterruptedException {
+        return get(articlesUri);
+    }
+
+    @Benchmark
+    public int apiArticles() throws IOException, InterruptedException {
+        return get(apiArticlesUri);
+    }
+
+    private int get(URI uri) throws IOException, InterruptedException {
+        HttpResponse<Void> response = httpClient.send(HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("요청 실패 - uri: " + uri + ", status: " + response.statusCode());
+        }
+        return response.statusCode();
+    }
+
+}
@@ -2,14 +2,20 @@ package copro.projectboard;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
 @ConfigurationPropertiesScan
 @SpringBootApplication
 public class ProjectBoardApplication {
 
+	/** 기동 단계 기록 수. /actuator/startup 과 기동 보고서가 쓴다 */
+	private static final int STARTUP_STEP_CAPACITY = 4096;
+
 	public static void main(String[] args) {
-		SpringApplication.run(ProjectBoardApplication.class, args);
+		SpringApplication application = new SpringApplication(ProjectBoardApplication.class);
+		application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEP_CAPACITY));
+		application.run(args);
 	}
 
 }
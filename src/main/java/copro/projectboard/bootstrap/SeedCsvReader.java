@@ -0,0 +1,82 @@
+package copro.projectboard.bootstrap;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 시드 CSV 를 한 행씩 읽는다. RFC 4180 처럼 큰따옴표로 감싼 값 안의 쉼표, 줄바꿈, 두 번 쓴 큰따옴표를 허용한다.
+ * MySQL LOAD DATA 와 같은 파일을 쓰도록, 따옴표 없이 쓴 \N 은 NULL 로 읽는다.
+ */
+class SeedCsvReader implements Closeable {
+
+    static final String NULL = "\\N";
+
+    private final BufferedReader reader;
+
+    SeedCsvReader(Reader reader) {
+        this.reader = new BufferedReader(reader);
+    }
+
+    /**
+     * @return 다음 행의 값들. 파일 끝이면 null
+     */
+    List<String> readRow() throws IOException {
+        int c = reader.read();
+        while (c == '\r' || c == '\n') {
+            c = reader.read();
+        }
+        if (c == -1) {
+            return null;
+        }
+
+        List<String> row = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        boolean wasQuoted = false;
+        while (c != -1) {
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        value.append('"');
+                    } else {
+                        quoted = false;
+                        reader.reset();
+                    }
+                } else {
+                    value.append((char) c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+                wasQuoted = true;
+            } else if (c == ',') {
+                row.add(toValue(value, wasQuoted));
+                value.setLength(0);
+                wasQuoted = false;
+            } else if (c == '\n' || c == '\r') {
+                break;
+            } else {
+                value.append((char) c);
+            }
+            c = reader.read();
+        }
+        row.add(toValue(value, wasQuoted));
+        return row;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private static String toValue(StringBuilder value, boolean quoted) {
+        String text = value.toString();
+        return !quoted && NULL.equals(text) ? null : text;
+    }
+
+}
@@ -0,0 +1,204 @@
+package copro.projectboard.bootstrap;
+
+import copro.projectboard.config.BootstrapConfig.SeedProperties;
+import copro.projectboard.config.BootstrapConfig.SeedStrategy;
+import copro.projectboard.event.ArticleImportedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * data.sql 을 문장마다 다시 실행하는 대신, 테이블별 CSV 를 한 트랜잭션에 몰아서 넣는다.
+ * 첫 테이블에 행이 있으면 이미 적재한 것으로 보고 아무것도 하지 않으므로 재시작 비용이 없다.
+ * <p>
+ * 스키마는 Flyway 가 먼저 만든다. {@link ApplicationRunner} 는 ApplicationReadyEvent 보다 먼저 돌기 때문에,
+ * 기동 시 색인 재구성은 적재가 끝난 데이터를 본다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "board.seed", name = "enabled", havingValue = "true")
+public class SeedDataLoader implements ApplicationRunner {
+
+    private static final Pattern IDENTIFIER = Pattern.compile("[a-z_][a-z0-9_]*");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ResourceLoader resourceLoader;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ApplicationStartup applicationStartup;
+    private final SeedProperties properties;
+
+    public SeedDataLoader(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ResourceLoader resourceLoader,
+            ApplicationEventPublisher eventPublisher,
+            ApplicationStartup applicationStartup,
+            SeedProperties properties
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.resourceLoader = resourceLoader;
+        this.eventPublisher = eventPublisher;
+        this.applicationStartup = applicationStartup;
+        this.properties = properties;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        List<String> tables = properties.getTables();
+        tables.forEach(SeedDataLoader::checkIdentifier);
+        if (tables.isEmpty() || hasRows(tables.get(0))) {
+            log.info("시드 적재 건너뜀 - 이미 데이터가 있습니다");
+            return;
+        }
+
+        SeedStrategy strategy = properties.getStrategy() == SeedStrategy.LOAD_DATA && !isMySql()
+                ? SeedStrategy.BATCH
+                : properties.getStrategy();
+        if (strategy != properties.getStrategy()) {
+            log.warn("LOAD DATA 는 MySQL 에서만 쓸 수 있어 batch insert 로 적재합니다");
+        }
+
+        long startedAt = System.currentTimeMillis();
+        List<Long> loaded = transactionTemplate.execute(status -> {
+            List<Long> rows = new ArrayList<>(tables.size());
+            for (String table : tables) {
+                rows.add(load(table, strategy));
+            }
+            return rows;
+        });
+        log.info("시드 적재 완료 - strategy: {}, tables: {}, rows: {}, elapsed: {}ms",
+                strategy, tables, loaded, System.currentTimeMillis() - startedAt);
+
+        int articleIndex = tables.indexOf("article");
+        if (loaded != null && articleIndex >= 0 && loaded.get(articleIndex) > 0) {
+            eventPublisher.publishEvent(ArticleImportedEvent.of(loaded.get(articleIndex)));
+        }
+    }
+
+    private long load(String table, SeedStrategy strategy) {
+        Resource resource = resourceLoader.getResource(properties.getLocation() + table + ".csv");
+        if (!resource.exists()) {
+            log.warn("시드 파일이 없어 건너뜁니다 - table: {}, resource: {}", table, resource);
+            return 0L;
+        }
+
+        StartupStep step = applicationStartup.start("board.seed.load").tag("table", table).tag("strategy", strategy.name());
+        try {
+            return switch (strategy) {
+                case BATCH -> batchInsert(table, resource);
+                case LOAD_DATA -> loadData(table, resource);
+            };
+        } catch (IOException e) {
+            throw new UncheckedIOException("시드 파일을 읽지 못했습니다 - " + resource, e);
+        } finally {
+            step.end();
+        }
+    }
+
+    private long batchInsert(String table, Resource resource) throws IOException {
+        try (SeedCsvReader reader = new SeedCsvReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            List<String> columns = columns(reader);
+            String sql = "insert into " + table + " (" + String.join(", ", columns) + ") values ("
+                    + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+
+            long rows = 0L;
+            List<Object[]> batch = new ArrayList<>(properties.getBatchSize());
+            List<String> row;
+            while ((row = reader.readRow()) != null) {
+                if (row.size() != columns.size()) {
+                    throw new IllegalStateException("시드 파일의 컬럼 수가 맞지 않습니다 - table: " + table + ", row: " + (rows + batch.size() + 1));
+                }
+                batch.add(row.toArray());
+                if (batch.size() >= properties.getBatchSize()) {
+                    jdbcTemplate.batchUpdate(sql, batch);
+                    rows += batch.size();
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                jdbcTemplate.batchUpdate(sql, batch);
+                rows += batch.size();
+            }
+            return rows;
+        }
+    }
+
+    /**
+     * 드라이버가 로컬 파일 경로로 읽으므로 클래스패스 자원을 임시 파일로 옮긴 뒤 넘긴다.
+     */
+    private long loadData(String table, Resource resource) throws IOException {
+        List<String> columns;
+        try (SeedCsvReader reader = new SeedCsvReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            columns = columns(reader);
+        }
+
+        Path file = Files.createTempFile("seed-" + table + "-", ".csv");
+        try (InputStream in = resource.getInputStream()) {
+            Files.copy(in, file, StandardCopyOption.REPLACE_EXISTING);
+            String path = file.toAbsolutePath().toString().replace("\\", "/");
+            return jdbcTemplate.update("load data local infile '" + path + "' into table " + table
+                    + " character set utf8mb4 fields terminated by ',' optionally enclosed by '\"'"
+                    + " lines terminated by '\\n' ignore 1 lines (" + String.join(", ", columns) + ")");
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private boolean hasRows(String table) {
+        Boolean exists = jdbcTemplate.queryForObject("select exists (select 1 from " + table + ")", Boolean.class);
+        return Boolean.TRUE.equals(exists);
+    }
+
+    private boolean isMySql() {
+        try {
+            String productName = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            return "MySQL".equalsIgnoreCase(productName);
+        } catch (DataAccessException e) {
+            return false;
+        }
+    }
+
+    private static List<String> columns(SeedCsvReader reader) throws IOException {
+        List<String> columns = reader.readRow();
+        if (columns == null || columns.isEmpty()) {
+            throw new IllegalStateException("시드 파일의 첫 줄에 컬럼 이름이 없습니다");
+        }
+        columns.forEach(SeedDataLoader::checkIdentifier);
+        return columns;
+    }
+
+    private static void checkIdentifier(String name) {
+        if (name == null || !IDENTIFIER.matcher(name).matches()) {
+            throw new IllegalArgumentException("테이블/컬럼 이름으로 쓸 수 없습니다 - " + name);
+        }
+    }
+
+}
@@ -0,0 +1,83 @@
+package copro.projectboard.bootstrap;
+
+import copro.projectboard.config.BootstrapConfig.StartupProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline.TimelineEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.StreamSupport;
+
+/**
+ * 기동이 끝나면 단계별 소요 시간을 로그로 남긴다. 자세한 타임라인은 /actuator/startup 에서 볼 수 있다.
+ * <p>
+ * 빈 생성 시간은 그 빈이 끌어온 의존 빈의 생성 시간을 포함한다.
+ * {@link BufferingApplicationStartup} 으로 띄운 경우에만 보고한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class StartupTimingReporter {
+
+    private static final List<String> PHASES = List.of(
+            "spring.boot.application.environment-prepared",
+            "spring.boot.application.context-prepared",
+            "spring.boot.application.context-loaded",
+            "spring.context.beans.post-process",
+            "spring.context.refresh",
+            "board.seed.load"
+    );
+
+    private final ApplicationStartup applicationStartup;
+    private final StartupProperties properties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void report(ApplicationReadyEvent event) {
+        if (!(applicationStartup instanceof BufferingApplicationStartup bufferingStartup)) {
+            return;
+        }
+        List<TimelineEvent> events = bufferingStartup.getBufferedTimeline().getEvents();
+
+        Map<String, Duration> phases = new LinkedHashMap<>();
+        PHASES.forEach(phase -> events.stream()
+                .filter(timelineEvent -> timelineEvent.getStartupStep().getName().equals(phase))
+                .map(TimelineEvent::getDuration)
+                .reduce(Duration::plus)
+                .ifPresent(duration -> phases.put(phase, duration)));
+
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("기동 완료 - JVM 시작부터 %dms, SpringApplication.run %dms%n",
+                ManagementFactory.getRuntimeMXBean().getUptime(), event.getTimeTaken().toMillis()));
+        phases.forEach((phase, duration) -> report.append(String.format("  %-50s %6dms%n", phase, duration.toMillis())));
+
+        report.append(String.format("  오래 걸린 빈 생성 (상위 %d)%n", properties.getReportSize()));
+        events.stream()
+                .filter(timelineEvent -> timelineEvent.getStartupStep().getName().equals("spring.beans.instantiate"))
+                .sorted(Comparator.comparing(TimelineEvent::getDuration).reversed())
+                .limit(properties.getReportSize())
+                .forEach(timelineEvent -> report.append(String.format("    %-48s %6dms%n",
+                        beanName(timelineEvent.getStartupStep()), timelineEvent.getDuration().toMillis())));
+
+        log.info(report.toString().stripTrailing());
+    }
+
+    private static String beanName(StartupStep step) {
+        return StreamSupport.stream(step.getTags().spliterator(), false)
+                .filter(tag -> tag.getKey().equals("beanName"))
+                .map(StartupStep.Tag::getValue)
+                .findFirst()
+                .orElse("?");
+    }
+
+}
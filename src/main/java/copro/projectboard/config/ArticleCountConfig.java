@@ -0,0 +1,37 @@
+package copro.projectboard.config;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class ArticleCountConfig {
+
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("board.article-count")
+    public static class ArticleCountProperties {
+        /**
+         * 검색 조건별 게시글 수 추정치를 재사용하는 시간
+         */
+        private final Duration estimateTtl;
+
+        /**
+         * 보관할 검색 조건별 추정치의 최대 개수
+         */
+        private final int maxEstimates;
+
+        public ArticleCountProperties(
+                @DefaultValue("1m") Duration estimateTtl,
+                @DefaultValue("1000") int maxEstimates
+        ) {
+            this.estimateTtl = estimateTtl;
+            this.maxEstimates = maxEstimates;
+        }
+    }
+
+}
@@ -0,0 +1,114 @@
+package copro.projectboard.config;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationInitializer;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+
+import java.util.List;
+
+/**
+ * 기동 관련 설정. 스키마는 Flyway(db/migration), 시드 데이터는 {@code copro.projectboard.bootstrap.SeedDataLoader} 가 맡는다.
+ * <p>
+ * fast-boot 프로필은 지연 초기화를 켜는데, 스키마 검증과 마이그레이션은 첫 요청이 아니라 기동 시 실패해야 하므로 지연 대상에서 뺀다.
+ */
+@Slf4j
+@Configuration
+public class BootstrapConfig {
+
+    public enum SeedStrategy {
+        /** JDBC batch insert. rewriteBatchedStatements=true 인 MySQL 에서는 여러 행 insert 로 바뀐다 */
+        BATCH,
+        /** MySQL LOAD DATA LOCAL INFILE. 서버의 local_infile 과 드라이버의 allowLoadLocalInfile 이 켜져 있어야 한다 */
+        LOAD_DATA
+    }
+
+    @Bean
+    public static LazyInitializationExcludeFilter eagerSchemaInitialization() {
+        return LazyInitializationExcludeFilter.forBeanTypes(FlywayMigrationInitializer.class, AbstractEntityManagerFactoryBean.class);
+    }
+
+    /**
+     * CDS 아카이브를 만들 때처럼, 기동이 끝나자마자 종료해야 하는 실행에서 쓴다.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "board.startup", name = "exit-after-ready", havingValue = "true")
+    public ApplicationListener<ApplicationReadyEvent> exitAfterReady() {
+        return event -> {
+            log.info("board.startup.exit-after-ready=true - 기동 완료 후 종료합니다");
+            System.exit(SpringApplication.exit(event.getApplicationContext()));
+        };
+    }
+
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("board.seed")
+    public static class SeedProperties {
+        /**
+         * 첫 테이블이 비어 있을 때만 시드 데이터를 넣는다
+         */
+        private final boolean enabled;
+
+        private final SeedStrategy strategy;
+
+        /**
+         * 테이블마다 {@code <location><table>.csv} 를 읽는다. 첫 줄은 컬럼 이름, NULL 은 \N 이다
+         */
+        private final String location;
+
+        /**
+         * 적재 순서. 외래 키가 가리키는 테이블을 먼저 둔다
+         */
+        private final List<String> tables;
+
+        /**
+         * BATCH 전략에서 JDBC batch 한 번에 보낼 insert 수
+         */
+        private final int batchSize;
+
+        public SeedProperties(
+                @DefaultValue("false") boolean enabled,
+                @DefaultValue("BATCH") SeedStrategy strategy,
+                @DefaultValue("classpath:seed/") String location,
+                @DefaultValue({"user_account", "article", "article_comment"}) List<String> tables,
+                @DefaultValue("500") int batchSize
+        ) {
+            this.enabled = enabled;
+            this.strategy = strategy;
+            this.location = location;
+            this.tables = tables;
+            this.batchSize = batchSize;
+        }
+    }
+
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("board.startup")
+    public static class StartupProperties {
+        /**
+         * 기동 보고서에 남길, 오래 걸린 빈 생성 단계 수
+         */
+        private final int reportSize;
+
+        private final boolean exitAfterReady;
+
+        public StartupProperties(
+                @DefaultValue("10") int reportSize,
+                @DefaultValue("false") boolean exitAfterReady
+        ) {
+            this.reportSize = reportSize;
+            this.exitAfterReady = exitAfterReady;
+        }
+    }
+
+}
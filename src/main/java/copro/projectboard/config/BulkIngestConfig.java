@@ -0,0 +1,35 @@
+package copro.projectboard.config;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class BulkIngestConfig {
+
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("board.bulk-ingest")
+    public static class BulkIngestProperties {
+        /**
+         * 한 트랜잭션으로 커밋할 행 수. 요청 본문은 이만큼 쓴 뒤에야 다음 줄을 읽으므로 메모리에 쌓이는 행 수의 상한이기도 하다.
+         */
+        private final int commitSize;
+
+        /**
+         * JDBC batch 한 번에 보낼 insert 수
+         */
+        private final int batchSize;
+
+        public BulkIngestProperties(
+                @DefaultValue("5000") int commitSize,
+                @DefaultValue("500") int batchSize
+        ) {
+            this.commitSize = commitSize;
+            this.batchSize = batchSize;
+        }
+    }
+
+}
@@ -0,0 +1,83 @@
+package copro.projectboard.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@EnableCaching
+@Configuration
+public class CacheConfig {
+
+    public static final String ARTICLE_DETAIL = "articleDetail";
+    public static final String ARTICLE_PAGES = "articlePages";
+
+    /**
+     * 검색어 없는 목록 중 앞에서부터 몇 페이지까지 캐시할지
+     */
+    public static final int CACHED_ARTICLE_PAGES = 5;
+
+    // recordStats() 를 켜 두면 actuator 의 cache.gets / cache.evictions 지표로 노출된다.
+    @Bean
+    public CacheManager cacheManager(ArticleCacheProperties properties) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(ARTICLE_DETAIL, Caffeine.newBuilder()
+                .maximumSize(properties.getDetailMaximumSize())
+                .expireAfterWrite(properties.getDetailTtl())
+                .recordStats()
+                .build());
+        cacheManager.registerCustomCache(ARTICLE_PAGES, Caffeine.newBuilder()
+                .maximumSize(properties.getPageMaximumSize())
+                .expireAfterWrite(properties.getPageTtl())
+                .recordStats()
+                .build());
+        return cacheManager;
+    }
+
+
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("board.cache")
+    public static class ArticleCacheProperties {
+        /**
+         * 게시글 상세 캐시에 담을 최대 게시글 수
+         */
+        private final long detailMaximumSize;
+
+        /**
+         * 게시글 상세 캐시 유지 시간. 쓰기 이벤트로 지워지지 않는 변경(SQL 직접 수정 등)이 반영되는 최대 지연이기도 하다.
+         */
+        private final Duration detailTtl;
+
+        /**
+         * 목록 페이지 캐시에 담을 최대 페이지 수
+         */
+        private final long pageMaximumSize;
+
+        /**
+         * 목록 페이지 캐시 유지 시간
+         */
+        private final Duration pageTtl;
+
+        public ArticleCacheProperties(
+                @DefaultValue("1000") long detailMaximumSize,
+                @DefaultValue("10m") Duration detailTtl,
+                @DefaultValue("100") long pageMaximumSize,
+                @DefaultValue("30s") Duration pageTtl
+        ) {
+            this.detailMaximumSize = detailMaximumSize;
+            this.detailTtl = detailTtl;
+            this.pageMaximumSize = pageMaximumSize;
+            this.pageTtl = pageTtl;
+        }
+    }
+
+}
@@ -0,0 +1,26 @@
+package copro.projectboard.config;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class CommentStatsConfig {
+
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("board.comment-stats")
+    public static class CommentStatsProperties {
+        /**
+         * 보정 작업이 한 트랜잭션에서 다시 계산할 게시글 ID 범위의 크기
+         */
+        private final int reconcileBatchSize;
+
+        public CommentStatsProperties(@DefaultValue("1000") int reconcileBatchSize) {
+            this.reconcileBatchSize = reconcileBatchSize;
+        }
+    }
+
+}
@@ -0,0 +1,73 @@
+package copro.projectboard.config;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class CommentWriteBehindConfig {
+
+    public enum AckMode {
+        /** 댓글이 담긴 묶음이 커밋될 때까지 기다린다 */
+        FLUSH,
+        /** 큐에 넣기만 하고 바로 돌아간다. 저장 실패는 로그로만 남는다 */
+        NONE
+    }
+
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("board.comment-write-behind")
+    public static class CommentWriteBehindProperties {
+        /**
+         * 꺼져 있으면 댓글을 호출한 스레드에서 바로 저장한다
+         */
+        private final boolean enabled;
+
+        /**
+         * 저장을 기다릴 수 있는 댓글 수. 가득 차면 enqueueTimeout 동안 기다린 뒤 거절한다
+         */
+        private final int queueCapacity;
+
+        /**
+         * 한 트랜잭션으로 저장할 최대 댓글 수
+         */
+        private final int batchSize;
+
+        private final AckMode ackMode;
+
+        /**
+         * FLUSH 모드에서 커밋을 기다리는 최대 시간
+         */
+        private final Duration ackTimeout;
+
+        private final Duration enqueueTimeout;
+
+        /**
+         * 종료 시 남은 댓글을 저장하며 기다리는 최대 시간
+         */
+        private final Duration shutdownTimeout;
+
+        public CommentWriteBehindProperties(
+                @DefaultValue("false") boolean enabled,
+                @DefaultValue("10000") int queueCapacity,
+                @DefaultValue("100") int batchSize,
+                @DefaultValue("FLUSH") AckMode ackMode,
+                @DefaultValue("5s") Duration ackTimeout,
+                @DefaultValue("1s") Duration enqueueTimeout,
+                @DefaultValue("10s") Duration shutdownTimeout
+        ) {
+            this.enabled = enabled;
+            this.queueCapacity = queueCapacity;
+            this.batchSize = batchSize;
+            this.ackMode = ackMode;
+            this.ackTimeout = ackTimeout;
+            this.enqueueTimeout = enqueueTimeout;
+            this.shutdownTimeout = shutdownTimeout;
+        }
+    }
+
+}
@@ -0,0 +1,202 @@
+package copro.projectboard.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import copro.projectboard.datasource.ReadYourWritesGuard;
+import copro.projectboard.datasource.ReplicaRoutingDataSource;
+import lombok.Getter;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.ImportBeanDefinitionRegistrar;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.env.Environment;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * board.datasource-routing.enabled=true 이면 spring.datasource 를 primary 로, replicas 를 읽기 전용 트랜잭션용으로 쓴다.
+ * 로컬에서는 H2 메모리 DB 두 개를 primary/replica 로 띄워서 확인할 수 있다(복제는 되지 않는다).
+ * <p>
+ * 커넥션 풀은 모두 빈(primaryDataSource, replicaDataSource0, 1, ...)으로 등록해서, 풀 지표/헬스 체크와
+ * {@link WebExecutionConfig} 의 풀 크기 조정이 그대로 적용되게 한다. 풀 설정은 spring.datasource.hikari 를 함께 쓰고,
+ * replica 마다 board.datasource-routing.replicas[i].hikari 로 덮어쓸 수 있다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "board.datasource-routing", name = "enabled", havingValue = "true")
+@Import(DataSourceRoutingConfig.ReplicaDataSourceRegistrar.class)
+public class DataSourceRoutingConfig {
+
+    public static final String PRIMARY_DATA_SOURCE = "primaryDataSource";
+    public static final String REPLICA_DATA_SOURCE_PREFIX = "replicaDataSource";
+
+    private static final String HIKARI_PREFIX = "spring.datasource.hikari";
+    private static final String REPLICAS_PREFIX = "board.datasource-routing.replicas";
+
+    public enum RoutingStrategy {
+        ROUND_ROBIN,
+        /** 사용 중인 커넥션이 가장 적은 replica */
+        LEAST_BUSY
+    }
+
+    @Bean(PRIMARY_DATA_SOURCE)
+    @ConfigurationProperties(HIKARI_PREFIX)
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        primary.setPoolName("primary");
+        return primary;
+    }
+
+    @Primary
+    @Bean
+    public DataSource dataSource(
+            @Qualifier(PRIMARY_DATA_SOURCE) DataSource primary,
+            BeanFactory beanFactory,
+            DataSourceRoutingProperties properties
+    ) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < properties.getReplicas().size(); i++) {
+            replicas.add(beanFactory.getBean(REPLICA_DATA_SOURCE_PREFIX + i, DataSource.class));
+        }
+
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(
+                primary,
+                replicas,
+                properties.getStrategy(),
+                new ReadYourWritesGuard(properties.getReadYourWritesWindow())
+        );
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    /**
+     * Hibernate 기본값은 세션이 처음 얻은 커넥션을 세션이 닫힐 때까지 쥐고 있는 것이다.
+     * OSIV 로 요청 내내 세션이 열려 있으면 첫 트랜잭션이 고른 DB 에 요청 전체가 묶이므로, 트랜잭션이 끝날 때마다 커넥션을 돌려주고 다음 트랜잭션이 다시 고르게 한다.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer releaseConnectionAfterTransaction() {
+        return hibernateProperties -> hibernateProperties.put(
+                AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION
+        );
+    }
+
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("board.datasource-routing")
+    public static class DataSourceRoutingProperties {
+        private final boolean enabled;
+
+        private final RoutingStrategy strategy;
+
+        /**
+         * 쓰기를 커밋한 뒤 같은 사용자의 읽기를 primary 로 보내는 시간. replica 의 복제 지연보다 길게 잡는다
+         */
+        private final Duration readYourWritesWindow;
+
+        /**
+         * 드라이버와 풀 설정은 spring.datasource 와 같은 것을 쓴다. 풀 설정은 replica 마다 hikari.* 로 덮어쓸 수 있다
+         */
+        private final List<Replica> replicas;
+
+        public DataSourceRoutingProperties(
+                @DefaultValue("false") boolean enabled,
+                @DefaultValue("ROUND_ROBIN") RoutingStrategy strategy,
+                @DefaultValue("2s") Duration readYourWritesWindow,
+                @DefaultValue List<Replica> replicas
+        ) {
+            this.enabled = enabled;
+            this.strategy = strategy;
+            this.readYourWritesWindow = readYourWritesWindow;
+            this.replicas = replicas;
+        }
+    }
+
+    @Getter
+    public static class Replica {
+        private final String url;
+        private final String username;
+        private final String password;
+
+        public Replica(String url, String username, @DefaultValue("") String password) {
+            this.url = url;
+            this.username = username;
+            this.password = password;
+        }
+    }
+
+    /**
+     * replica 수는 설정에 따라 달라지므로 빈 정의를 설정을 읽어 직접 등록한다.
+     */
+    static class ReplicaDataSourceRegistrar implements ImportBeanDefinitionRegistrar, EnvironmentAware {
+
+        private Environment environment;
+
+        @Override
+        public void setEnvironment(Environment environment) {
+            this.environment = environment;
+        }
+
+        @Override
+        public void registerBeanDefinitions(AnnotationMetadata importingClassMetadata, BeanDefinitionRegistry registry) {
+            int replicaCount = Binder.get(environment)
+                    .bind(REPLICAS_PREFIX, Bindable.<List<Map<String, Object>>>of(ResolvableType.forClassWithGenerics(
+                            List.class, ResolvableType.forClassWithGenerics(Map.class, String.class, Object.class))))
+                    .map(List::size)
+                    .orElse(0);
+            BeanFactory beanFactory = (BeanFactory) registry;
+            for (int i = 0; i < replicaCount; i++) {
+                int index = i;
+                registry.registerBeanDefinition(
+                        REPLICA_DATA_SOURCE_PREFIX + i,
+                        BeanDefinitionBuilder.genericBeanDefinition(HikariDataSource.class, () -> replicaDataSource(beanFactory, index))
+                                .setDestroyMethodName("close")
+                                .getBeanDefinition()
+                );
+            }
+        }
+
+        private HikariDataSource replicaDataSource(BeanFactory beanFactory, int index) {
+            DataSourceProperties dataSourceProperties = beanFactory.getBean(DataSourceProperties.class);
+            Replica replica = beanFactory.getBean(DataSourceRoutingProperties.class).getReplicas().get(index);
+            HikariDataSource dataSource = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(dataSourceProperties.determineDriverClassName())
+                    .url(replica.getUrl())
+                    .username(replica.getUsername())
+                    .password(replica.getPassword())
+                    .build();
+
+            Binder binder = Binder.get(environment);
+            binder.bind(HIKARI_PREFIX, Bindable.ofInstance(dataSource));
+            binder.bind(REPLICAS_PREFIX + "[" + index + "].hikari", Bindable.ofInstance(dataSource));
+            dataSource.setPoolName("replica-" + index);
+            dataSource.setReadOnly(true);
+            return dataSource;
+        }
+    }
+
+}
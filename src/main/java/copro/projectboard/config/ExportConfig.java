@@ -0,0 +1,26 @@
+package copro.projectboard.config;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ExportConfig {
+
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("board.export")
+    public static class ExportProperties {
+        /**
+         * 내보내는 동안 이만큼 쓸 때마다 영속성 컨텍스트를 비운다. 메모리에 남는 엔티티 수의 상한이다
+         */
+        private final int clearInterval;
+
+        public ExportProperties(@DefaultValue("500") int clearInterval) {
+            this.clearInterval = clearInterval;
+        }
+    }
+
+}
@@ -0,0 +1,28 @@
+package copro.projectboard.config;
+
+import copro.projectboard.controller.ArticleRestConditionalFilter;
+import copro.projectboard.service.ArticleVersionService;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+
+@Configuration
+public class HttpCachingConfig {
+
+    // 보안 필터 뒤에서 돌도록 순서를 잡는다.
+    @Bean
+    public FilterRegistrationBean<ArticleRestConditionalFilter> articleRestConditionalFilter(
+            ArticleVersionService articleVersionService,
+            RepositoryRestConfiguration repositoryRestConfiguration
+    ) {
+        String basePath = repositoryRestConfiguration.getBasePath().toString();
+        FilterRegistrationBean<ArticleRestConditionalFilter> registration =
+                new FilterRegistrationBean<>(new ArticleRestConditionalFilter(articleVersionService, basePath));
+        registration.addUrlPatterns(basePath + "/articles/*");
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+        return registration;
+    }
+
+}
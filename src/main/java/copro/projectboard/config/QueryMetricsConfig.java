@@ -0,0 +1,70 @@
+package copro.projectboard.config;
+
+import copro.projectboard.metrics.StatementCountFilter;
+import copro.projectboard.metrics.StatementCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+@Configuration
+public class QueryMetricsConfig {
+
+    @Bean
+    public StatementCounter statementCounter() {
+        return new StatementCounter();
+    }
+
+    // Hibernate 가 만드는 모든 SQL 이 이 inspector 를 거친다. JdbcTemplate 으로 직접 날리는 SQL 은 세지 않는다.
+    @Bean
+    public HibernatePropertiesCustomizer statementInspectorCustomizer(StatementCounter statementCounter) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, statementCounter);
+    }
+
+    // Hibernate 가 느린 SQL 을 로그로 남기는 기준도 리포지토리 느린 쿼리 기준과 맞춘다.
+    @Bean
+    public HibernatePropertiesCustomizer slowQueryLogCustomizer(QueryMetricsProperties properties) {
+        return hibernateProperties -> hibernateProperties.put(AvailableSettings.LOG_SLOW_QUERY, properties.getSlowQueryThreshold().toMillis());
+    }
+
+    @Bean
+    public FilterRegistrationBean<StatementCountFilter> statementCountFilter(StatementCounter statementCounter, MeterRegistry meterRegistry) {
+        FilterRegistrationBean<StatementCountFilter> registration = new FilterRegistrationBean<>(new StatementCountFilter(statementCounter, meterRegistry));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("board.query-metrics")
+    public static class QueryMetricsProperties {
+        /**
+         * 이 시간보다 오래 걸린 리포지토리 호출은 느린 쿼리로 남긴다. Hibernate 느린 SQL 로그(LOG_QUERIES_SLOWER_THAN_MS) 기준도 이 값이다
+         */
+        private final Duration slowQueryThreshold;
+
+        /**
+         * actuator(slowqueries) 로 보여줄 최근 느린 쿼리 수
+         */
+        private final int slowQueryHistorySize;
+
+        public QueryMetricsProperties(
+                @DefaultValue("200ms") Duration slowQueryThreshold,
+                @DefaultValue("100") int slowQueryHistorySize
+        ) {
+            this.slowQueryThreshold = slowQueryThreshold;
+            this.slowQueryHistorySize = slowQueryHistorySize;
+        }
+    }
+
+}
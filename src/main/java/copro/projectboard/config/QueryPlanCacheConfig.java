@@ -0,0 +1,71 @@
+package copro.projectboard.config;
+
+import lombok.Getter;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate 쿼리 계획 캐시 설정. JPQL(HQL) 문자열이 같으면 파싱, 번역한 계획을 다시 쓰므로, 같은 모양의 QueryDSL 조건은 값이 달라도 적중한다.
+ * <p>
+ * 적중률은 statistics 를 켜면 Spring Boot 가 hibernate-micrometer 로 등록하는 Hibernate 지표 중 hibernate.cache.query.plan{result=hit|miss} 로 본다.
+ * 통계는 쿼리마다 카운터를 갱신하는 비용이 있으므로 기본은 끄고, 캐시 크기를 조정할 때만 켠다.
+ */
+@Configuration
+public class QueryPlanCacheConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer queryPlanCacheCustomizer(QueryPlanCacheProperties properties) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.QUERY_PLAN_CACHE_MAX_SIZE, properties.getMaxSize());
+            hibernateProperties.put(AvailableSettings.QUERY_PLAN_CACHE_PARAMETER_METADATA_MAX_SIZE, properties.getParameterMetadataMaxSize());
+            hibernateProperties.put(AvailableSettings.IN_CLAUSE_PARAMETER_PADDING, properties.isInClauseParameterPadding());
+            hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, properties.isStatistics());
+            // 통계를 켜면 세션마다 INFO 로그를 남기므로, 따로 켜지 않았다면 끈다.
+            hibernateProperties.putIfAbsent(AvailableSettings.LOG_SESSION_METRICS, false);
+        };
+    }
+
+
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("board.query-plan-cache")
+    public static class QueryPlanCacheProperties {
+        /**
+         * 파싱/번역한 JPQL 계획을 들고 있을 최대 수. Data REST 필터 조합과 정렬마다 한 칸씩 쓴다
+         */
+        private final int maxSize;
+
+        /**
+         * 네이티브 쿼리 파라미터 정보를 들고 있을 최대 수
+         */
+        private final int parameterMetadataMaxSize;
+
+        /**
+         * IN 절 파라미터 수를 2의 거듭제곱으로 채운다. 후보 ID 목록 길이마다 다른 계획이 캐시에 쌓이지 않게 한다
+         */
+        private final boolean inClauseParameterPadding;
+
+        /**
+         * Hibernate 통계를 모은다. 켜야 hibernate.cache.query.plan 등 Hibernate 지표가 등록된다
+         */
+        private final boolean statistics;
+
+        public QueryPlanCacheProperties(
+                @DefaultValue("2048") int maxSize,
+                @DefaultValue("128") int parameterMetadataMaxSize,
+                @DefaultValue("true") boolean inClauseParameterPadding,
+                @DefaultValue("false") boolean statistics
+        ) {
+            this.maxSize = maxSize;
+            this.parameterMetadataMaxSize = parameterMetadataMaxSize;
+            this.inClauseParameterPadding = inClauseParameterPadding;
+            this.statistics = statistics;
+        }
+    }
+
+}
@@ -0,0 +1,147 @@
+package copro.projectboard.config;
+
+import copro.projectboard.domain.type.SearchType;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Set;
+
+@Configuration
+public class SearchConfig {
+
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("board.search-index")
+    public static class SearchIndexProperties {
+        /**
+         * 제목/본문 검색에 in-process 역색인을 사용할지 여부
+         */
+        private final boolean enabled;
+
+        /**
+         * 색인할 n-gram 의 최대 길이 (1 ~ n 까지 모두 색인)
+         */
+        private final int ngramSize;
+
+        /**
+         * 후보 게시글 수가 이 값을 넘으면 색인을 쓰지 않고 LIKE 검색으로 넘긴다
+         */
+        private final int maxCandidates;
+
+        /**
+         * 기동 시 DB 에서 색인을 재구성할 때 한 번에 읽어올 게시글 수
+         */
+        private final int rebuildBatchSize;
+
+        public SearchIndexProperties(
+                @DefaultValue("true") boolean enabled,
+                @DefaultValue("2") int ngramSize,
+                @DefaultValue("1000") int maxCandidates,
+                @DefaultValue("500") int rebuildBatchSize
+        ) {
+            this.enabled = enabled;
+            this.ngramSize = ngramSize;
+            this.maxCandidates = maxCandidates;
+            this.rebuildBatchSize = rebuildBatchSize;
+        }
+    }
+
+
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("board.hashtag-index")
+    public static class HashtagIndexProperties {
+        /**
+         * 해시태그 검색 화면에 미리 집계해 둘 인기 해시태그 수
+         */
+        private final int topSize;
+
+        /**
+         * 해시태그의 게시글 수가 이 값 이하일 때만 ID 목록을 IN 조건으로 넘기고, 넘으면 조인 조건만 쓴다
+         */
+        private final int maxCandidates;
+
+        /**
+         * 기동 시 해시태그 색인 재구성과 조인 테이블 보정에서 한 번에 읽어올 게시글 수
+         */
+        private final int rebuildBatchSize;
+
+        public HashtagIndexProperties(
+                @DefaultValue("20") int topSize,
+                @DefaultValue("1000") int maxCandidates,
+                @DefaultValue("500") int rebuildBatchSize
+        ) {
+            this.topSize = topSize;
+            this.maxCandidates = maxCandidates;
+            this.rebuildBatchSize = rebuildBatchSize;
+        }
+    }
+
+
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("board.user-account-index")
+    public static class UserAccountIndexProperties {
+        /**
+         * ID/닉네임 검색에 in-process 회원 색인을 사용할지 여부
+         */
+        private final boolean enabled;
+
+        /**
+         * 색인할 n-gram 의 최대 길이 (1 ~ n 까지 모두 색인)
+         */
+        private final int ngramSize;
+
+        /**
+         * 찾은 회원 수가 이 값을 넘으면 IN 조건 대신 LIKE 검색으로 넘긴다
+         */
+        private final int maxCandidates;
+
+        /**
+         * 자동 완성으로 돌려줄 최대 후보 수
+         */
+        private final int suggestSize;
+
+        /**
+         * 기동 시 DB 에서 색인을 재구성할 때 한 번에 읽어올 회원 수
+         */
+        private final int rebuildBatchSize;
+
+        public UserAccountIndexProperties(
+                @DefaultValue("true") boolean enabled,
+                @DefaultValue("3") int ngramSize,
+                @DefaultValue("1000") int maxCandidates,
+                @DefaultValue("10") int suggestSize,
+                @DefaultValue("500") int rebuildBatchSize
+        ) {
+            this.enabled = enabled;
+            this.ngramSize = ngramSize;
+            this.maxCandidates = maxCandidates;
+            this.suggestSize = suggestSize;
+            this.rebuildBatchSize = rebuildBatchSize;
+        }
+    }
+
+
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("board.full-text")
+    public static class FullTextProperties {
+        /**
+         * DB 전문 검색(MySQL FULLTEXT, 테스트는 H2 FullText)으로 찾을 검색 유형. 제목/본문만 쓸 수 있다
+         */
+        private final Set<SearchType> searchTypes;
+
+        public FullTextProperties(@DefaultValue Set<SearchType> searchTypes) {
+            this.searchTypes = searchTypes;
+        }
+
+        public boolean isEnabledFor(SearchType searchType) {
+            return (searchType == SearchType.TITLE || searchType == SearchType.CONTENT) && searchTypes.contains(searchType);
+        }
+    }
+
+}
@@ -1,19 +1,59 @@
 package copro.projectboard.config;
 
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.NoOpPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 
+import java.util.Set;
+
 @Configuration
 public class SecurityConfig {
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         return http
-                .authorizeHttpRequests(auth -> auth.anyRequest().permitAll())
+                .authorizeHttpRequests(auth -> auth
+                        .antMatchers("/bulk/**").hasRole("ADMIN")
+                        .antMatchers(HttpMethod.POST, "/comments").authenticated()
+                        .anyRequest().permitAll()
+                )
                 .formLogin().and()
+                // 대량 적재, 댓글 쓰기 API 는 스크립트가 호출하므로 HTTP Basic 도 받는다.
+                .httpBasic().and()
                 .build();
     }
 
+    @Bean
+    public PasswordEncoder passwordEncoder() {
+        DelegatingPasswordEncoder passwordEncoder =
+                (DelegatingPasswordEncoder) PasswordEncoderFactories.createDelegatingPasswordEncoder();
+        // 기존 계정 비밀번호는 {bcrypt} 같은 접두어 없이 평문으로 저장되어 있다.
+        passwordEncoder.setDefaultPasswordEncoderForMatches(NoOpPasswordEncoder.getInstance());
+        return passwordEncoder;
+    }
+
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("board.security")
+    public static class BoardSecurityProperties {
+        /**
+         * 관리자(ROLE_ADMIN) 권한을 줄 계정 ID. 대량 적재 API 는 관리자만 호출할 수 있다.
+         */
+        private final Set<String> adminUserIds;
+
+        public BoardSecurityProperties(@DefaultValue Set<String> adminUserIds) {
+            this.adminUserIds = adminUserIds;
+        }
+    }
+
 }
@@ -1,13 +1,41 @@
 package copro.projectboard.config;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.thymeleaf.ThymeleafProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.context.ApplicationListener;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.thymeleaf.cache.ICache;
+import org.thymeleaf.cache.ICacheManager;
+import org.thymeleaf.cache.StandardCache;
+import org.thymeleaf.cache.StandardCacheManager;
+import org.thymeleaf.cache.TemplateCacheKey;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.engine.TemplateModel;
+import org.thymeleaf.exceptions.TemplateEngineException;
+import org.thymeleaf.spring5.SpringTemplateEngine;
 import org.thymeleaf.spring5.templateresolver.SpringResourceTemplateResolver;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.util.function.ToDoubleFunction;
+
+@Slf4j
 @Configuration
 public class ThymeleafConfig {
 
@@ -21,6 +49,97 @@ public class ThymeleafConfig {
         return defaultTemplateResolver;
     }
 
+    /**
+     * precompile 모드에서는 템플릿 캐시를 키우고 적중/실패를 세도록 캐시 매니저를 바꾼다.
+     */
+    @Bean
+    public static BeanPostProcessor thymeleafTemplateCacheCustomizer(TemplatePrecompileProperties properties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (properties.isPrecompile() && bean instanceof SpringTemplateEngine templateEngine) {
+                    StandardCacheManager cacheManager = new StandardCacheManager();
+                    cacheManager.setTemplateCacheMaxSize(properties.getTemplateCacheMaxSize());
+                    cacheManager.setTemplateCacheEnableCounters(true);
+                    templateEngine.setCacheManager(cacheManager);
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * 기동이 끝나면 모든 템플릿을 한 번씩 처리해서, 템플릿과 decoupled logic(*.th.xml) 파싱 결과를 캐시에 올려 둔다.
+     * 모델 없이 처리하므로 표현식 평가는 대부분 실패하지만, 파싱 결과는 처리 전에 캐시된다.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "board.thymeleaf", name = "precompile", havingValue = "true")
+    public ApplicationListener<ApplicationReadyEvent> thymeleafTemplateWarmup(
+            SpringTemplateEngine templateEngine,
+            ThymeleafProperties thymeleafProperties
+    ) {
+        return event -> warmUp(templateEngine, thymeleafProperties);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "board.thymeleaf", name = "precompile", havingValue = "true")
+    public MeterBinder thymeleafTemplateCacheMetrics(SpringTemplateEngine templateEngine) {
+        return registry -> {
+            ICacheManager cacheManager = templateEngine.getCacheManager();
+            if (cacheManager == null || !(cacheManager.getTemplateCache() instanceof StandardCache<TemplateCacheKey, TemplateModel> cache)) {
+                return;
+            }
+            Gauge.builder("board.thymeleaf.template.cache.size", cache, ICache::size)
+                    .description("캐시된 템플릿 수")
+                    .register(registry);
+            templateCacheCounter(registry, cache, "hit", StandardCache::getHitCount);
+            templateCacheCounter(registry, cache, "miss", StandardCache::getMissCount);
+        };
+    }
+
+
+    private static void warmUp(SpringTemplateEngine templateEngine, ThymeleafProperties thymeleafProperties) {
+        long startedAt = System.nanoTime();
+        String prefix = thymeleafProperties.getPrefix();
+        String suffix = thymeleafProperties.getSuffix();
+        ResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+
+        int templateCount = 0;
+        try {
+            String root = resolver.getResource(prefix).getURL().toString();
+            for (Resource resource : resolver.getResources(prefix + "**/*" + suffix)) {
+                String url = resource.getURL().toString();
+                if (!url.startsWith(root)) {
+                    continue;
+                }
+                String template = url.substring(root.length(), url.length() - suffix.length());
+                try {
+                    templateEngine.process(template, new Context(), Writer.nullWriter());
+                } catch (TemplateEngineException e) {
+                    log.debug("템플릿 미리 처리 중 표현식 평가 실패 (무시) - template: {}, message: {}", template, e.getMessage());
+                }
+                templateCount++;
+            }
+        } catch (IOException e) {
+            log.warn("템플릿 목록을 읽지 못해 미리 파싱을 건너뜁니다 - prefix: {}", prefix, e);
+            return;
+        }
+
+        log.info("템플릿 미리 파싱 완료 - templates: {}, elapsed: {}ms", templateCount, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    private static void templateCacheCounter(
+            MeterRegistry registry,
+            StandardCache<TemplateCacheKey, TemplateModel> cache,
+            String result,
+            ToDoubleFunction<StandardCache<TemplateCacheKey, TemplateModel>> count
+    ) {
+        FunctionCounter.builder("board.thymeleaf.template.cache.requests", cache, count)
+                .tag("result", result)
+                .description("템플릿 캐시 조회 수")
+                .register(registry);
+    }
+
 
     @RequiredArgsConstructor
     @Getter
@@ -33,4 +152,27 @@ public class ThymeleafConfig {
         private final boolean decoupledLogic;
     }
 
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("board.thymeleaf")
+    public static class TemplatePrecompileProperties {
+        /**
+         * 기동 시 모든 템플릿을 미리 파싱해서 캐시에 올린다. spring.thymeleaf.cache=true 일 때만 의미가 있다
+         */
+        private final boolean precompile;
+
+        /**
+         * 템플릿 캐시 최대 크기. 템플릿과 fragment 선택자 조합마다 한 칸씩 쓴다
+         */
+        private final int templateCacheMaxSize;
+
+        public TemplatePrecompileProperties(
+                @DefaultValue("false") boolean precompile,
+                @DefaultValue("500") int templateCacheMaxSize
+        ) {
+            this.precompile = precompile;
+            this.templateCacheMaxSize = templateCacheMaxSize;
+        }
+    }
+
 }
@@ -0,0 +1,35 @@
+package copro.projectboard.config;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ViewCountConfig {
+
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("board.view-count")
+    public static class ViewCountProperties {
+        /**
+         * 조회수를 DB 에 더할 때 JDBC batch 한 번에 보낼 update 수
+         */
+        private final int flushBatchSize;
+
+        /**
+         * 메모리에 들고 있는 조회수 상위 게시글 수. 상위 K 조회의 K 는 이 값을 넘을 수 없다
+         */
+        private final int topSize;
+
+        public ViewCountProperties(
+                @DefaultValue("500") int flushBatchSize,
+                @DefaultValue("100") int topSize
+        ) {
+            this.flushBatchSize = flushBatchSize;
+            this.topSize = topSize;
+        }
+    }
+
+}
@@ -0,0 +1,126 @@
+package copro.projectboard.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.lang.reflect.InvocationTargetException;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 요청 처리 스레드 모드. 기본은 Tomcat 플랫폼 스레드 풀이다.
+ * <p>
+ * VIRTUAL 이면 Tomcat 이 요청마다 가상 스레드를 쓴다. ArticleController 와 Data REST(/api) 모두 같은 커넥터를 타므로 함께 바뀐다.
+ * 빌드 대상은 Java 17 이므로 가상 스레드 API 는 리플렉션으로 찾는다. VIRTUAL 은 Java 21 이상 런타임이 필요하며,
+ * 쓸 수 없는 JDK 에서 VIRTUAL 을 켜면 플랫폼 스레드로 조용히 돌지 않고 기동을 멈춘다.
+ * <p>
+ * 가상 스레드에서는 스레드 수가 동시 요청을 막아 주지 않으므로, DB 커넥션 풀이 실제 동시성 상한이 된다.
+ * 그래서 가상 스레드 실행기를 쓸 때만 풀 크기를 jdbcPoolSize 로 맞추고, 커넥션을 못 얻은 요청은 connectionTimeout 뒤에 실패하게 둔다.
+ */
+@Slf4j
+@Configuration
+public class WebExecutionConfig {
+
+    public enum Mode {
+        PLATFORM,
+        VIRTUAL
+    }
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> requestExecutorCustomizer(WebExecutionProperties properties) {
+        if (!usesVirtualThreads(properties)) {
+            return protocolHandler -> {};
+        }
+        ExecutorService executor = newVirtualThreadPerTaskExecutor();
+        log.info("요청을 가상 스레드에서 처리합니다 - java: {}", Runtime.version());
+        return protocolHandler -> protocolHandler.setExecutor(executor);
+    }
+
+    @Bean
+    public static BeanPostProcessor jdbcPoolSizer(WebExecutionProperties properties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource && usesVirtualThreads(properties)) {
+                    dataSource.setMaximumPoolSize(properties.getJdbcPoolSize());
+                    dataSource.setMinimumIdle(properties.getJdbcPoolSize());
+                    dataSource.setConnectionTimeout(properties.getJdbcConnectionTimeout().toMillis());
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * VIRTUAL 모드인데 이 JDK 에 가상 스레드가 없으면 예외를 던진다.
+     * 요청 실행기와 커넥션 풀 크기가 모두 이 결과를 따르므로, 풀만 줄어든 채 플랫폼 스레드로 도는 일이 없다.
+     */
+    static boolean usesVirtualThreads(WebExecutionProperties properties) {
+        if (properties.getMode() != Mode.VIRTUAL) {
+            return false;
+        }
+        if (!isVirtualThreadSupported()) {
+            throw new IllegalStateException("board.web-execution.mode=virtual 은 Java 21 이상에서만 쓸 수 있습니다 - java: " + Runtime.version());
+        }
+        return true;
+    }
+
+    public static boolean isVirtualThreadSupported() {
+        try {
+            Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null);
+        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("가상 스레드 실행기를 만들 수 없습니다 - java: " + Runtime.version(), e);
+        }
+    }
+
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("board.web-execution")
+    public static class WebExecutionProperties {
+        /**
+         * PLATFORM(기본) 또는 VIRTUAL. VIRTUAL 은 Java 21 이상 런타임이 필요하다
+         */
+        private final Mode mode;
+
+        /**
+         * VIRTUAL 모드의 DB 커넥션 풀 크기. 동시에 DB 를 쓰는 요청 수의 상한이다
+         */
+        private final int jdbcPoolSize;
+
+        /**
+         * VIRTUAL 모드에서 커넥션을 기다리는 최대 시간
+         */
+        private final Duration jdbcConnectionTimeout;
+
+        public WebExecutionProperties(
+                @DefaultValue("PLATFORM") Mode mode,
+                @DefaultValue("50") int jdbcPoolSize,
+                @DefaultValue("3s") Duration jdbcConnectionTimeout
+        ) {
+            this.mode = mode;
+            this.jdbcPoolSize = jdbcPoolSize;
+            this.jdbcConnectionTimeout = jdbcConnectionTimeout;
+        }
+    }
+
+}
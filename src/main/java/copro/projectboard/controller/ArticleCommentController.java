@@ -0,0 +1,49 @@
+package copro.projectboard.controller;
+
+import copro.projectboard.dto.request.ArticleCommentRequest;
+import copro.projectboard.service.ArticleCommentWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import javax.persistence.EntityNotFoundException;
+import java.security.Principal;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 댓글 쓰기 API. {@link ArticleCommentWriter} 를 거치므로 write-behind 를 켜면 몰린 댓글이 묶음으로 저장된다.
+ * <p>
+ * 작성자는 로그인한 계정이다. 저장이 커밋된 뒤에 돌아가면 201, 큐에 넣기만 했거나 커밋 확인 시간이 지났으면 202 로 답한다.
+ * 게시글이나 작성자가 없으면 404, 큐가 가득 차면 503 이다.
+ */
+@RequiredArgsConstructor
+@RequestMapping("/comments")
+@RestController
+public class ArticleCommentController {
+
+    private final ArticleCommentWriter articleCommentWriter;
+
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Void> postArticleComment(@RequestBody ArticleCommentRequest request, Principal principal) {
+        if (request.articleId() == null || request.content() == null || request.content().isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "게시글, 내용은 비울 수 없습니다");
+        }
+
+        boolean committed;
+        try {
+            committed = articleCommentWriter.write(request.toDto(principal.getName()));
+        } catch (EntityNotFoundException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage(), e);
+        } catch (RejectedExecutionException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage(), e);
+        }
+        return ResponseEntity.status(committed ? HttpStatus.CREATED : HttpStatus.ACCEPTED).build();
+    }
+
+}
@@ -1,23 +1,40 @@
 package copro.projectboard.controller;
 
 import copro.projectboard.domain.type.SearchType;
-import copro.projectboard.dto.response.ArticleResponse;
+import copro.projectboard.dto.CursorPage;
+import copro.projectboard.dto.ArticleVersion;
+import copro.projectboard.dto.KeysetCursor;
+import copro.projectboard.dto.response.ArticleCommentResponse;
+import copro.projectboard.dto.response.ArticleSummaryResponse;
+import copro.projectboard.dto.response.ArticleViewCountResponse;
 import copro.projectboard.dto.response.ArticleWithCommentsResponse;
+import copro.projectboard.service.ArticleCommentService;
 import copro.projectboard.service.ArticleService;
+import copro.projectboard.service.ArticleVersionService;
+import copro.projectboard.service.ArticleViewCounter;
 import copro.projectboard.service.PaginationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.ModelMap;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 
 @RequiredArgsConstructor
 @RequestMapping("/articles")
@@ -25,16 +42,24 @@ import java.util.List;
 public class ArticleController {
 
     private final ArticleService articleService;
+    private final ArticleCommentService articleCommentService;
     private final PaginationService paginationService;
+    private final ArticleVersionService articleVersionService;
+    private final ArticleViewCounter articleViewCounter;
 
     @GetMapping
     public String articles(
             @RequestParam(required = false) SearchType searchType,
             @RequestParam(required = false) String searchValue,
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            ServletWebRequest webRequest,
             ModelMap map){
 
-        Page<ArticleResponse> articles = articleService.searchArticles(searchType, searchValue, pageable).map(ArticleResponse::from);
+        if (isBoardNotModified(webRequest)) {
+            return null;
+        }
+
+        Page<ArticleSummaryResponse> articles = articleService.searchArticles(searchType, searchValue, pageable).map(ArticleSummaryResponse::from);
         List<Integer> barNumbers = paginationService.getPaginationBarNumbers(pageable.getPageNumber(),articles.getTotalPages());
 
         map.addAttribute("articles", articles);
@@ -44,13 +69,187 @@ public class ArticleController {
         return "articles/index";
     }
 
+    /**
+     * keyset(커서) 페이징 모드. 최신순 고정이며, 깊은 페이지도 첫 페이지와 같은 비용으로 조회한다.
+     */
+    @GetMapping(params = "cursor")
+    public String articlesByCursor(
+            @RequestParam(required = false) SearchType searchType,
+            @RequestParam(required = false) String searchValue,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            ServletWebRequest webRequest,
+            ModelMap map){
+
+        if (isBoardNotModified(webRequest)) {
+            return null;
+        }
+
+        KeysetCursor keysetCursor = decodeCursor(cursor);
+        int pageSize = checkSize(size);
+
+        List<ArticleSummaryResponse> rows = articleService.searchArticlesByCursor(searchType, searchValue, keysetCursor, pageSize)
+                .stream()
+                .map(ArticleSummaryResponse::from)
+                .toList();
+        CursorPage<ArticleSummaryResponse> articles = paginationService.getCursorPage(
+                rows, pageSize, keysetCursor, article -> KeysetCursor.of(article.createdAt(), article.id()));
+
+        map.addAttribute("articles", articles);
+        map.addAttribute("cursorMode", true);
+        map.addAttribute("totalCount", articleService.getArticleCount());
+
+        return "articles/index";
+    }
+
+    /**
+     * 게시글/댓글의 버전만 먼저 읽어서, 바뀌지 않았으면 엔티티를 읽지 않고 304 로 끝낸다.
+     * 304 로 끝나도 조회수는 센다. 조회수는 자주 바뀌므로 화면에 넣지 않고 {@link #viewCount} 로 따로 읽는다.
+     */
     @GetMapping("/{articleId}")
-    public String article(@PathVariable Long articleId, ModelMap map){
+    public String article(@PathVariable Long articleId, ServletWebRequest webRequest, ModelMap map){
+        Optional<ArticleVersion> articleVersion = articleVersionService.getArticleVersion(articleId);
+        articleVersion.ifPresent(version -> articleViewCounter.increment(articleId));
+
+        boolean notModified = articleVersion
+                .map(version -> checkNotModified(webRequest, version.etag(viewerKey(webRequest)), version.lastModified()))
+                .orElse(false);
+        if (notModified) {
+            return null;
+        }
+
         ArticleWithCommentsResponse article = ArticleWithCommentsResponse.from(articleService.getArticle(articleId));
+        CursorPage<ArticleCommentResponse> articleComments = paginationService.getCursorPage(
+                List.copyOf(article.articleCommentsResponse()),
+                ArticleService.DETAIL_COMMENT_SIZE,
+                null,
+                articleComment -> KeysetCursor.of(articleComment.createdAt(), articleComment.id()));
+
         map.addAttribute("article", article);
-        map.addAttribute("articleComments", article.articleCommentsResponse());
+        map.addAttribute("articleComments", articleComments.content());
+        map.addAttribute("nextCommentCursor", articleComments.nextCursor());
         return "articles/detail";
     }
 
+    /**
+     * 상세 화면의 조회수. 아직 DB 에 반영하지 않은 조회수까지 더하며, 캐시하지 않는다.
+     */
+    @ResponseBody
+    @GetMapping("/{articleId}/view-count")
+    public ResponseEntity<Long> viewCount(@PathVariable Long articleId){
+        ArticleVersion version = articleVersionService.getArticleVersion(articleId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "게시글이 없습니다 - articleId: " + articleId));
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(version.viewCount() + articleViewCounter.getPendingViews(articleId));
+    }
+
+    /**
+     * 조회수 상위 게시글. 메모리에 둔 목록으로 답하므로 DB 를 읽지 않는다.
+     */
+    @ResponseBody
+    @GetMapping("/most-viewed")
+    public List<ArticleViewCountResponse> mostViewedArticles(@RequestParam(defaultValue = "10") int size){
+        return articleViewCounter.getMostViewed(size).stream()
+                .map(ArticleViewCountResponse::from)
+                .toList();
+    }
+
+    /**
+     * ID/닉네임 검색어 자동 완성. 다른 검색 유형은 빈 목록을 돌려준다.
+     */
+    @ResponseBody
+    @GetMapping("/search-suggestions")
+    public List<String> searchSuggestions(
+            @RequestParam SearchType searchType,
+            @RequestParam String searchValue){
+        return articleService.getSearchSuggestions(searchType, searchValue);
+    }
+
+    /**
+     * 상세 화면의 댓글 더보기. 최신순으로 커서 다음 댓글을 JSON 으로 돌려준다.
+     */
+    @ResponseBody
+    @GetMapping("/{articleId}/comments")
+    public CursorPage<ArticleCommentResponse> articleComments(
+            @PathVariable Long articleId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size){
+
+        KeysetCursor keysetCursor = decodeCursor(cursor);
+        int pageSize = checkSize(size);
+
+        List<ArticleCommentResponse> rows = articleCommentService.searchArticleComments(articleId, keysetCursor, pageSize)
+                .stream()
+                .map(ArticleCommentResponse::from)
+                .toList();
+        return paginationService.getCursorPage(
+                rows, pageSize, keysetCursor, articleComment -> KeysetCursor.of(articleComment.createdAt(), articleComment.id()));
+    }
+
+    /**
+     * 해시태그 검색. 정규화된 해시태그 색인으로 찾고, 인기 해시태그 목록을 함께 보여준다.
+     */
+    @GetMapping("/search-hashtag")
+    public String searchHashtag(
+            @RequestParam(required = false) String searchValue,
+            @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            ServletWebRequest webRequest,
+            ModelMap map){
+
+        if (isBoardNotModified(webRequest)) {
+            return null;
+        }
+
+        Page<ArticleSummaryResponse> articles = articleService.searchArticlesViaHashtag(searchValue, pageable).map(ArticleSummaryResponse::from);
+        List<Integer> barNumbers = paginationService.getPaginationBarNumbers(pageable.getPageNumber(), articles.getTotalPages());
+
+        map.addAttribute("articles", articles);
+        map.addAttribute("hashtags", articleService.getTopHashtags());
+        map.addAttribute("paginationBarNumbers", barNumbers);
+        map.addAttribute("searchType", SearchType.HASHTAG);
+
+        return "articles/search-hashtag";
+    }
+
+    /**
+     * 목록 화면은 어느 게시글이 바뀌어도 달라질 수 있으므로 게시판 전체 버전으로 판단한다.
+     */
+    private boolean isBoardNotModified(ServletWebRequest webRequest) {
+        return checkNotModified(webRequest, articleVersionService.getBoardEtag(viewerKey(webRequest)), -1L);
+    }
+
+    /**
+     * 브라우저가 응답을 저장해 두고 매번 재검증하도록 Cache-Control 을 직접 준다.
+     * 비워 두면 스프링 시큐리티가 no-store 를 붙여서 조건부 요청 자체가 오지 않는다.
+     */
+    private boolean checkNotModified(ServletWebRequest webRequest, String etag, long lastModified) {
+        if (webRequest.checkNotModified(etag, lastModified)) {
+            return true;
+        }
+        Objects.requireNonNull(webRequest.getResponse())
+                .setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue());
+        return false;
+    }
+
+    // 로그인 여부에 따라 헤더가 달라지므로 사용자도 ETag 에 넣는다. 이름이 그대로 드러나지 않게 해시만 쓴다.
+    private static String viewerKey(ServletWebRequest webRequest) {
+        return Integer.toHexString(Objects.hashCode(webRequest.getRemoteUser()));
+    }
+
+    /**
+     * 커서 페이지 크기는 1 ~ {@link ArticleJsonController#MAX_PAGE_SIZE} 로 자른다.
+     */
+    private static int checkSize(int size) {
+        return Math.max(1, Math.min(size, ArticleJsonController.MAX_PAGE_SIZE));
+    }
+
+    private KeysetCursor decodeCursor(String cursor) {
+        try {
+            return KeysetCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
 
 }
@@ -0,0 +1,111 @@
+package copro.projectboard.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import copro.projectboard.dto.SlicePage;
+import copro.projectboard.dto.response.ArticleCommentResponse;
+import copro.projectboard.dto.response.ArticleResponse;
+import copro.projectboard.service.ArticleCommentService;
+import copro.projectboard.service.ArticleService;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import javax.persistence.EntityNotFoundException;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * 읽기 전용 JSON API. Data REST(/api) 의 HAL 과 달리 링크를 만들지 않고, 엔티티 대신 응답 레코드로 바로 읽는다.
+ * 페이지 정보는 전체 건수 없이 다음 페이지 여부만 준다.
+ * <p>
+ * 응답 타입마다 {@link ObjectWriter} 를 미리 만들어 직렬화기를 한 번만 찾고, 메시지 컨버터를 고르지 않고 바로 쓴다.
+ */
+@RequestMapping("/json/articles")
+@RestController
+public class ArticleJsonController {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final Set<String> ARTICLE_SORTS = Set.of("id", "title", "createdAt", "commentCount", "lastCommentedAt");
+    private static final Set<String> ARTICLE_COMMENT_SORTS = Set.of("id", "createdAt");
+
+    private final ArticleService articleService;
+    private final ArticleCommentService articleCommentService;
+
+    private final ObjectWriter articleWriter;
+    private final ObjectWriter articlePageWriter;
+    private final ObjectWriter articleCommentPageWriter;
+
+    public ArticleJsonController(ArticleService articleService, ArticleCommentService articleCommentService, ObjectMapper objectMapper) {
+        this.articleService = articleService;
+        this.articleCommentService = articleCommentService;
+
+        TypeFactory typeFactory = objectMapper.getTypeFactory();
+        this.articleWriter = objectMapper.writerFor(ArticleResponse.class);
+        this.articlePageWriter = objectMapper.writerFor(typeFactory.constructParametricType(SlicePage.class, ArticleResponse.class));
+        this.articleCommentPageWriter = objectMapper.writerFor(typeFactory.constructParametricType(SlicePage.class, ArticleCommentResponse.class));
+    }
+
+    @GetMapping
+    public void articles(
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            HttpServletResponse response) throws IOException {
+
+        SlicePage<ArticleResponse> articles = SlicePage.from(articleService.getArticleResponses(checkPageable(pageable, ARTICLE_SORTS)));
+        write(response, articlePageWriter, articles);
+    }
+
+    @GetMapping("/{articleId}")
+    public void article(@PathVariable Long articleId, HttpServletResponse response) throws IOException {
+        ArticleResponse article;
+        try {
+            article = articleService.getArticleResponse(articleId);
+        } catch (EntityNotFoundException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage(), e);
+        }
+        write(response, articleWriter, article);
+    }
+
+    @GetMapping("/{articleId}/comments")
+    public void articleComments(
+            @PathVariable Long articleId,
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            HttpServletResponse response) throws IOException {
+
+        SlicePage<ArticleCommentResponse> articleComments = SlicePage.from(
+                articleCommentService.getArticleCommentResponses(articleId, checkPageable(pageable, ARTICLE_COMMENT_SORTS)));
+        write(response, articleCommentPageWriter, articleComments);
+    }
+
+    /**
+     * 응답 레코드에 있는 컬럼으로만 정렬할 수 있다. 페이지 크기는 {@link #MAX_PAGE_SIZE} 로 자른다.
+     */
+    private static Pageable checkPageable(Pageable pageable, Set<String> sortable) {
+        pageable.getSort().forEach(order -> {
+            if (!sortable.contains(order.getProperty())) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "정렬할 수 없는 컬럼입니다 - " + order.getProperty());
+            }
+        });
+        if (pageable.getPageSize() > MAX_PAGE_SIZE) {
+            return PageRequest.of(pageable.getPageNumber(), MAX_PAGE_SIZE, pageable.getSort());
+        }
+        return pageable;
+    }
+
+    private static void write(HttpServletResponse response, ObjectWriter writer, Object body) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        writer.writeValue(response.getOutputStream(), body);
+    }
+
+}
@@ -0,0 +1,58 @@
+package copro.projectboard.controller;
+
+import copro.projectboard.dto.ArticleVersion;
+import copro.projectboard.service.ArticleVersionService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Data REST 게시글 단건 조회(/api/articles/{id})의 조건부 요청 처리.
+ * Data REST 는 엔티티를 읽은 뒤에야 응답을 만들므로, 그 앞에서 버전만 조회해 If-None-Match 가 맞으면 바로 304 로 끝낸다.
+ * Last-Modified 는 Data REST 가 게시글의 modifiedAt 으로 직접 붙이므로 여기서는 ETag 만 다룬다.
+ */
+public class ArticleRestConditionalFilter extends OncePerRequestFilter {
+
+    private final ArticleVersionService articleVersionService;
+    private final Pattern articlePath;
+
+    public ArticleRestConditionalFilter(ArticleVersionService articleVersionService, String basePath) {
+        this.articleVersionService = articleVersionService;
+        this.articlePath = Pattern.compile(Pattern.quote(basePath) + "/articles/(\\d{1,18})/?");
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Matcher matcher = articlePath.matcher(request.getRequestURI().substring(request.getContextPath().length()));
+        Optional<ArticleVersion> version = matcher.matches()
+                ? articleVersionService.getArticleVersion(Long.valueOf(matcher.group(1)))
+                : Optional.empty();
+
+        if (version.isPresent()) {
+            // Data REST 응답은 조회수 컬럼을 그대로 내보내므로, 상세 화면과 달리 DB 에 반영된 조회수도 ETag 에 넣는다.
+            if (new ServletWebRequest(request, response).checkNotModified(version.get().etag("v" + version.get().viewCount()))) {
+                return;
+            }
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue());
+        }
+        filterChain.doFilter(request, response);
+    }
+
+}
@@ -0,0 +1,41 @@
+package copro.projectboard.controller;
+
+import com.querydsl.core.types.Predicate;
+import copro.projectboard.domain.Article;
+import copro.projectboard.repository.ArticleRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.querydsl.binding.QuerydslPredicate;
+import org.springframework.data.rest.webmvc.PersistentEntityResource;
+import org.springframework.data.rest.webmvc.PersistentEntityResourceAssembler;
+import org.springframework.data.rest.webmvc.RepositoryRestController;
+import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+
+/**
+ * Data REST 게시글 조건 검색(/api/articles/search). 제목/해시태그/작성일시/작성자 조건을 {@link ArticleRepository#customize} 바인딩으로 조합한다.
+ * 응답은 /api/articles 와 같은 HAL 이다.
+ * <p>
+ * Data REST 기본 검색 목록(/api/articles/search)을 대신한다. 개별 쿼리 메서드(/api/articles/search/{method})는 그대로 쓸 수 있다.
+ */
+@RequiredArgsConstructor
+@RepositoryRestController
+public class ArticleSearchRestController {
+
+    private final ArticleRepository articleRepository;
+    private final PagedResourcesAssembler<Object> pagedResourcesAssembler;
+
+    @GetMapping("/articles/search")
+    public ResponseEntity<PagedModel<PersistentEntityResource>> searchArticles(
+            @QuerydslPredicate(root = Article.class, bindings = ArticleRepository.class) Predicate predicate,
+            Pageable pageable,
+            PersistentEntityResourceAssembler resourceAssembler) {
+
+        Page<Object> articles = articleRepository.findAll(predicate, pageable).map(Object.class::cast);
+        return ResponseEntity.ok(pagedResourcesAssembler.toModel(articles, resourceAssembler));
+    }
+
+}
@@ -0,0 +1,35 @@
+package copro.projectboard.controller;
+
+import copro.projectboard.dto.BulkIngestResult;
+import copro.projectboard.service.BulkIngestService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 이관/가져오기용 대량 적재. 요청 본문은 한 줄에 JSON 하나씩인 NDJSON 이며, 다 읽을 때까지 스트리밍으로 처리한다.
+ */
+@RequiredArgsConstructor
+@RequestMapping("/bulk")
+@RestController
+public class BulkIngestController {
+
+    public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+    private final BulkIngestService bulkIngestService;
+
+    @PostMapping(path = "/articles", consumes = APPLICATION_NDJSON_VALUE)
+    public BulkIngestResult ingestArticles(InputStream body) throws IOException {
+        return bulkIngestService.ingestArticles(body);
+    }
+
+    @PostMapping(path = "/article-comments", consumes = APPLICATION_NDJSON_VALUE)
+    public BulkIngestResult ingestArticleComments(InputStream body) throws IOException {
+        return bulkIngestService.ingestArticleComments(body);
+    }
+
+}
@@ -0,0 +1,71 @@
+package copro.projectboard.controller;
+
+import copro.projectboard.domain.type.ExportFormat;
+import copro.projectboard.service.ExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 분석용 전체 내보내기. Data REST 의 HAL 페이지를 넘기는 대신, DB 커서에서 읽은 행을 응답에 바로 쓴다.
+ * <p>
+ * 요청 스레드에서 동기로 쓰므로 비동기 요청 제한 시간에 걸리지 않는다. 클라이언트가 받아 가는 속도만큼만 읽는다.
+ */
+@RequiredArgsConstructor
+@RequestMapping("/export")
+@RestController
+public class ExportController {
+
+    private static final int GZIP_BUFFER_SIZE = 8192;
+
+    private final ExportService exportService;
+
+    @GetMapping("/articles")
+    public void exportArticles(
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletResponse response) throws IOException {
+
+        try (OutputStream out = prepare(response, "articles", format, acceptEncoding)) {
+            exportService.exportArticles(format, out);
+        }
+    }
+
+    @GetMapping("/article-comments")
+    public void exportArticleComments(
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletResponse response) throws IOException {
+
+        try (OutputStream out = prepare(response, "article-comments", format, acceptEncoding)) {
+            exportService.exportArticleComments(format, out);
+        }
+    }
+
+    /**
+     * 헤더를 쓰고 본문 스트림을 돌려준다. 클라이언트가 gzip 을 받을 수 있으면 압축해서 보낸다.
+     */
+    private static OutputStream prepare(HttpServletResponse response, String name, ExportFormat format, String acceptEncoding) throws IOException {
+        response.setContentType(format.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(name + "." + format.getExtension()).build().toString());
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if (acceptEncoding == null || !acceptEncoding.toLowerCase().contains("gzip")) {
+            return response.getOutputStream();
+        }
+        response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        return new GZIPOutputStream(response.getOutputStream(), GZIP_BUFFER_SIZE);
+    }
+
+}
@@ -0,0 +1,79 @@
+package copro.projectboard.datasource;
+
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.servlet.http.HttpSession;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 쓰기를 커밋한 사용자의 읽기를 잠시 primary 로 고정해서, 복제 지연 때문에 방금 쓴 글이 안 보이는 일을 막는다.
+ * 로그인 사용자는 사용자별로, 로그인하지 않은 요청은 HTTP 세션별로, 요청 밖(배치, 스케줄러)은 스레드별로 본다.
+ */
+public class ReadYourWritesGuard {
+
+    private static final int CLEANUP_THRESHOLD = 10_000;
+
+    private final long windowMillis;
+    private final Map<String, Long> pinnedUntil = new ConcurrentHashMap<>();
+
+    public ReadYourWritesGuard(Duration window) {
+        this.windowMillis = window.toMillis();
+    }
+
+    public void markWrite() {
+        String key = currentKey(true);
+        if (key == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (pinnedUntil.size() > CLEANUP_THRESHOLD) {
+            pinnedUntil.values().removeIf(until -> until < now);
+        }
+        pinnedUntil.put(key, now + windowMillis);
+    }
+
+    public boolean isPinned() {
+        String key = currentKey(false);
+        if (key == null) {
+            return false;
+        }
+        Long until = pinnedUntil.get(key);
+        if (until == null) {
+            return false;
+        }
+        if (until < System.currentTimeMillis()) {
+            pinnedUntil.remove(key, until);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 로그인하지 않은 요청은 쓰기를 커밋할 때 세션을 만들어 그 ID 로 고정한다.
+     * 응답이 이미 나가서 세션을 만들 수 없으면 고정하지 않는다.
+     */
+    private static String currentKey(boolean createSession) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated() && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "user:" + authentication.getName();
+        }
+
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            try {
+                HttpSession session = attributes.getRequest().getSession(createSession);
+                return session == null ? null : "session:" + session.getId();
+            } catch (IllegalStateException e) {
+                return null;
+            }
+        }
+
+        return "thread:" + Thread.currentThread().getId();
+    }
+
+}
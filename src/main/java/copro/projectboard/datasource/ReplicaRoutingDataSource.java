@@ -0,0 +1,100 @@
+package copro.projectboard.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import copro.projectboard.config.DataSourceRoutingConfig.RoutingStrategy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션은 replica 로, 나머지는 primary 로 보낸다.
+ * <p>
+ * 트랜잭션의 읽기 전용 여부는 커넥션을 얻은 뒤에야 정해지므로, 반드시 {@code LazyConnectionDataSourceProxy} 로 감싸서
+ * 첫 SQL 을 실행할 때 커넥션을 고르게 해야 한다.
+ * 쓰기 트랜잭션이 커밋되면 {@link ReadYourWritesGuard} 에 알려, 같은 사용자의 다음 읽기를 잠시 primary 로 보낸다.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+    static final String REPLICA_PREFIX = "replica-";
+
+    private final List<DataSource> replicas;
+    private final RoutingStrategy strategy;
+    private final ReadYourWritesGuard readYourWritesGuard;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(
+            DataSource primary,
+            List<DataSource> replicas,
+            RoutingStrategy strategy,
+            ReadYourWritesGuard readYourWritesGuard
+    ) {
+        this.replicas = List.copyOf(replicas);
+        this.strategy = strategy;
+        this.readYourWritesGuard = readYourWritesGuard;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < this.replicas.size(); i++) {
+            targets.put(REPLICA_PREFIX + i, this.replicas.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        readYourWritesGuard.markWrite();
+                    }
+                });
+            }
+            return PRIMARY;
+        }
+
+        if (replicas.isEmpty() || readYourWritesGuard.isPinned()) {
+            return PRIMARY;
+        }
+        return REPLICA_PREFIX + switch (strategy) {
+            case ROUND_ROBIN -> Math.floorMod(next.getAndIncrement(), replicas.size());
+            case LEAST_BUSY -> leastBusyReplica();
+        };
+    }
+
+    /**
+     * 사용 중인 커넥션이 가장 적은 replica. 같으면 앞쪽 replica 를 고른다.
+     */
+    private int leastBusyReplica() {
+        int selected = 0;
+        int fewest = Integer.MAX_VALUE;
+        for (int i = 0; i < replicas.size(); i++) {
+            int active = activeConnections(replicas.get(i));
+            if (active < fewest) {
+                selected = i;
+                fewest = active;
+            }
+        }
+        return selected;
+    }
+
+    private static int activeConnections(DataSource dataSource) {
+        if (dataSource instanceof HikariDataSource hikariDataSource) {
+            HikariPoolMXBean pool = hikariDataSource.getHikariPoolMXBean();
+            return pool == null ? 0 : pool.getActiveConnections();
+        }
+        return 0;
+    }
+
+}
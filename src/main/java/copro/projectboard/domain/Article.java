@@ -1,11 +1,15 @@
 package copro.projectboard.domain;
 
+import copro.projectboard.event.ArticleEntityListener;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
 
 
 import javax.persistence.*;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Set;
@@ -17,9 +21,11 @@ import java.util.Set;
         @Index(columnList = "hashtag"),
         @Index(columnList = "createdAt"),
         @Index(columnList = "createdBy"),
+        @Index(columnList = "commentCount"),
+        @Index(columnList = "lastCommentedAt"),
+        @Index(columnList = "viewCount"),
 })
-
-
+@EntityListeners(ArticleEntityListener.class)
 @Entity
 public class Article extends AuditingFields {
    @Id
@@ -32,11 +38,28 @@ public class Article extends AuditingFields {
 
    @Setter private String hashtag;
 
+   // 댓글 수/마지막 댓글 시각. 목록에서 집계 없이 정렬하려고 반정규화했다.
+   // 댓글 쓰기 때 ArticleRepository 의 update 쿼리로만 바꾸며, 게시글 수정이 오래된 값으로 덮어쓰지 않도록 updatable = false 로 둔다.
+   @ColumnDefault("0") @Column(nullable = false, updatable = false) private long commentCount;
+   @Column(updatable = false) private LocalDateTime lastCommentedAt;
+
+   // 조회수. ArticleViewCounter 가 메모리에서 모았다가 주기적으로 더한다. 같은 이유로 엔티티 수정으로는 쓰지 않는다.
+   @ColumnDefault("0") @Column(nullable = false, updatable = false) private long viewCount;
+
 
    @ToString.Exclude
    @OrderBy("createdAt DESC")
    @OneToMany(mappedBy = "article", cascade = CascadeType.ALL) private final Set<ArticleComment> articleComments = new LinkedHashSet<>();
 
+   @ToString.Exclude
+   @ManyToMany
+   @JoinTable(
+           name = "article_hashtag",
+           joinColumns = @JoinColumn(name = "articleId"),
+           inverseJoinColumns = @JoinColumn(name = "hashtagId")
+   )
+   private final Set<Hashtag> hashtags = new LinkedHashSet<>();
+
    protected Article() {}
 
    private Article(UserAccount userAccount, String title, String content, String hashtag) {
@@ -50,6 +73,14 @@ public class Article extends AuditingFields {
       return new Article(userAccount, title, content, hashtag);
    }
 
+   /**
+    * {@link #hashtag} 문자열을 파싱한 결과로 해시태그 연관관계를 바꾼다.
+    */
+   public void replaceHashtags(Collection<Hashtag> hashtags) {
+      this.hashtags.clear();
+      this.hashtags.addAll(hashtags);
+   }
+
    @Override
    public boolean equals(Object o) {
       if (this == o) return true;
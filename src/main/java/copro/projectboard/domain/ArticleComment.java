@@ -1,5 +1,6 @@
 package copro.projectboard.domain;
 
+import copro.projectboard.event.ArticleCommentEntityListener;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
@@ -13,9 +14,10 @@ import java.util.Objects;
         @Index(columnList = "content"),
         @Index(columnList = "createdAt"),
         @Index(columnList = "createdBy"),
+        @Index(columnList = "article_id, modifiedAt"),
+        @Index(columnList = "article_id, createdAt, id"),
 })
-
-
+@EntityListeners(ArticleCommentEntityListener.class)
 @Entity
 public class ArticleComment extends AuditingFields {
 
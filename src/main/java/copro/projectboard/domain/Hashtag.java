@@ -0,0 +1,79 @@
+package copro.projectboard.domain;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import javax.persistence.*;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Getter
+@ToString
+@Table(indexes = {
+        @Index(columnList = "hashtagName", unique = true),
+})
+
+
+@Entity
+public class Hashtag {
+
+    public static final int MAX_NAME_LENGTH = 50;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = MAX_NAME_LENGTH) private String hashtagName; // '#' 없이 소문자로 정규화한 이름
+
+    protected Hashtag() {}
+
+    private Hashtag(String hashtagName) {
+        this.hashtagName = hashtagName;
+    }
+
+    public static Hashtag of(String hashtagName) {
+        return new Hashtag(normalizeName(hashtagName));
+    }
+
+    /**
+     * 게시글의 해시태그 문자열("#java #spring, jpa")을 정규화한 태그 이름들로 나눈다. 입력 순서를 유지하고 중복은 뺀다.
+     */
+    public static Set<String> parseNames(String hashtags) {
+        if (hashtags == null || hashtags.isBlank()) {
+            return Set.of();
+        }
+
+        return Arrays.stream(hashtags.split("[\\s,#]+"))
+                .map(Hashtag::normalizeName)
+                .filter(name -> !name.isEmpty() && name.length() <= MAX_NAME_LENGTH)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    public static String normalizeName(String hashtagName) {
+        if (hashtagName == null) {
+            return "";
+        }
+
+        String name = hashtagName.strip();
+        while (name.startsWith("#")) {
+            name = name.substring(1);
+        }
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Hashtag that)) return false;
+        return id != null && id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
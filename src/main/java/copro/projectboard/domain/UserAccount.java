@@ -1,5 +1,6 @@
 package copro.projectboard.domain;
 
+import copro.projectboard.event.UserAccountEntityListener;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
@@ -15,6 +16,7 @@ import java.util.Objects;
         @Index(columnList = "createdAt"),
         @Index(columnList = "createdBy")
 })
+@EntityListeners(UserAccountEntityListener.class)
 @Entity
 public class UserAccount extends AuditingFields {
     @Id
@@ -2,6 +2,7 @@ package copro.projectboard.dto;
 
 import copro.projectboard.domain.Article;
 import copro.projectboard.domain.ArticleComment;
+import copro.projectboard.domain.UserAccount;
 
 import java.time.LocalDateTime;
 
@@ -32,10 +33,10 @@ public record ArticleCommentDto(
         );
     }
 
-    public ArticleComment toEntity(Article entity) {
+    public ArticleComment toEntity(Article article, UserAccount userAccount) {
         return ArticleComment.of(
-                entity,
-                userAccountDto.toEntity(),
+                article,
+                userAccount,
                 content
         );
     }
@@ -0,0 +1,35 @@
+package copro.projectboard.dto;
+
+import copro.projectboard.domain.Article;
+
+import java.time.LocalDateTime;
+
+/**
+ * 목록 화면용 게시글 요약. 본문(content)은 담지 않는다.
+ */
+public record ArticleSummaryDto(
+        Long id,
+        String title,
+        String hashtag,
+        LocalDateTime createdAt,
+        String userId,
+        String email,
+        String nickname
+) {
+    public static ArticleSummaryDto of(Long id, String title, String hashtag, LocalDateTime createdAt, String userId, String email, String nickname) {
+        return new ArticleSummaryDto(id, title, hashtag, createdAt, userId, email, nickname);
+    }
+
+    public static ArticleSummaryDto from(Article entity) {
+        return new ArticleSummaryDto(
+                entity.getId(),
+                entity.getTitle(),
+                entity.getHashtag(),
+                entity.getCreatedAt(),
+                entity.getUserAccount().getUserId(),
+                entity.getUserAccount().getEmail(),
+                entity.getUserAccount().getNickname()
+        );
+    }
+
+}
@@ -0,0 +1,49 @@
+package copro.projectboard.dto;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 조건부 요청용 게시글 버전. 게시글과 댓글의 modifiedAt, 댓글 수, DB 에 반영된 조회수만 읽는다.
+ * 댓글 수(게시글의 반정규화 컬럼)를 함께 보는 것은 가장 최근 댓글이 아닌 댓글을 지웠을 때도 버전이 바뀌게 하기 위해서다.
+ * 조회수는 상세 화면이 따로 읽어 그리므로 버전(ETag)에 넣지 않는다. 조회수 반영 주기마다 인기 글의 캐시가 깨지지 않게 하기 위해서다.
+ */
+public record ArticleVersion(
+        Long articleId,
+        LocalDateTime articleModifiedAt,
+        LocalDateTime commentsModifiedAt,
+        long commentCount,
+        long viewCount
+) {
+    public static ArticleVersion of(Long articleId, LocalDateTime articleModifiedAt, LocalDateTime commentsModifiedAt, long commentCount, long viewCount) {
+        return new ArticleVersion(articleId, articleModifiedAt, commentsModifiedAt, commentCount, viewCount);
+    }
+
+    public long lastModified() {
+        LocalDateTime lastModifiedAt = commentsModifiedAt != null && commentsModifiedAt.isAfter(articleModifiedAt)
+                ? commentsModifiedAt
+                : articleModifiedAt;
+        return lastModifiedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * 약한 ETag. 같은 ETag 면 의미상 같은 응답이라는 것만 약속하고, 응답이 달라지는 조건(로그인 사용자 등)은 variants 로 덧붙인다.
+     */
+    public String etag(Object... variants) {
+        Stream<Object> parts = Stream.concat(
+                Stream.of("a" + articleId, epochNanos(articleModifiedAt), epochNanos(commentsModifiedAt), commentCount),
+                Arrays.stream(variants)
+        );
+        return parts.map(String::valueOf).collect(Collectors.joining("-", "W/\"", "\""));
+    }
+
+    private static long epochNanos(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return 0L;
+        }
+        return dateTime.atZone(ZoneId.systemDefault()).toEpochSecond() * 1_000_000_000L + dateTime.getNano();
+    }
+}
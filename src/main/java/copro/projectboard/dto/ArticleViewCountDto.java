@@ -0,0 +1,15 @@
+package copro.projectboard.dto;
+
+public record ArticleViewCountDto(
+        Long articleId,
+        String title,
+        long viewCount
+) {
+    public static ArticleViewCountDto of(Long articleId, String title, long viewCount) {
+        return new ArticleViewCountDto(articleId, title, viewCount);
+    }
+
+    public ArticleViewCountDto plus(long views) {
+        return views == 0 ? this : new ArticleViewCountDto(articleId, title, viewCount + views);
+    }
+}
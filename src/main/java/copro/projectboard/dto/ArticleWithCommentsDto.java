@@ -2,8 +2,10 @@ package copro.projectboard.dto;
 
 
 import copro.projectboard.domain.Article;
+import copro.projectboard.domain.ArticleComment;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -25,10 +27,14 @@ public record ArticleWithCommentsDto(
     }
 
     public static ArticleWithCommentsDto from(Article entity) {
+        return from(entity, entity.getArticleComments());
+    }
+
+    public static ArticleWithCommentsDto from(Article entity, Collection<ArticleComment> articleComments) {
         return new ArticleWithCommentsDto(
                 entity.getId(),
                 UserAccountDto.from(entity.getUserAccount()),
-                entity.getArticleComments().stream()
+                articleComments.stream()
                         .map(ArticleCommentDto::from)
                         .collect(Collectors.toCollection(LinkedHashSet::new)),
                 entity.getTitle(),
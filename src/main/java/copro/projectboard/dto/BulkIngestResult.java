@@ -0,0 +1,13 @@
+package copro.projectboard.dto;
+
+public record BulkIngestResult(
+        long insertedRows,
+        long skippedRows,
+        long elapsedMillis,
+        double rowsPerSecond
+) {
+    public static BulkIngestResult of(long insertedRows, long skippedRows, long elapsedMillis) {
+        double rowsPerSecond = insertedRows * 1000d / Math.max(elapsedMillis, 1L);
+        return new BulkIngestResult(insertedRows, skippedRows, elapsedMillis, rowsPerSecond);
+    }
+}
@@ -0,0 +1,27 @@
+package copro.projectboard.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record CursorPage<T>(
+        List<T> content,
+        String nextCursor,
+        String previousCursor
+) {
+    public static <T> CursorPage<T> of(List<T> content, String nextCursor, String previousCursor) {
+        return new CursorPage<>(content, nextCursor, previousCursor);
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public boolean hasPrevious() {
+        return previousCursor != null;
+    }
+
+    public <R> CursorPage<R> map(Function<T, R> mapper) {
+        return new CursorPage<>(content.stream().map(mapper).toList(), nextCursor, previousCursor);
+    }
+
+}
@@ -0,0 +1,10 @@
+package copro.projectboard.dto;
+
+public record HashtagCountDto(
+        String hashtagName,
+        int articleCount
+) {
+    public static HashtagCountDto of(String hashtagName, int articleCount) {
+        return new HashtagCountDto(hashtagName, articleCount);
+    }
+}
@@ -0,0 +1,61 @@
+package copro.projectboard.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * (createdAt, id) 기준 keyset 페이징 커서. 클라이언트에는 base64 로 인코딩한 불투명한 문자열로만 노출한다.
+ */
+public record KeysetCursor(
+        Direction direction,
+        LocalDateTime createdAt,
+        Long id
+) {
+    private static final String DELIMITER = "|";
+
+    public enum Direction {
+        NEXT, PREVIOUS
+    }
+
+    public static KeysetCursor of(LocalDateTime createdAt, Long id) {
+        return new KeysetCursor(Direction.NEXT, createdAt, id);
+    }
+
+    public KeysetCursor toward(Direction direction) {
+        return new KeysetCursor(direction, createdAt, id);
+    }
+
+    public boolean isBackward() {
+        return direction == Direction.PREVIOUS;
+    }
+
+    public String encode() {
+        String raw = direction.name() + DELIMITER + createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 비어 있는 커서는 첫 페이지를 뜻하므로 null 을 돌려준다.
+     *
+     * @throws IllegalArgumentException 커서 형식이 올바르지 않은 경우
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            return new KeysetCursor(
+                    Direction.valueOf(parts[0]),
+                    LocalDateTime.parse(parts[1]),
+                    Long.valueOf(parts[2])
+            );
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다 - cursor: " + cursor, e);
+        }
+    }
+
+}
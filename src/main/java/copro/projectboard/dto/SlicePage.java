@@ -0,0 +1,24 @@
+package copro.projectboard.dto;
+
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * JSON API 용 페이지. 전체 건수 없이 다음 페이지가 있는지만 알려준다.
+ */
+public record SlicePage<T>(
+        List<T> content,
+        int page,
+        int size,
+        boolean hasNext
+) {
+    public static <T> SlicePage<T> of(List<T> content, int page, int size, boolean hasNext) {
+        return new SlicePage<>(content, page, size, hasNext);
+    }
+
+    public static <T> SlicePage<T> from(Slice<T> slice) {
+        return new SlicePage<>(slice.getContent(), slice.getNumber(), slice.getSize(), slice.hasNext());
+    }
+
+}
@@ -0,0 +1,18 @@
+package copro.projectboard.dto.request;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 대량 적재 NDJSON 한 줄. 작성자는 회원 ID(userId)로 지정한다.
+ */
+public record ArticleBulkRequest(
+        String userId,
+        String title,
+        String content,
+        String hashtag,
+        LocalDateTime createdAt
+) {
+    public static ArticleBulkRequest of(String userId, String title, String content, String hashtag, LocalDateTime createdAt) {
+        return new ArticleBulkRequest(userId, title, content, hashtag, createdAt);
+    }
+}
@@ -0,0 +1,17 @@
+package copro.projectboard.dto.request;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 대량 적재 NDJSON 한 줄. 작성자는 회원 ID(userId)로 지정한다.
+ */
+public record ArticleCommentBulkRequest(
+        Long articleId,
+        String userId,
+        String content,
+        LocalDateTime createdAt
+) {
+    public static ArticleCommentBulkRequest of(Long articleId, String userId, String content, LocalDateTime createdAt) {
+        return new ArticleCommentBulkRequest(articleId, userId, content, createdAt);
+    }
+}
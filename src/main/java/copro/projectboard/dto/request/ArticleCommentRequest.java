@@ -0,0 +1,29 @@
+package copro.projectboard.dto.request;
+
+import copro.projectboard.dto.ArticleCommentDto;
+import copro.projectboard.dto.UserAccountDto;
+
+/**
+ * 댓글 쓰기 요청. 작성자는 본문으로 받지 않고 로그인한 계정으로 정한다.
+ */
+public record ArticleCommentRequest(
+        Long articleId,
+        String content
+) {
+    public static ArticleCommentRequest of(Long articleId, String content) {
+        return new ArticleCommentRequest(articleId, content);
+    }
+
+    public ArticleCommentDto toDto(String userId) {
+        return ArticleCommentDto.of(
+                null,
+                articleId,
+                UserAccountDto.of(null, userId, null, null, null, null, null, null, null, null),
+                content,
+                null,
+                null,
+                null,
+                null
+        );
+    }
+}
@@ -12,11 +12,13 @@ public record ArticleResponse(
         String hashtag,
         LocalDateTime createdAt,
         String email,
-        String nickname
+        String nickname,
+        long commentCount,
+        LocalDateTime lastCommentedAt
 ) implements Serializable {
 
-    public static ArticleResponse of(Long id, String title, String content, String hashtag, LocalDateTime createdAt, String email, String nickname) {
-        return new ArticleResponse(id, title, content, hashtag, createdAt, email, nickname);
+    public static ArticleResponse of(Long id, String title, String content, String hashtag, LocalDateTime createdAt, String email, String nickname, long commentCount, LocalDateTime lastCommentedAt) {
+        return new ArticleResponse(id, title, content, hashtag, createdAt, email, nickname, commentCount, lastCommentedAt);
     }
 
     public static ArticleResponse from(ArticleDto dto) {
@@ -32,7 +34,9 @@ public record ArticleResponse(
                 dto.hashtag(),
                 dto.createdAt(),
                 dto.userAccountDto().email(),
-                nickname
+                nickname,
+                dto.commentCount(),
+                dto.lastCommentedAt()
         );
     }
 
@@ -0,0 +1,37 @@
+package copro.projectboard.dto.response;
+
+import copro.projectboard.dto.ArticleSummaryDto;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+public record ArticleSummaryResponse(
+        Long id,
+        String title,
+        String hashtag,
+        LocalDateTime createdAt,
+        String email,
+        String nickname
+) implements Serializable {
+
+    public static ArticleSummaryResponse of(Long id, String title, String hashtag, LocalDateTime createdAt, String email, String nickname) {
+        return new ArticleSummaryResponse(id, title, hashtag, createdAt, email, nickname);
+    }
+
+    public static ArticleSummaryResponse from(ArticleSummaryDto dto) {
+        String nickname = dto.nickname();
+        if (nickname == null || nickname.isBlank()) {
+            nickname = dto.userId();
+        }
+
+        return new ArticleSummaryResponse(
+                dto.id(),
+                dto.title(),
+                dto.hashtag(),
+                dto.createdAt(),
+                dto.email(),
+                nickname
+        );
+    }
+
+}
@@ -0,0 +1,17 @@
+package copro.projectboard.dto.response;
+
+import copro.projectboard.dto.ArticleViewCountDto;
+
+public record ArticleViewCountResponse(
+        Long id,
+        String title,
+        long viewCount
+) {
+    public static ArticleViewCountResponse of(Long id, String title, long viewCount) {
+        return new ArticleViewCountResponse(id, title, viewCount);
+    }
+
+    public static ArticleViewCountResponse from(ArticleViewCountDto dto) {
+        return new ArticleViewCountResponse(dto.articleId(), dto.title(), dto.viewCount());
+    }
+}
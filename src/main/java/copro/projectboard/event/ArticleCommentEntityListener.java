@@ -0,0 +1,34 @@
+package copro.projectboard.event;
+
+import copro.projectboard.domain.ArticleComment;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+/**
+ * 댓글 쓰기를 {@link ArticleCommentEvent} 로 알린다. {@link ArticleEntityListener} 와 같은 이유로 엔티티에 건다.
+ */
+@RequiredArgsConstructor
+public class ArticleCommentEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    public void onPostPersist(ArticleComment articleComment) {
+        eventPublisher.publishEvent(ArticleCommentEvent.saved(articleComment.getArticle().getId(), articleComment.getId()));
+    }
+
+    @PostUpdate
+    public void onPostUpdate(ArticleComment articleComment) {
+        eventPublisher.publishEvent(ArticleCommentEvent.updated(articleComment.getArticle().getId(), articleComment.getId()));
+    }
+
+    @PostRemove
+    public void onPostRemove(ArticleComment articleComment) {
+        eventPublisher.publishEvent(ArticleCommentEvent.deleted(articleComment.getArticle().getId(), articleComment.getId()));
+    }
+
+}
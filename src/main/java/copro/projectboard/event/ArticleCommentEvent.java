@@ -0,0 +1,24 @@
+package copro.projectboard.event;
+
+public record ArticleCommentEvent(
+        Type type,
+        Long articleId,
+        Long articleCommentId
+) {
+    public enum Type {
+        SAVED, UPDATED, DELETED
+    }
+
+    public static ArticleCommentEvent saved(Long articleId, Long articleCommentId) {
+        return new ArticleCommentEvent(Type.SAVED, articleId, articleCommentId);
+    }
+
+    public static ArticleCommentEvent updated(Long articleId, Long articleCommentId) {
+        return new ArticleCommentEvent(Type.UPDATED, articleId, articleCommentId);
+    }
+
+    public static ArticleCommentEvent deleted(Long articleId, Long articleCommentId) {
+        return new ArticleCommentEvent(Type.DELETED, articleId, articleCommentId);
+    }
+
+}
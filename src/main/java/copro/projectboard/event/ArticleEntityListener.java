@@ -0,0 +1,36 @@
+package copro.projectboard.event;
+
+import copro.projectboard.domain.Article;
+import copro.projectboard.dto.ArticleDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+/**
+ * 게시글 쓰기를 {@link ArticleEvent} 로 알린다. 서비스를 거치지 않는 Data REST 쓰기도 놓치지 않도록 엔티티에 건다.
+ * 이벤트는 트랜잭션 안에서 발행되므로, 받는 쪽은 {@code @TransactionalEventListener} 로 커밋된 뒤에 처리한다.
+ */
+@RequiredArgsConstructor
+public class ArticleEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    public void onPostPersist(Article article) {
+        eventPublisher.publishEvent(ArticleEvent.saved(ArticleDto.from(article)));
+    }
+
+    @PostUpdate
+    public void onPostUpdate(Article article) {
+        eventPublisher.publishEvent(ArticleEvent.updated(ArticleDto.from(article)));
+    }
+
+    @PostRemove
+    public void onPostRemove(Article article) {
+        eventPublisher.publishEvent(ArticleEvent.deleted(article.getId()));
+    }
+
+}
@@ -0,0 +1,26 @@
+package copro.projectboard.event;
+
+import copro.projectboard.dto.ArticleDto;
+
+public record ArticleEvent(
+        Type type,
+        Long articleId,
+        ArticleDto articleDto
+) {
+    public enum Type {
+        SAVED, UPDATED, DELETED
+    }
+
+    public static ArticleEvent saved(ArticleDto dto) {
+        return new ArticleEvent(Type.SAVED, dto.id(), dto);
+    }
+
+    public static ArticleEvent updated(ArticleDto dto) {
+        return new ArticleEvent(Type.UPDATED, dto.id(), dto);
+    }
+
+    public static ArticleEvent deleted(Long articleId) {
+        return new ArticleEvent(Type.DELETED, articleId, null);
+    }
+
+}
@@ -0,0 +1,12 @@
+package copro.projectboard.event;
+
+/**
+ * 대량 적재로 게시글이 JDBC 로 바로 들어갔다는 알림. 개별 {@link ArticleEvent} 가 없으므로 색인과 집계는 다시 만들어야 한다.
+ */
+public record ArticleImportedEvent(
+        long importedCount
+) {
+    public static ArticleImportedEvent of(long importedCount) {
+        return new ArticleImportedEvent(importedCount);
+    }
+}
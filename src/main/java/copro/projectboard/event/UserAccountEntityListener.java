@@ -0,0 +1,36 @@
+package copro.projectboard.event;
+
+import copro.projectboard.domain.UserAccount;
+import copro.projectboard.dto.UserAccountDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+/**
+ * 회원 쓰기를 {@link UserAccountEvent} 로 알린다. 회원을 바꾸는 서비스가 따로 없으므로, 어느 경로로 저장하든 놓치지 않도록 엔티티에 건다.
+ * Hibernate 가 스프링 빈 컨테이너로 만들기 때문에 생성자 주입을 쓸 수 있다.
+ */
+@RequiredArgsConstructor
+public class UserAccountEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    public void onPostPersist(UserAccount userAccount) {
+        eventPublisher.publishEvent(UserAccountEvent.saved(UserAccountDto.from(userAccount)));
+    }
+
+    @PostUpdate
+    public void onPostUpdate(UserAccount userAccount) {
+        eventPublisher.publishEvent(UserAccountEvent.updated(UserAccountDto.from(userAccount)));
+    }
+
+    @PostRemove
+    public void onPostRemove(UserAccount userAccount) {
+        eventPublisher.publishEvent(UserAccountEvent.deleted(userAccount.getId()));
+    }
+
+}
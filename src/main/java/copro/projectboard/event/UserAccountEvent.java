@@ -0,0 +1,26 @@
+package copro.projectboard.event;
+
+import copro.projectboard.dto.UserAccountDto;
+
+public record UserAccountEvent(
+        Type type,
+        Long userAccountId,
+        UserAccountDto userAccountDto
+) {
+    public enum Type {
+        SAVED, UPDATED, DELETED
+    }
+
+    public static UserAccountEvent saved(UserAccountDto dto) {
+        return new UserAccountEvent(Type.SAVED, dto.id(), dto);
+    }
+
+    public static UserAccountEvent updated(UserAccountDto dto) {
+        return new UserAccountEvent(Type.UPDATED, dto.id(), dto);
+    }
+
+    public static UserAccountEvent deleted(Long userAccountId) {
+        return new UserAccountEvent(Type.DELETED, userAccountId, null);
+    }
+
+}
@@ -0,0 +1,77 @@
+package copro.projectboard.metrics;
+
+import copro.projectboard.domain.type.SearchType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * 모든 Spring Data 리포지토리 호출을 board.repository.invocations 타이머로 잰다.
+ * 리포지토리, 메서드, 검색 유형(SearchType 인자가 있을 때), 결과로 태그를 단다.
+ * Stream 을 돌려주는 메서드는 커서를 여는 시간까지만 잰다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Aspect
+@Component
+public class RepositoryMetricsAspect {
+
+    static final String NONE = "none";
+
+    private final MeterRegistry meterRegistry;
+    private final SlowQueryLog slowQueryLog;
+
+    @Around("this(org.springframework.data.repository.Repository)")
+    public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+        String repository = repositoryName(joinPoint.getThis());
+        String method = joinPoint.getSignature().getName();
+        String searchType = Arrays.stream(joinPoint.getArgs())
+                .filter(SearchType.class::isInstance)
+                .map(arg -> ((SearchType) arg).name())
+                .findFirst()
+                .orElse(NONE);
+
+        long startedAt = System.nanoTime();
+        String exception = NONE;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+            Timer.builder("board.repository.invocations")
+                    .description("리포지토리 메서드 호출 시간")
+                    .tag("repository", repository)
+                    .tag("method", method)
+                    .tag("searchType", searchType)
+                    .tag("exception", exception)
+                    .register(meterRegistry)
+                    .record(elapsed);
+
+            if (slowQueryLog.isSlow(elapsed)) {
+                log.warn("느린 쿼리 - {}.{}, searchType: {}, 소요시간: {}ms", repository, method, searchType, elapsed.toMillis());
+                slowQueryLog.add(SlowQueryLog.SlowQuery.of(repository, method, searchType, elapsed.toMillis()));
+            }
+        }
+    }
+
+    // 리포지토리 프록시가 구현한 인터페이스 중 우리가 선언한 리포지토리 이름을 쓴다.
+    private String repositoryName(Object proxy) {
+        return Arrays.stream(proxy.getClass().getInterfaces())
+                .filter(type -> Repository.class.isAssignableFrom(type) && !type.getName().startsWith("org.springframework."))
+                .findFirst()
+                .map(Class::getSimpleName)
+                .orElse(proxy.getClass().getSimpleName());
+    }
+
+}
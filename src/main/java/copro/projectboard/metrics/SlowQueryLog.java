@@ -0,0 +1,55 @@
+package copro.projectboard.metrics;
+
+import copro.projectboard.config.QueryMetricsConfig.QueryMetricsProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * 최근 느린 리포지토리 호출을 정해진 수만큼만 기억한다.
+ */
+@RequiredArgsConstructor
+@Component
+public class SlowQueryLog {
+
+    private final QueryMetricsProperties properties;
+    private final Deque<SlowQuery> slowQueries = new ArrayDeque<>();
+
+    public boolean isSlow(Duration elapsed) {
+        return elapsed.compareTo(properties.getSlowQueryThreshold()) >= 0;
+    }
+
+    public synchronized void add(SlowQuery slowQuery) {
+        if (slowQueries.size() >= properties.getSlowQueryHistorySize()) {
+            slowQueries.removeLast();
+        }
+        slowQueries.addFirst(slowQuery);
+    }
+
+    /**
+     * 최근 것부터 돌려준다.
+     */
+    public synchronized List<SlowQuery> getRecent() {
+        return new ArrayList<>(slowQueries);
+    }
+
+
+    public record SlowQuery(
+            String repository,
+            String method,
+            String searchType,
+            long elapsedMillis,
+            LocalDateTime occurredAt
+    ) {
+        public static SlowQuery of(String repository, String method, String searchType, long elapsedMillis) {
+            return new SlowQuery(repository, method, searchType, elapsedMillis, LocalDateTime.now());
+        }
+    }
+
+}
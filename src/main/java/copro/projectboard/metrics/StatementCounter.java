@@ -0,0 +1,30 @@
+package copro.projectboard.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 현재 스레드(요청)에서 Hibernate 가 준비한 SQL 문 수를 센다. SQL 자체는 바꾸지 않는다.
+ */
+public class StatementCounter implements StatementInspector {
+
+    private final ThreadLocal<int[]> count = ThreadLocal.withInitial(() -> new int[1]);
+
+    @Override
+    public String inspect(String sql) {
+        count.get()[0]++;
+        return sql;
+    }
+
+    public int get() {
+        return count.get()[0];
+    }
+
+    public void reset() {
+        count.get()[0] = 0;
+    }
+
+    public void clear() {
+        count.remove();
+    }
+
+}
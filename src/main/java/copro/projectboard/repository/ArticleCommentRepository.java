@@ -4,22 +4,45 @@ import com.querydsl.core.types.dsl.DateTimeExpression;
 import com.querydsl.core.types.dsl.StringExpression;
 import copro.projectboard.domain.ArticleComment;
 import copro.projectboard.domain.QArticleComment;
+import copro.projectboard.repository.querydsl.ArticleCommentRepositoryCustom;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.querydsl.binding.QuerydslBinderCustomizer;
 import org.springframework.data.querydsl.binding.QuerydslBindings;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.data.rest.core.annotation.RestResource;
 
+import javax.persistence.QueryHint;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
 
 @RepositoryRestResource
 public interface ArticleCommentRepository extends
         JpaRepository<ArticleComment, Long>,
+        ArticleCommentRepositoryCustom,
         QuerydslPredicateExecutor<ArticleComment>,
         QuerydslBinderCustomizer<QArticleComment> {
 
     List<ArticleComment> findByArticle_Id(Long articleId);
 
+    // 내보내기용: 전진 전용 커서로 한 번에 fetch size 만큼만 읽는다. (MySQL 은 useCursorFetch=true 필요)
+    @RestResource(exported = false)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("select ac from ArticleComment ac join fetch ac.userAccount where ac.article.id = :articleId order by ac.createdAt desc, ac.id desc")
+    Stream<ArticleComment> streamByArticleId(@Param("articleId") Long articleId);
+
+    // 전체 내보내기용. 게시글은 즉시 로딩이라 fetch join 하지 않으면 댓글마다 따로 읽는다.
+    @RestResource(exported = false)
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READONLY, value = "true")})
+    @Query("select ac from ArticleComment ac join fetch ac.userAccount join fetch ac.article a join fetch a.userAccount order by ac.id")
+    Stream<ArticleComment> streamAll();
+
     @Override
     default void customize(QuerydslBindings bindings, QArticleComment root){
         bindings.excludeUnlistedProperties(true);
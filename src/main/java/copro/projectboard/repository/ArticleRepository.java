@@ -1,38 +1,148 @@
 package copro.projectboard.repository;
 
-import com.querydsl.core.types.dsl.DateTimeExpression;
-import com.querydsl.core.types.dsl.StringExpression;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.DateTimePath;
+import com.querydsl.core.types.dsl.StringPath;
 import copro.projectboard.domain.Article;
-import copro.projectboard.domain.ArticleComment;
+import copro.projectboard.domain.Hashtag;
 import copro.projectboard.domain.QArticle;
+import copro.projectboard.dto.ArticleVersion;
+import copro.projectboard.dto.ArticleViewCountDto;
+import copro.projectboard.repository.querydsl.ArticleRepositoryCustom;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.querydsl.binding.QuerydslBinderCustomizer;
 import org.springframework.data.querydsl.binding.QuerydslBindings;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.data.rest.core.annotation.RestResource;
+
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
 
 @RepositoryRestResource
 public interface ArticleRepository extends
         JpaRepository<Article, Long>,
-        QuerydslPredicateExecutor<ArticleComment>,
+        ArticleRepositoryCustom,
+        QuerydslPredicateExecutor<Article>,
         QuerydslBinderCustomizer<QArticle> {
+
+    /** 조건 검색 값 끝에 붙이면 앞부분 일치로 찾는다 */
+    String PREFIX_WILDCARD = "*";
+
     Page<Article> findByTitleContaining(String title, Pageable pageable);
     Page<Article> findByContentContaining(String content, Pageable pageable);
     Page<Article> findByUserAccount_UserIdContaining(String userId, Pageable pageable);
     Page<Article> findByUserAccount_NicknameContaining(String nickname, Pageable pageable);
     Page<Article> findByHashtag(String hashtag, Pageable pageable);
 
+    @RestResource(exported = false)
+    Slice<Article> findByIdGreaterThan(Long id, Pageable pageable);
+
+    @RestResource(exported = false)
+    Slice<Article> findByIdGreaterThanAndHashtagIsNotNullAndHashtagsIsEmpty(Long id, Pageable pageable);
+
+    // 내보내기용: 전진 전용 커서로 한 번에 fetch size 만큼만 읽는다. (MySQL 은 useCursorFetch=true 필요)
+    @RestResource(exported = false)
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READONLY, value = "true")})
+    @Query("select a from Article a join fetch a.userAccount order by a.id")
+    Stream<Article> streamAll();
+
+    /**
+     * 조건부 요청(ETag/Last-Modified) 판단용. 게시글/댓글 엔티티를 읽지 않고 버전만 구한다.
+     * 댓글 수는 반정규화 컬럼을 쓰고, 댓글 최종 수정 시각은 (article_id, modified_at) 인덱스로 한 번에 찾으므로 댓글 행을 훑지 않는다.
+     */
+    @RestResource(exported = false)
+    @Query("select new copro.projectboard.dto.ArticleVersion(a.id, a.modifiedAt,"
+            + " (select max(ac.modifiedAt) from ArticleComment ac where ac.article = a), a.commentCount, a.viewCount)"
+            + " from Article a where a.id = :articleId")
+    Optional<ArticleVersion> findVersionById(@Param("articleId") Long articleId);
+
+    /**
+     * 댓글 수를 delta 만큼 올리고 마지막 댓글 시각을 늦은 쪽으로 맞춘다. 읽고 다시 쓰지 않고 한 문장으로 바꾸므로 동시에 댓글이 달려도 잃지 않는다.
+     * (MySQL 의 greatest 는 NULL 이 섞이면 NULL 이므로 coalesce 로 감싼다.)
+     */
+    @RestResource(exported = false)
+    @Modifying
+    @Query(nativeQuery = true, value = "update article set comment_count = comment_count + :delta,"
+            + " last_commented_at = coalesce(greatest(last_commented_at, :commentedAt), :commentedAt)"
+            + " where id = :articleId")
+    int increaseCommentCount(@Param("articleId") Long articleId, @Param("delta") long delta, @Param("commentedAt") LocalDateTime commentedAt);
+
+    /**
+     * 댓글 수와 마지막 댓글 시각을 댓글 테이블 기준으로 다시 계산한다. 삭제처럼 증감만으로는 마지막 댓글 시각을 알 수 없을 때와 보정 작업에서 쓴다.
+     */
+    @RestResource(exported = false)
+    @Modifying(flushAutomatically = true)
+    @Query(nativeQuery = true, value = "update article a set"
+            + " comment_count = (select count(*) from article_comment ac where ac.article_id = a.id),"
+            + " last_commented_at = (select max(ac.created_at) from article_comment ac where ac.article_id = a.id)"
+            + " where a.id between :fromId and :toId")
+    int refreshCommentStats(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @RestResource(exported = false)
+    @Query("select coalesce(max(a.id), 0) from Article a")
+    long findMaxId();
+
+    /**
+     * 조회수 상위 게시글. view_count 색인을 역순으로 읽는다.
+     */
+    @RestResource(exported = false)
+    @Query("select new copro.projectboard.dto.ArticleViewCountDto(a.id, a.title, a.viewCount) from Article a order by a.viewCount desc, a.id desc")
+    List<ArticleViewCountDto> findMostViewed(Pageable pageable);
+
+    /**
+     * Data REST 조건 검색(/api/articles, /api/articles/search)의 바인딩.
+     * 제목/해시태그/작성자는 값 끝에 {@value #PREFIX_WILDCARD} 를 붙이면 앞부분 일치(LIKE 'x%')로 찾아 각 컬럼 색인을 탄다.
+     * 붙이지 않으면 제목/작성자는 대소문자 무시 부분 일치(전체 훑기)다.
+     * 해시태그는 어느 쪽이든 정규화한 이름('#' 없이 소문자)으로 해시태그 조인 테이블을 찾는다.
+     * 작성일시는 값을 두 개 주면 그 사이(between)로 찾는다.
+     */
     @Override
     default void customize(QuerydslBindings bindings, QArticle root){
         bindings.excludeUnlistedProperties(true);
         bindings.including(root.title, root.content, root.hashtag, root.createdAt, root.createdBy);
-        bindings.bind(root.title).first(StringExpression::containsIgnoreCase);
-        bindings.bind(root.content).first(StringExpression::containsIgnoreCase);
-        bindings.bind(root.hashtag).first(StringExpression::containsIgnoreCase);
-        bindings.bind(root.createdAt).first(DateTimeExpression::eq);
-        bindings.bind(root.createdBy).first(StringExpression::containsIgnoreCase);
+        bindings.bind(root.title).first(ArticleRepository::containsOrStartsWith);
+        bindings.bind(root.content).first(StringPath::containsIgnoreCase);
+        bindings.bind(root.hashtag).first((path, value) -> isPrefix(value)
+                ? root.hashtags.any().hashtagName.startsWith(Hashtag.normalizeName(withoutWildcard(value)))
+                : root.hashtags.any().hashtagName.eq(Hashtag.normalizeName(value)));
+        bindings.bind(root.createdAt).all(ArticleRepository::equalOrBetween);
+        bindings.bind(root.createdBy).first(ArticleRepository::containsOrStartsWith);
+    }
+
+    private static Predicate containsOrStartsWith(StringPath path, String value) {
+        return isPrefix(value) ? path.startsWith(withoutWildcard(value)) : path.containsIgnoreCase(value);
+    }
+
+    private static Optional<Predicate> equalOrBetween(DateTimePath<LocalDateTime> path, Collection<? extends LocalDateTime> values) {
+        if (values.size() == 1) {
+            return Optional.of(path.eq(values.iterator().next()));
+        }
+        LocalDateTime from = values.stream().min(Comparator.naturalOrder()).orElseThrow();
+        LocalDateTime to = values.stream().max(Comparator.naturalOrder()).orElseThrow();
+        return Optional.of(path.between(from, to));
+    }
+
+    private static boolean isPrefix(String value) {
+        return value.length() > PREFIX_WILDCARD.length() && value.endsWith(PREFIX_WILDCARD);
+    }
 
+    private static String withoutWildcard(String value) {
+        return value.substring(0, value.length() - PREFIX_WILDCARD.length());
     }
 }
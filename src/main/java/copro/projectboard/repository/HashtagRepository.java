@@ -0,0 +1,17 @@
+package copro.projectboard.repository;
+
+import copro.projectboard.domain.Hashtag;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+
+import javax.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
+
+public interface HashtagRepository extends JpaRepository<Hashtag, Long> {
+    List<Hashtag> findByHashtagNameIn(Collection<String> hashtagNames);
+
+    // 잠금 읽기는 트랜잭션의 스냅샷이 아니라 최신 커밋을 읽으므로, 다른 트랜잭션이 방금 만든 해시태그도 보인다.
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    List<Hashtag> findWithLockByHashtagNameIn(Collection<String> hashtagNames);
+}
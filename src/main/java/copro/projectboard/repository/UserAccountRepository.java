@@ -1,7 +1,20 @@
 package copro.projectboard.repository;
 
 import copro.projectboard.domain.UserAccount;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 public interface UserAccountRepository extends JpaRepository<UserAccount, Long> {
+
+    Slice<UserAccount> findByIdGreaterThan(Long id, Pageable pageable);
+
+    Optional<UserAccount> findByUserId(String userId);
+
+    List<UserAccount> findByUserIdIn(Collection<String> userIds);
+
 }
@@ -0,0 +1,23 @@
+package copro.projectboard.repository.querydsl;
+
+import copro.projectboard.domain.ArticleComment;
+import copro.projectboard.dto.KeysetCursor;
+import copro.projectboard.dto.response.ArticleCommentResponse;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+public interface ArticleCommentRepositoryCustom {
+
+    /**
+     * 게시글의 댓글을 커서 다음부터 최신순(createdAt DESC, id DESC)으로 최대 limit 개 돌려준다. 작성자도 함께 읽는다.
+     */
+    List<ArticleComment> findByCursor(Long articleId, KeysetCursor cursor, int limit);
+
+    /**
+     * JSON API 용. 엔티티 대신 {@link ArticleCommentResponse} 로 바로 읽고, count 쿼리 없이 다음 페이지 여부만 구한다.
+     */
+    Slice<ArticleCommentResponse> findResponseSlice(Long articleId, Pageable pageable);
+
+}
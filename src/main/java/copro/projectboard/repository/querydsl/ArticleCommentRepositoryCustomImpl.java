@@ -0,0 +1,78 @@
+package copro.projectboard.repository.querydsl;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.StringExpression;
+import com.querydsl.jpa.JPQLQuery;
+import copro.projectboard.domain.ArticleComment;
+import copro.projectboard.domain.QArticleComment;
+import copro.projectboard.domain.QUserAccount;
+import copro.projectboard.dto.KeysetCursor;
+import copro.projectboard.dto.response.ArticleCommentResponse;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+
+import java.util.List;
+
+public class ArticleCommentRepositoryCustomImpl extends QuerydslRepositorySupport implements ArticleCommentRepositoryCustom {
+
+    public ArticleCommentRepositoryCustomImpl() {
+        super(ArticleComment.class);
+    }
+
+    @Override
+    public List<ArticleComment> findByCursor(Long articleId, KeysetCursor cursor, int limit) {
+        QArticleComment articleComment = QArticleComment.articleComment;
+
+        return from(articleComment)
+                .join(articleComment.userAccount).fetchJoin()
+                .where(articleComment.article.id.eq(articleId), seekCondition(cursor))
+                .orderBy(articleComment.createdAt.desc(), articleComment.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public Slice<ArticleCommentResponse> findResponseSlice(Long articleId, Pageable pageable) {
+        QArticleComment articleComment = QArticleComment.articleComment;
+        QUserAccount userAccount = articleComment.userAccount;
+        // ArticleCommentResponse.from 과 같이 닉네임이 비어 있으면 userId 를 보여준다.
+        StringExpression nickname = new CaseBuilder()
+                .when(userAccount.nickname.isNull().or(userAccount.nickname.trim().isEmpty())).then(userAccount.userId)
+                .otherwise(userAccount.nickname);
+
+        JPQLQuery<ArticleCommentResponse> query = from(articleComment)
+                .select(Projections.constructor(ArticleCommentResponse.class,
+                        articleComment.id,
+                        articleComment.content,
+                        articleComment.createdAt,
+                        userAccount.email,
+                        nickname
+                ))
+                .where(articleComment.article.id.eq(articleId));
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(query.fetch(), pageable, false);
+        }
+
+        List<ArticleCommentResponse> articleComments = getQuerydsl().applyPagination(pageable, query)
+                .limit(pageable.getPageSize() + 1L)
+                .fetch();
+        boolean hasNext = articleComments.size() > pageable.getPageSize();
+
+        return new SliceImpl<>(hasNext ? articleComments.subList(0, pageable.getPageSize()) : articleComments, pageable, hasNext);
+    }
+
+    private BooleanExpression seekCondition(KeysetCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+
+        QArticleComment articleComment = QArticleComment.articleComment;
+        return articleComment.createdAt.lt(cursor.createdAt())
+                .or(articleComment.createdAt.eq(cursor.createdAt()).and(articleComment.id.lt(cursor.id())));
+    }
+
+}
@@ -0,0 +1,63 @@
+package copro.projectboard.repository.querydsl;
+
+import copro.projectboard.domain.type.SearchType;
+import copro.projectboard.dto.ArticleSummaryDto;
+import copro.projectboard.dto.KeysetCursor;
+import copro.projectboard.dto.response.ArticleResponse;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ArticleRepositoryCustom {
+
+    /**
+     * 목록 조회는 모두 본문을 뺀 {@link ArticleSummaryDto} 로 돌려준다. 작성자 정보는 같은 쿼리에서 조인해 읽는다.
+     * <p>
+     * 커서 다음(또는 이전) 게시글을 최신순(createdAt DESC, id DESC)으로 최대 limit 개 돌려준다.
+     * offset 을 쓰지 않으므로 몇 번째 페이지든 비용이 같다.
+     */
+    List<ArticleSummaryDto> findByCursor(SearchType searchType, String searchKeyword, KeysetCursor cursor, int limit);
+
+    /**
+     * {@link #findByCursor} 와 같은 keyset 페이징을 작성자 회원 ID 로 한다. 회원 조인 LIKE 대신 user_account_id IN 조건을 쓴다.
+     */
+    List<ArticleSummaryDto> findByCursorAndUserAccountIds(Collection<Long> userAccountIds, KeysetCursor cursor, int limit);
+
+    /**
+     * count 쿼리 없이 검색한다. candidateIds 가 있으면 그 안에서만 찾는다.
+     */
+    Slice<ArticleSummaryDto> findSliceBySearch(SearchType searchType, String searchKeyword, Collection<Long> candidateIds, Pageable pageable);
+
+    /**
+     * 작성자 회원 ID 로 검색한다. 회원 조인 LIKE 대신 user_account_id IN 조건으로 찾으며, 정렬은 pageable 을 따른다.
+     */
+    Slice<ArticleSummaryDto> findSliceByUserAccountIds(Collection<Long> userAccountIds, Pageable pageable);
+
+    /**
+     * DB 전문 검색. 관련도 높은 순으로 돌려주며 pageable 의 정렬은 쓰지 않는다. 제목/본문 검색만 지원한다.
+     */
+    Slice<ArticleSummaryDto> findSliceByFullText(SearchType searchType, String searchKeyword, Pageable pageable);
+
+    long countBySearch(SearchType searchType, String searchKeyword);
+
+    /**
+     * {@link #findSliceByFullText} 와 같은 조건으로 센다. LIKE 대신 전문 색인을 쓴다.
+     */
+    long countByFullText(SearchType searchType, String searchKeyword);
+
+    /**
+     * 작성자 회원 ID 로 센다. 회원 테이블을 조인하지 않는다.
+     */
+    long countByUserAccountIds(Collection<Long> userAccountIds);
+
+    /**
+     * JSON API 용. 엔티티 대신 {@link ArticleResponse} 로 바로 읽고, count 쿼리 없이 다음 페이지 여부만 구한다.
+     */
+    Slice<ArticleResponse> findResponseSlice(Pageable pageable);
+
+    Optional<ArticleResponse> findResponseById(Long articleId);
+
+}
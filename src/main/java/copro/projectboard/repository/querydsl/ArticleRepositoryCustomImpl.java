@@ -0,0 +1,264 @@
+package copro.projectboard.repository.querydsl;
+
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.StringExpression;
+import com.querydsl.jpa.JPQLQuery;
+import copro.projectboard.domain.Article;
+import copro.projectboard.domain.Hashtag;
+import copro.projectboard.domain.QArticle;
+import copro.projectboard.domain.QUserAccount;
+import copro.projectboard.domain.type.SearchType;
+import copro.projectboard.dto.ArticleSummaryDto;
+import copro.projectboard.dto.KeysetCursor;
+import copro.projectboard.dto.response.ArticleResponse;
+import org.hibernate.Session;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+
+import javax.persistence.Query;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class ArticleRepositoryCustomImpl extends QuerydslRepositorySupport implements ArticleRepositoryCustom {
+
+    private volatile FullTextDialect fullTextDialect;
+
+    public ArticleRepositoryCustomImpl() {
+        super(Article.class);
+    }
+
+    @Override
+    public List<ArticleSummaryDto> findByCursor(SearchType searchType, String searchKeyword, KeysetCursor cursor, int limit) {
+        return fetchByCursor(searchCondition(searchType, searchKeyword), cursor, limit);
+    }
+
+    @Override
+    public List<ArticleSummaryDto> findByCursorAndUserAccountIds(Collection<Long> userAccountIds, KeysetCursor cursor, int limit) {
+        return fetchByCursor(QArticle.article.userAccount.id.in(userAccountIds), cursor, limit);
+    }
+
+    @Override
+    public Slice<ArticleSummaryDto> findSliceBySearch(SearchType searchType, String searchKeyword, Collection<Long> candidateIds, Pageable pageable) {
+        QArticle article = QArticle.article;
+
+        JPQLQuery<ArticleSummaryDto> query = from(article)
+                .select(summary(article))
+                .where(
+                        searchCondition(searchType, searchKeyword),
+                        candidateIds == null ? null : article.id.in(candidateIds)
+                );
+        return fetchSlice(query, pageable);
+    }
+
+    @Override
+    public Slice<ArticleSummaryDto> findSliceByUserAccountIds(Collection<Long> userAccountIds, Pageable pageable) {
+        QArticle article = QArticle.article;
+
+        // userAccount.id 는 article 의 외래 키 컬럼이라 조건에 회원 조인이 붙지 않는다.
+        JPQLQuery<ArticleSummaryDto> query = from(article)
+                .select(summary(article))
+                .where(article.userAccount.id.in(userAccountIds));
+        return fetchSlice(query, pageable);
+    }
+
+    @Override
+    public Slice<ArticleSummaryDto> findSliceByFullText(SearchType searchType, String searchKeyword, Pageable pageable) {
+        Query rankedIds = fullTextQuery(fullTextDialect().rankedIdQuery(searchType), searchKeyword)
+                .setParameter("limit", pageable.getPageSize() + 1)
+                .setParameter("offset", pageable.getOffset());
+
+        @SuppressWarnings("unchecked")
+        List<Long> ids = ((List<Number>) rankedIds.getResultList()).stream().map(Number::longValue).toList();
+        boolean hasNext = ids.size() > pageable.getPageSize();
+        if (hasNext) {
+            ids = ids.subList(0, pageable.getPageSize());
+        }
+        if (ids.isEmpty()) {
+            return new SliceImpl<>(List.of(), pageable, false);
+        }
+
+        // 요약은 id 로 한 번에 읽고, 관련도 순서는 앞의 id 순서대로 되돌린다.
+        QArticle article = QArticle.article;
+        Map<Long, ArticleSummaryDto> summaries = from(article)
+                .select(summary(article))
+                .where(article.id.in(ids))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(ArticleSummaryDto::id, Function.identity()));
+        List<ArticleSummaryDto> articles = ids.stream().map(summaries::get).filter(Objects::nonNull).toList();
+        return new SliceImpl<>(articles, pageable, hasNext);
+    }
+
+    @Override
+    public long countBySearch(SearchType searchType, String searchKeyword) {
+        QArticle article = QArticle.article;
+
+        Long count = from(article)
+                .select(article.count())
+                .where(searchCondition(searchType, searchKeyword))
+                .fetchOne();
+        return count == null ? 0L : count;
+    }
+
+    @Override
+    public long countByFullText(SearchType searchType, String searchKeyword) {
+        Number count = (Number) fullTextQuery(fullTextDialect().countQuery(searchType), searchKeyword).getSingleResult();
+        return count.longValue();
+    }
+
+    @Override
+    public long countByUserAccountIds(Collection<Long> userAccountIds) {
+        QArticle article = QArticle.article;
+
+        Long count = from(article)
+                .select(article.count())
+                .where(article.userAccount.id.in(userAccountIds))
+                .fetchOne();
+        return count == null ? 0L : count;
+    }
+
+    @Override
+    public Slice<ArticleResponse> findResponseSlice(Pageable pageable) {
+        QArticle article = QArticle.article;
+
+        JPQLQuery<ArticleResponse> query = from(article).select(response(article));
+        return fetchSlice(query, pageable);
+    }
+
+    @Override
+    public Optional<ArticleResponse> findResponseById(Long articleId) {
+        QArticle article = QArticle.article;
+
+        return Optional.ofNullable(from(article)
+                .select(response(article))
+                .where(article.id.eq(articleId))
+                .fetchOne());
+    }
+
+    private List<ArticleSummaryDto> fetchByCursor(BooleanExpression condition, KeysetCursor cursor, int limit) {
+        QArticle article = QArticle.article;
+        boolean backward = cursor != null && cursor.isBackward();
+
+        // 이전 페이지는 오름차순으로 가까운 것부터 읽은 뒤 뒤집는다.
+        List<ArticleSummaryDto> articles = from(article)
+                .select(summary(article))
+                .where(condition, seekCondition(cursor))
+                .orderBy(
+                        backward ? article.createdAt.asc() : article.createdAt.desc(),
+                        backward ? article.id.asc() : article.id.desc()
+                )
+                .limit(limit)
+                .fetch();
+
+        if (backward) {
+            articles = new ArrayList<>(articles);
+            Collections.reverse(articles);
+        }
+        return articles;
+    }
+
+    private <T> Slice<T> fetchSlice(JPQLQuery<T> query, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(query.fetch(), pageable, false);
+        }
+
+        // 다음 페이지가 있는지만 알면 되므로 한 건 더 읽는다.
+        List<T> rows = getQuerydsl().applyPagination(pageable, query)
+                .limit(pageable.getPageSize() + 1L)
+                .fetch();
+        boolean hasNext = rows.size() > pageable.getPageSize();
+
+        return new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+    }
+
+    private Query fullTextQuery(String sql, String searchKeyword) {
+        Query query = getEntityManager().createNativeQuery(sql).setParameter("keyword", searchKeyword);
+        if (fullTextDialect().filtersByColumn()) {
+            query.setParameter("pattern", "%" + searchKeyword.toLowerCase() + "%");
+        }
+        return query;
+    }
+
+    private FullTextDialect fullTextDialect() {
+        if (fullTextDialect == null) {
+            fullTextDialect = getEntityManager().unwrap(Session.class)
+                    .doReturningWork(connection -> FullTextDialect.of(connection.getMetaData().getDatabaseProductName()));
+        }
+        return fullTextDialect;
+    }
+
+    // 작성자 컬럼은 검색 조건, 정렬과 같은 경로(article.userAccount)로 읽어서 조인이 한 번만 생기게 한다.
+    private ConstructorExpression<ArticleSummaryDto> summary(QArticle article) {
+        return Projections.constructor(ArticleSummaryDto.class,
+                article.id,
+                article.title,
+                article.hashtag,
+                article.createdAt,
+                article.userAccount.userId,
+                article.userAccount.email,
+                article.userAccount.nickname
+        );
+    }
+
+    // ArticleResponse.from 과 같이 닉네임이 비어 있으면 userId 를 보여준다.
+    private ConstructorExpression<ArticleResponse> response(QArticle article) {
+        QUserAccount userAccount = article.userAccount;
+        StringExpression nickname = new CaseBuilder()
+                .when(userAccount.nickname.isNull().or(userAccount.nickname.trim().isEmpty())).then(userAccount.userId)
+                .otherwise(userAccount.nickname);
+
+        return Projections.constructor(ArticleResponse.class,
+                article.id,
+                article.title,
+                article.content,
+                article.hashtag,
+                article.createdAt,
+                userAccount.email,
+                nickname,
+                article.commentCount,
+                article.lastCommentedAt
+        );
+    }
+
+    private BooleanExpression searchCondition(SearchType searchType, String searchKeyword) {
+        if (searchType == null || searchKeyword == null || searchKeyword.isBlank()) {
+            return null;
+        }
+
+        QArticle article = QArticle.article;
+        return switch (searchType) {
+            case TITLE -> article.title.contains(searchKeyword);
+            case CONTENT -> article.content.contains(searchKeyword);
+            case ID -> article.userAccount.userId.contains(searchKeyword);
+            case NICKNAME -> article.userAccount.nickname.contains(searchKeyword);
+            case HASHTAG -> article.hashtags.any().hashtagName.eq(Hashtag.normalizeName(searchKeyword));
+        };
+    }
+
+    private BooleanExpression seekCondition(KeysetCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+
+        QArticle article = QArticle.article;
+        if (cursor.isBackward()) {
+            return article.createdAt.gt(cursor.createdAt())
+                    .or(article.createdAt.eq(cursor.createdAt()).and(article.id.gt(cursor.id())));
+        }
+        return article.createdAt.lt(cursor.createdAt())
+                .or(article.createdAt.eq(cursor.createdAt()).and(article.id.lt(cursor.id())));
+    }
+
+}
@@ -0,0 +1,117 @@
+package copro.projectboard.repository.querydsl;
+
+import copro.projectboard.domain.type.SearchType;
+
+import java.util.List;
+
+/**
+ * DB 별 전문 검색 SQL. 운영은 MySQL FULLTEXT(ngram parser), 테스트는 H2 내장 FullText 를 쓴다.
+ * <p>
+ * 두 쿼리 모두 관련도 높은 순(같으면 최신 id 순)으로 게시글 id 만 돌려주고, 건수도 같은 조건으로 센다.
+ * H2 FullText 는 제목/본문을 한 색인으로 묶고 단어 단위로만 찾으므로, 검색 유형의 컬럼은 LIKE 로 한 번 더 거른다.
+ * MySQL 색인은 Flyway 마이그레이션(db/vendor/mysql)이 만들고, H2 색인만 {@link #createIndexStatements()} 로 만든다.
+ */
+public enum FullTextDialect {
+
+    MYSQL {
+        @Override
+        public String rankedIdQuery(SearchType searchType) {
+            return "select id from article where " + match(searchType)
+                    + " order by " + match(searchType) + " desc, id desc limit :limit offset :offset";
+        }
+
+        @Override
+        public String countQuery(SearchType searchType) {
+            return "select count(*) from article where " + match(searchType);
+        }
+
+        // 제목/본문 색인이 모두 있어야 1
+        @Override
+        public String indexExistsQuery() {
+            return "select case when count(distinct index_name) = 2 then 1 else 0 end from information_schema.statistics"
+                    + " where table_schema = database() and table_name = 'article'"
+                    + " and index_name in ('ft_article_title', 'ft_article_content')";
+        }
+
+        @Override
+        public List<String> createIndexStatements() {
+            return List.of();
+        }
+
+        private String match(SearchType searchType) {
+            return "match(" + column(searchType) + ") against (:keyword in natural language mode)";
+        }
+    },
+
+    H2 {
+        @Override
+        public String rankedIdQuery(SearchType searchType) {
+            return "select a.id" + from(searchType) + " order by ft.score desc, a.id desc limit :limit offset :offset";
+        }
+
+        @Override
+        public String countQuery(SearchType searchType) {
+            return "select count(*)" + from(searchType);
+        }
+
+        @Override
+        public String indexExistsQuery() {
+            return "select count(*) from ft.indexes where \"TABLE\" = 'ARTICLE'";
+        }
+
+        @Override
+        public List<String> createIndexStatements() {
+            return List.of(
+                    "create alias if not exists ft_init for \"org.h2.fulltext.FullText.init\"",
+                    "call ft_init()",
+                    "call ft_create_index('PUBLIC', 'ARTICLE', 'TITLE,CONTENT')"
+            );
+        }
+
+        @Override
+        public boolean filtersByColumn() {
+            return true;
+        }
+
+        private String from(SearchType searchType) {
+            return " from ft_search_data(:keyword, 0, 0) ft"
+                    + " join article a on a.id = cast(ft.keys[1] as bigint)"
+                    + " where ft.\"TABLE\" = 'ARTICLE' and lower(a." + column(searchType) + ") like :pattern";
+        }
+    };
+
+    public abstract String rankedIdQuery(SearchType searchType);
+
+    public abstract String countQuery(SearchType searchType);
+
+    public abstract String indexExistsQuery();
+
+    /**
+     * 기동 시 앱이 직접 만들 색인. 비어 있으면 마이그레이션이 만든다.
+     */
+    public abstract List<String> createIndexStatements();
+
+    /**
+     * rankedIdQuery/countQuery 가 검색 유형의 컬럼을 LIKE 로 거르는지 여부. 그렇다면 :pattern 파라미터가 필요하다
+     */
+    public boolean filtersByColumn() {
+        return false;
+    }
+
+    public static FullTextDialect of(String databaseProductName) {
+        return switch (databaseProductName) {
+            case "MySQL" -> MYSQL;
+            case "H2" -> H2;
+            default -> throw new IllegalStateException("전문 검색을 지원하지 않는 DB 입니다 - database: " + databaseProductName);
+        };
+    }
+
+    private static String column(SearchType searchType) {
+        return switch (searchType) {
+            case TITLE -> "title";
+            case CONTENT -> "content";
+            default -> throw new IllegalArgumentException("전문 검색은 제목/본문만 지원합니다 - searchType: " + searchType);
+        };
+    }
+
+}
@@ -0,0 +1,248 @@
+package copro.projectboard.search;
+
+import copro.projectboard.config.SearchConfig.SearchIndexProperties;
+import copro.projectboard.domain.Article;
+import copro.projectboard.domain.type.SearchType;
+import copro.projectboard.event.ArticleEvent;
+import copro.projectboard.event.ArticleImportedEvent;
+import copro.projectboard.repository.ArticleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 게시글 제목/본문에 대한 in-process n-gram 역색인.
+ * 색인은 후보 게시글 ID 를 좁히는 용도로만 쓰고, 최종 판정(LIKE)과 정렬, 페이징은 DB 가 한다.
+ * 따라서 색인 결과는 항상 실제 결과의 상위 집합이어야 한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ArticleSearchIndex {
+
+    private static final Set<SearchType> INDEXED_TYPES = EnumSet.of(SearchType.TITLE, SearchType.CONTENT);
+
+    private final ArticleRepository articleRepository;
+    private final SearchIndexProperties properties;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<SearchType, FieldIndex> fieldIndexes = newFieldIndexes();
+    private List<Consumer<Map<SearchType, FieldIndex>>> pendingChanges; // 재구성 중에만 있다
+    private volatile boolean ready = false;
+
+    public boolean supports(SearchType searchType) {
+        return properties.isEnabled() && INDEXED_TYPES.contains(searchType);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 검색어를 포함할 수 있는 게시글 ID 후보를 돌려준다.
+     * 색인을 쓸 수 없거나 후보가 너무 많으면 빈 Optional 을 돌려주고, 호출자는 LIKE 검색으로 넘어가야 한다.
+     */
+    public Optional<Set<Long>> findCandidates(SearchType searchType, String keyword) {
+        if (!ready || !supports(searchType)) {
+            return Optional.empty();
+        }
+
+        Set<String> grams = NGramTokenizer.queryGrams(keyword, properties.getNgramSize());
+        if (grams.isEmpty()) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            FieldIndex fieldIndex = fieldIndexes.get(searchType);
+            List<Set<Long>> postings = grams.stream()
+                    .map(gram -> fieldIndex.postings.getOrDefault(gram, Set.of()))
+                    .sorted(Comparator.comparingInt(Set::size))
+                    .toList();
+
+            Set<Long> candidates = new HashSet<>(postings.get(0));
+            for (int i = 1; i < postings.size() && !candidates.isEmpty(); i++) {
+                candidates.retainAll(postings.get(i));
+            }
+
+            if (candidates.size() > properties.getMaxCandidates()) {
+                return Optional.empty();
+            }
+            return Optional.of(candidates);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void index(Long articleId, String title, String content) {
+        if (articleId == null || !properties.isEnabled()) {
+            return;
+        }
+
+        int n = properties.getNgramSize();
+        Set<String> titleGrams = NGramTokenizer.indexGrams(title, n);
+        Set<String> contentGrams = NGramTokenizer.indexGrams(content, n);
+        apply(fieldIndexes -> {
+            fieldIndexes.get(SearchType.TITLE).put(articleId, titleGrams);
+            fieldIndexes.get(SearchType.CONTENT).put(articleId, contentGrams);
+        });
+    }
+
+    public void remove(Long articleId) {
+        if (articleId == null) {
+            return;
+        }
+
+        apply(fieldIndexes -> fieldIndexes.values().forEach(fieldIndex -> fieldIndex.remove(articleId)));
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return fieldIndexes.get(SearchType.TITLE).documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleEvent(ArticleEvent event) {
+        switch (event.type()) {
+            case SAVED, UPDATED -> index(event.articleId(), event.articleDto().title(), event.articleDto().content());
+            case DELETED -> remove(event.articleId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleImported(ArticleImportedEvent event) {
+        rebuildOnStartup();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (properties.isEnabled()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * DB 의 전체 게시글로 색인을 다시 만든다. 재구성 중에는 색인을 쓰지 않는다.
+     * ID 기준 keyset 으로 읽어서 count 쿼리나 offset 스캔이 생기지 않게 한다.
+     * 새 색인은 따로 만들어서 바꿔 끼운다. 그 사이에 들어온 쓰기 이벤트는 모아 두었다가 새 색인에 다시 적용해서,
+     * 이미 읽은 배치의 게시글이 수정/삭제되어도 잃어버리지 않는다.
+     */
+    public synchronized void rebuild() {
+        ready = false;
+        long startedAt = System.currentTimeMillis();
+
+        lock.writeLock().lock();
+        try {
+            pendingChanges = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Map<SearchType, FieldIndex> rebuilt = newFieldIndexes();
+        try {
+            int n = properties.getNgramSize();
+            PageRequest batch = PageRequest.of(0, properties.getRebuildBatchSize(), Sort.by(Sort.Direction.ASC, "id"));
+            long lastId = 0L;
+            Slice<Article> slice;
+            do {
+                slice = articleRepository.findByIdGreaterThan(lastId, batch);
+                for (Article article : slice) {
+                    rebuilt.get(SearchType.TITLE).put(article.getId(), NGramTokenizer.indexGrams(article.getTitle(), n));
+                    rebuilt.get(SearchType.CONTENT).put(article.getId(), NGramTokenizer.indexGrams(article.getContent(), n));
+                    lastId = article.getId();
+                }
+            } while (slice.hasNext());
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingChanges = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            pendingChanges.forEach(change -> change.accept(rebuilt));
+            pendingChanges = null;
+            fieldIndexes = rebuilt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        ready = true;
+        log.info("게시글 검색 색인 재구성 완료 - 게시글 수: {}, 소요시간: {}ms", size(), System.currentTimeMillis() - startedAt);
+    }
+
+    private void apply(Consumer<Map<SearchType, FieldIndex>> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(fieldIndexes);
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static Map<SearchType, FieldIndex> newFieldIndexes() {
+        Map<SearchType, FieldIndex> fieldIndexes = new EnumMap<>(SearchType.class);
+        INDEXED_TYPES.forEach(searchType -> fieldIndexes.put(searchType, new FieldIndex()));
+        return fieldIndexes;
+    }
+
+
+    private static class FieldIndex {
+        private final Map<String, Set<Long>> postings = new HashMap<>();
+        private final Map<Long, Set<String>> documents = new HashMap<>();
+
+        void put(Long articleId, Set<String> grams) {
+            remove(articleId);
+            documents.put(articleId, grams);
+            grams.forEach(gram -> postings.computeIfAbsent(gram, key -> new HashSet<>()).add(articleId));
+        }
+
+        void remove(Long articleId) {
+            Set<String> grams = documents.remove(articleId);
+            if (grams == null) {
+                return;
+            }
+            for (String gram : grams) {
+                Set<Long> posting = postings.get(gram);
+                if (posting != null) {
+                    posting.remove(articleId);
+                    if (posting.isEmpty()) {
+                        postings.remove(gram);
+                    }
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,74 @@
+package copro.projectboard.search;
+
+import copro.projectboard.config.SearchConfig.FullTextProperties;
+import copro.projectboard.domain.type.SearchType;
+import copro.projectboard.repository.querydsl.FullTextDialect;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 전문 검색을 켠 경우 기동 시 전문 색인을 확인한다. 이후 쓰기는 DB 가 색인에 반영한다.
+ * <p>
+ * H2(로컬/테스트)는 ddl-auto 로 만든 스키마라 엔티티 매핑으로 표현할 수 없는 FullText 색인을 여기서 건다.
+ * MySQL 색인은 Flyway 마이그레이션(db/vendor/mysql)이 만든다. 큰 테이블에 기동 중 FULLTEXT 색인을 걸면 오래 걸리므로 없으면 경고만 남긴다.
+ * <p>
+ * 색인을 확인하거나 만들기 전까지는 {@link #isReadyFor} 가 false 이므로, 검색은 전문 검색 대신 in-process 색인/LIKE 경로로 돈다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class FullTextIndexInitializer {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final FullTextProperties properties;
+
+    private volatile boolean ready;
+
+    /**
+     * 전문 검색을 켠 검색 유형이고, 전문 색인이 준비되었는지 여부
+     */
+    public boolean isReadyFor(SearchType searchType) {
+        return ready && properties.isEnabledFor(searchType);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createIndexes() {
+        if (properties.getSearchTypes().isEmpty()) {
+            return;
+        }
+
+        FullTextDialect dialect = FullTextDialect.of(jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName()));
+        if (indexExists(dialect)) {
+            ready = true;
+            return;
+        }
+        if (dialect.createIndexStatements().isEmpty()) {
+            log.warn("전문 검색 색인이 없어 전문 검색을 끕니다. 마이그레이션이 적용되었는지 확인하세요 - dialect: {}, searchTypes: {}",
+                    dialect, properties.getSearchTypes());
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        dialect.createIndexStatements().forEach(jdbcTemplate::execute);
+        ready = true;
+        log.info("전문 검색 색인 생성 완료 - dialect: {}, elapsed: {}ms", dialect, System.currentTimeMillis() - startedAt);
+    }
+
+    private boolean indexExists(FullTextDialect dialect) {
+        try {
+            Long count = jdbcTemplate.queryForObject(dialect.indexExistsQuery(), Long.class);
+            return count != null && count > 0;
+        } catch (DataAccessException e) {
+            // H2 는 FT_INIT 전에는 색인 목록 테이블 자체가 없다.
+            return false;
+        }
+    }
+
+}
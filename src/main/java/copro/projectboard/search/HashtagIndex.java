@@ -0,0 +1,249 @@
+package copro.projectboard.search;
+
+import copro.projectboard.config.SearchConfig.HashtagIndexProperties;
+import copro.projectboard.domain.Article;
+import copro.projectboard.domain.Hashtag;
+import copro.projectboard.dto.HashtagCountDto;
+import copro.projectboard.event.ArticleEvent;
+import copro.projectboard.event.ArticleImportedEvent;
+import copro.projectboard.repository.ArticleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 해시태그 → 게시글 ID 역색인과 인기 해시태그 집계.
+ * {@link ArticleSearchIndex} 와 달리 결과가 정확하므로 게시글 수를 그대로 검색 결과 건수로 쓸 수 있다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class HashtagIndex {
+
+    private static final Comparator<Map.Entry<String, Set<Long>>> POPULARITY =
+            Comparator.<Map.Entry<String, Set<Long>>>comparingInt(entry -> entry.getValue().size()).reversed()
+                    .thenComparing(Map.Entry::getKey);
+
+    private final ArticleRepository articleRepository;
+    private final HashtagIndexProperties properties;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Postings postings = new Postings();
+    private List<Consumer<Postings>> pendingChanges; // 재구성 중에만 있다
+    private volatile List<HashtagCountDto> topHashtags = List.of();
+    private volatile boolean topHashtagsStale = false;
+    private volatile boolean ready = false;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 해시태그가 달린 게시글 ID 를 돌려준다. 색인이 준비되지 않았으면 빈 Optional 을 돌려주고, 호출자는 DB 조회로 넘어가야 한다.
+     */
+    public Optional<Set<Long>> findArticleIds(String hashtagName) {
+        if (!ready) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            return Optional.of(Set.copyOf(postings.articleIds.getOrDefault(Hashtag.normalizeName(hashtagName), Set.of())));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색 결과 ID 를 IN 조건으로 넘겨도 되는 최대 게시글 수
+     */
+    public int getMaxCandidates() {
+        return properties.getMaxCandidates();
+    }
+
+    /**
+     * 게시글 수 기준 상위 해시태그. 쓰기는 다시 집계해야 한다는 표시만 남기고, 집계는 쓰기 뒤 첫 조회에서 한 번 한다.
+     * 집계는 topSize 크기의 힙으로 해서 전체 해시태그를 정렬하지 않는다.
+     */
+    public List<HashtagCountDto> getTopHashtags() {
+        if (topHashtagsStale) {
+            lock.readLock().lock();
+            try {
+                if (topHashtagsStale) {
+                    topHashtagsStale = false;
+                    topHashtags = postings.top(properties.getTopSize());
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+        return topHashtags;
+    }
+
+    public void index(Long articleId, String hashtags) {
+        if (articleId == null) {
+            return;
+        }
+
+        Set<String> names = Hashtag.parseNames(hashtags);
+        apply(postings -> postings.put(articleId, names));
+    }
+
+    public void remove(Long articleId) {
+        if (articleId == null) {
+            return;
+        }
+
+        apply(postings -> postings.remove(articleId));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleEvent(ArticleEvent event) {
+        switch (event.type()) {
+            case SAVED, UPDATED -> index(event.articleId(), event.articleDto().hashtag());
+            case DELETED -> remove(event.articleId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleImported(ArticleImportedEvent event) {
+        rebuild();
+    }
+
+    /**
+     * DB 의 전체 게시글로 색인을 다시 만든다. {@link ArticleSearchIndex#rebuild} 와 같이 새 색인을 따로 만들어 바꿔 끼우고,
+     * 그 사이에 들어온 쓰기 이벤트는 새 색인에 다시 적용한다. 인기 해시태그는 끝난 뒤 한 번만 집계한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        ready = false;
+        long startedAt = System.currentTimeMillis();
+
+        lock.writeLock().lock();
+        try {
+            pendingChanges = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Postings rebuilt = new Postings();
+        try {
+            PageRequest batch = PageRequest.of(0, properties.getRebuildBatchSize(), Sort.by(Sort.Direction.ASC, "id"));
+            long lastId = 0L;
+            Slice<Article> slice;
+            do {
+                slice = articleRepository.findByIdGreaterThan(lastId, batch);
+                for (Article article : slice) {
+                    rebuilt.put(article.getId(), Hashtag.parseNames(article.getHashtag()));
+                    lastId = article.getId();
+                }
+            } while (slice.hasNext());
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingChanges = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        int hashtagCount;
+        lock.writeLock().lock();
+        try {
+            pendingChanges.forEach(change -> change.accept(rebuilt));
+            pendingChanges = null;
+            postings = rebuilt;
+            topHashtags = rebuilt.top(properties.getTopSize());
+            topHashtagsStale = false;
+            hashtagCount = rebuilt.articleIds.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        ready = true;
+        log.info("해시태그 색인 재구성 완료 - 해시태그 수: {}, 소요시간: {}ms", hashtagCount, System.currentTimeMillis() - startedAt);
+    }
+
+    private void apply(Consumer<Postings> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(postings);
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+            topHashtagsStale = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+
+    private static class Postings {
+        private final Map<String, Set<Long>> articleIds = new HashMap<>();
+        private final Map<Long, Set<String>> documents = new HashMap<>();
+
+        void put(Long articleId, Set<String> names) {
+            remove(articleId);
+            if (!names.isEmpty()) {
+                documents.put(articleId, names);
+                names.forEach(name -> articleIds.computeIfAbsent(name, key -> new HashSet<>()).add(articleId));
+            }
+        }
+
+        void remove(Long articleId) {
+            Set<String> names = documents.remove(articleId);
+            if (names == null) {
+                return;
+            }
+            for (String name : names) {
+                Set<Long> posting = articleIds.get(name);
+                if (posting != null) {
+                    posting.remove(articleId);
+                    if (posting.isEmpty()) {
+                        articleIds.remove(name);
+                    }
+                }
+            }
+        }
+
+        List<HashtagCountDto> top(int size) {
+            if (size <= 0) {
+                return List.of();
+            }
+
+            // 가장 덜 인기 있는 것이 머리에 오는 힙에 size 개만 남긴다.
+            PriorityQueue<Map.Entry<String, Set<Long>>> heap = new PriorityQueue<>(size + 1, POPULARITY.reversed());
+            for (Map.Entry<String, Set<Long>> entry : articleIds.entrySet()) {
+                heap.offer(entry);
+                if (heap.size() > size) {
+                    heap.poll();
+                }
+            }
+            return heap.stream()
+                    .sorted(POPULARITY)
+                    .map(entry -> HashtagCountDto.of(entry.getKey(), entry.getValue().size()))
+                    .toList();
+        }
+    }
+
+}
@@ -0,0 +1,65 @@
+package copro.projectboard.search;
+
+import java.text.Normalizer;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 공백 단위 형태소 분석 없이 문자 n-gram 으로 토큰을 만든다.
+ * 조사가 붙는 한글(예: "게시글을")도 부분 문자열로 찾을 수 있도록, 단어 경계와 상관없이 1 ~ n 글자 조각을 모두 만든다.
+ */
+public final class NGramTokenizer {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{InCombiningDiacriticalMarks}+");
+
+    private NGramTokenizer() {}
+
+    /**
+     * DB 콜레이션(대소문자, 악센트 무시)보다 느슨하게 정규화해서, 색인이 LIKE 결과를 놓치지 않도록 한다.
+     * 한글 음절은 NFD 분해 후 다시 NFC 로 합쳐지므로 그대로 유지된다.
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        String stripped = COMBINING_MARKS.matcher(decomposed).replaceAll("");
+        return Normalizer.normalize(stripped, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 색인용 토큰: 정규화된 텍스트의 길이 1 ~ n 인 모든 조각
+     */
+    public static Set<String> indexGrams(String text, int n) {
+        String normalized = normalize(text);
+        Set<String> grams = new HashSet<>();
+        for (int size = 1; size <= n; size++) {
+            for (int i = 0; i + size <= normalized.length(); i++) {
+                grams.add(normalized.substring(i, i + size));
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * 검색용 토큰: 검색어가 n 글자 이상이면 n 글자 조각 전부, 더 짧으면 검색어 자체
+     */
+    public static Set<String> queryGrams(String keyword, int n) {
+        String normalized = normalize(keyword);
+        Set<String> grams = new HashSet<>();
+        if (normalized.isEmpty()) {
+            return grams;
+        }
+        if (normalized.length() <= n) {
+            grams.add(normalized);
+            return grams;
+        }
+        for (int i = 0; i + n <= normalized.length(); i++) {
+            grams.add(normalized.substring(i, i + n));
+        }
+        return grams;
+    }
+
+}
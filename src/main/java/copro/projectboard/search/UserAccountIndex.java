@@ -0,0 +1,266 @@
+package copro.projectboard.search;
+
+import copro.projectboard.config.SearchConfig.UserAccountIndexProperties;
+import copro.projectboard.domain.UserAccount;
+import copro.projectboard.domain.type.SearchType;
+import copro.projectboard.event.UserAccountEvent;
+import copro.projectboard.repository.UserAccountRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 회원 ID/닉네임 색인. ID/닉네임 검색에서 회원 조인 + LIKE 대신, 맞는 회원 ID 를 먼저 찾고 작성자 IN 조건으로 게시글을 페이징한다.
+ * <p>
+ * 부분 일치는 n-gram 역색인으로 후보를 좁힌 뒤 메모리에 둔 값으로 바로 확인하므로, {@link ArticleSearchIndex} 와 달리 결과가 정확하다.
+ * 비교는 {@link NGramTokenizer#normalize} 기준(대소문자, 악센트 무시)으로 MySQL 기본 콜레이션과 같다.
+ * 앞부분 일치(자동 완성)는 정규화한 값의 정렬 맵에서 범위로 읽는다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class UserAccountIndex {
+
+    private final UserAccountRepository userAccountRepository;
+    private final UserAccountIndexProperties properties;
+
+    private final Map<SearchType, FieldIndex> fieldIndexes = new EnumMap<>(Map.of(
+            SearchType.ID, new FieldIndex(),
+            SearchType.NICKNAME, new FieldIndex()
+    ));
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready = false;
+
+    public boolean supports(SearchType searchType) {
+        return properties.isEnabled() && fieldIndexes.containsKey(searchType);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 검색어를 포함하는 회원 ID 를 돌려준다.
+     * 색인을 쓸 수 없거나 회원이 너무 많으면 빈 Optional 을 돌려주고, 호출자는 LIKE 검색으로 넘어가야 한다.
+     */
+    public Optional<Set<Long>> findUserAccountIds(SearchType searchType, String keyword) {
+        if (!ready || !supports(searchType)) {
+            return Optional.empty();
+        }
+
+        String normalized = NGramTokenizer.normalize(keyword);
+        Set<String> grams = NGramTokenizer.queryGrams(keyword, properties.getNgramSize());
+        if (grams.isEmpty()) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            FieldIndex fieldIndex = fieldIndexes.get(searchType);
+            List<Set<Long>> postings = grams.stream()
+                    .map(gram -> fieldIndex.postings.getOrDefault(gram, Set.of()))
+                    .sorted(Comparator.comparingInt(Set::size))
+                    .toList();
+
+            Set<Long> userAccountIds = new HashSet<>(postings.get(0));
+            for (int i = 1; i < postings.size() && !userAccountIds.isEmpty(); i++) {
+                userAccountIds.retainAll(postings.get(i));
+            }
+            // n-gram 이 모두 있어도 순서가 다를 수 있으므로 값으로 확인한다.
+            userAccountIds.removeIf(id -> !fieldIndex.normalizedValues.get(id).contains(normalized));
+
+            if (userAccountIds.size() > properties.getMaxCandidates()) {
+                return Optional.empty();
+            }
+            return Optional.of(userAccountIds);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 자동 완성. 검색어로 시작하는 ID/닉네임을 정규화한 값 순서로 suggestSize 개까지 돌려준다.
+     */
+    public List<String> suggest(SearchType searchType, String prefix) {
+        String normalized = NGramTokenizer.normalize(prefix);
+        if (!ready || !supports(searchType) || normalized.isBlank()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            FieldIndex fieldIndex = fieldIndexes.get(searchType);
+            Set<String> suggestions = new LinkedHashSet<>();
+            for (Set<Long> ids : fieldIndex.sortedValues.subMap(normalized, true, normalized + Character.MAX_VALUE, false).values()) {
+                for (Long id : ids) {
+                    suggestions.add(fieldIndex.values.get(id));
+                    if (suggestions.size() >= properties.getSuggestSize()) {
+                        return List.copyOf(suggestions);
+                    }
+                }
+            }
+            return List.copyOf(suggestions);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void index(Long userAccountId, String userId, String nickname) {
+        if (userAccountId == null || !properties.isEnabled()) {
+            return;
+        }
+
+        int n = properties.getNgramSize();
+        Set<String> userIdGrams = NGramTokenizer.indexGrams(userId, n);
+        Set<String> nicknameGrams = NGramTokenizer.indexGrams(nickname, n);
+
+        lock.writeLock().lock();
+        try {
+            fieldIndexes.get(SearchType.ID).put(userAccountId, userId, userIdGrams);
+            fieldIndexes.get(SearchType.NICKNAME).put(userAccountId, nickname, nicknameGrams);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long userAccountId) {
+        if (userAccountId == null) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            fieldIndexes.values().forEach(fieldIndex -> fieldIndex.remove(userAccountId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return fieldIndexes.get(SearchType.ID).values.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserAccountEvent(UserAccountEvent event) {
+        switch (event.type()) {
+            case SAVED, UPDATED -> index(event.userAccountId(), event.userAccountDto().userId(), event.userAccountDto().nickname());
+            case DELETED -> remove(event.userAccountId());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (properties.isEnabled()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * DB 의 전체 회원으로 색인을 다시 만든다. 재구성 중에는 색인을 쓰지 않는다.
+     */
+    public void rebuild() {
+        ready = false;
+        long startedAt = System.currentTimeMillis();
+
+        lock.writeLock().lock();
+        try {
+            fieldIndexes.values().forEach(FieldIndex::clear);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        PageRequest batch = PageRequest.of(0, properties.getRebuildBatchSize(), Sort.by(Sort.Direction.ASC, "id"));
+        long lastId = 0L;
+        Slice<UserAccount> slice;
+        do {
+            slice = userAccountRepository.findByIdGreaterThan(lastId, batch);
+            for (UserAccount userAccount : slice) {
+                index(userAccount.getId(), userAccount.getUserId(), userAccount.getNickname());
+                lastId = userAccount.getId();
+            }
+        } while (slice.hasNext());
+
+        ready = true;
+        log.info("회원 색인 재구성 완료 - 회원 수: {}, 소요시간: {}ms", size(), System.currentTimeMillis() - startedAt);
+    }
+
+
+    private static class FieldIndex {
+        private final Map<String, Set<Long>> postings = new HashMap<>();
+        private final Map<Long, Set<String>> documents = new HashMap<>();
+        private final Map<Long, String> values = new HashMap<>();
+        private final Map<Long, String> normalizedValues = new HashMap<>();
+        private final NavigableMap<String, Set<Long>> sortedValues = new TreeMap<>();
+
+        void put(Long userAccountId, String value, Set<String> grams) {
+            remove(userAccountId);
+            if (value == null || value.isBlank()) {
+                return;
+            }
+
+            String normalized = NGramTokenizer.normalize(value);
+            values.put(userAccountId, value);
+            normalizedValues.put(userAccountId, normalized);
+            sortedValues.computeIfAbsent(normalized, key -> new HashSet<>()).add(userAccountId);
+            documents.put(userAccountId, grams);
+            grams.forEach(gram -> postings.computeIfAbsent(gram, key -> new HashSet<>()).add(userAccountId));
+        }
+
+        void remove(Long userAccountId) {
+            values.remove(userAccountId);
+            String normalized = normalizedValues.remove(userAccountId);
+            if (normalized != null) {
+                removeFrom(sortedValues, normalized, userAccountId);
+            }
+
+            Set<String> grams = documents.remove(userAccountId);
+            if (grams != null) {
+                grams.forEach(gram -> removeFrom(postings, gram, userAccountId));
+            }
+        }
+
+        void clear() {
+            postings.clear();
+            documents.clear();
+            values.clear();
+            normalizedValues.clear();
+            sortedValues.clear();
+        }
+
+        private static void removeFrom(Map<String, Set<Long>> map, String key, Long userAccountId) {
+            Set<Long> ids = map.get(key);
+            if (ids != null) {
+                ids.remove(userAccountId);
+                if (ids.isEmpty()) {
+                    map.remove(key);
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,59 @@
+package copro.projectboard.service;
+
+import copro.projectboard.config.CacheConfig;
+import copro.projectboard.event.ArticleCommentEvent;
+import copro.projectboard.event.ArticleEvent;
+import copro.projectboard.event.ArticleImportedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 게시글/댓글 쓰기가 커밋된 뒤에 해당 캐시만 지운다.
+ * 커밋 전에 지우면 그 사이 읽기가 옛 데이터를 다시 캐시에 올릴 수 있기 때문이다.
+ * <p>
+ * 이벤트는 게시글/댓글 엔티티 리스너가 발행하므로 서비스, Data REST 어느 쪽으로 JPA 저장을 하든 지운다.
+ * JDBC 로 직접 쓰는 대량 적재는 {@link ArticleImportedEvent} 와 댓글 이벤트를 따로 발행한다. 그 밖에 SQL 로 직접 고친 데이터는 캐시 만료(TTL)까지 남는다.
+ */
+@RequiredArgsConstructor
+@Component
+public class ArticleCacheEvictor {
+
+    private final CacheManager cacheManager;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleEvent(ArticleEvent event) {
+        if (event.type() != ArticleEvent.Type.SAVED) {
+            evictArticle(event.articleId());
+        }
+        // 새 글, 제목/해시태그 수정, 삭제 모두 목록 페이지 구성을 바꾼다.
+        cache(CacheConfig.ARTICLE_PAGES).clear();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleImported(ArticleImportedEvent event) {
+        cache(CacheConfig.ARTICLE_PAGES).clear();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleCommentEvent(ArticleCommentEvent event) {
+        evictArticle(event.articleId());
+    }
+
+    private void evictArticle(Long articleId) {
+        if (articleId != null) {
+            cache(CacheConfig.ARTICLE_DETAIL).evict(articleId);
+        }
+    }
+
+    private Cache cache(String name) {
+        Cache cache = cacheManager.getCache(name);
+        if (cache == null) {
+            throw new IllegalStateException("캐시가 설정되어 있지 않습니다 - cache: " + name);
+        }
+        return cache;
+    }
+
+}
@@ -1,18 +1,40 @@
 package copro.projectboard.service;
 
 import copro.projectboard.domain.ArticleComment;
+import copro.projectboard.domain.UserAccount;
 import copro.projectboard.dto.ArticleCommentDto;
+import copro.projectboard.dto.KeysetCursor;
+import copro.projectboard.dto.response.ArticleCommentResponse;
 import copro.projectboard.repository.ArticleCommentRepository;
 import copro.projectboard.repository.ArticleRepository;
+import copro.projectboard.repository.UserAccountRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.rest.core.annotation.HandleAfterCreate;
+import org.springframework.data.rest.core.annotation.HandleAfterDelete;
+import org.springframework.data.rest.core.annotation.RepositoryEventHandler;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
 import javax.persistence.EntityNotFoundException;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+/**
+ * 댓글 쓰기 이벤트({@link copro.projectboard.event.ArticleCommentEvent})는 엔티티 리스너가 발행한다.
+ * 게시글의 댓글 수는 서비스로 쓸 때 같은 트랜잭션에서, Data REST 로 쓸 때는 저장이 커밋된 뒤에 맞춘다.
+ */
 @RequiredArgsConstructor
+@RepositoryEventHandler
 @Service
 @Transactional
 @Slf4j
@@ -20,6 +42,8 @@ public class ArticleCommentService {
 
     private final ArticleRepository articleRepository;
     private final ArticleCommentRepository articleCommentRepository;
+    private final UserAccountRepository userAccountRepository;
+    private final EntityManager entityManager;
 
     @Transactional(readOnly = true)
     public List<ArticleCommentDto> searchArticleComments(Long articleId) {
@@ -29,12 +53,74 @@ public class ArticleCommentService {
                 .toList();
     }
 
+    /**
+     * 댓글 더보기용 keyset 페이징. 다음 페이지가 있는지 알 수 있도록 size 보다 하나 더 읽어서 최신순으로 돌려준다.
+     */
+    @Transactional(readOnly = true)
+    public List<ArticleCommentDto> searchArticleComments(Long articleId, KeysetCursor cursor, int size) {
+        return articleCommentRepository.findByCursor(articleId, cursor, size + 1)
+                .stream()
+                .map(ArticleCommentDto::from)
+                .toList();
+    }
+
+    /**
+     * JSON API 용. 엔티티를 거치지 않고 응답 레코드로 바로 읽으며, count 쿼리를 날리지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public Slice<ArticleCommentResponse> getArticleCommentResponses(Long articleId, Pageable pageable) {
+        return articleCommentRepository.findResponseSlice(articleId, pageable);
+    }
+
+    /**
+     * 내보내기용. 댓글을 전진 전용 커서로 한 건씩 읽어 넘기고, 넘긴 엔티티는 바로 영속성 컨텍스트에서 뗀다.
+     * 댓글 수와 상관없이 메모리 사용량이 일정하다.
+     */
+    @Transactional(readOnly = true)
+    public void streamArticleComments(Long articleId, Consumer<ArticleCommentDto> consumer) {
+        try (Stream<ArticleComment> articleComments = articleCommentRepository.streamByArticleId(articleId)) {
+            articleComments.forEach(articleComment -> {
+                consumer.accept(ArticleCommentDto.from(articleComment));
+                entityManager.detach(articleComment);
+            });
+        }
+    }
+
+    /**
+     * 작성자는 회원 ID(userId)로 찾는다. 게시글이나 작성자가 없으면 {@link EntityNotFoundException} 을 던진다.
+     */
     public void saveArticleComment(ArticleCommentDto dto) {
-        try {
-            articleCommentRepository.save(dto.toEntity(articleRepository.getReferenceById(dto.articleId())));
-        } catch (EntityNotFoundException e) {
-            log.warn("댓글 저장 실패. 댓글의 게시글을 찾을 수 없습니다 - dto: {}", dto);
+        UserAccount userAccount = userAccountRepository.findByUserId(dto.userAccountDto().userId())
+                .orElseThrow(() -> new EntityNotFoundException("댓글 작성자를 찾을 수 없습니다 - userId: " + dto.userAccountDto().userId()));
+        if (!articleRepository.existsById(dto.articleId())) {
+            throw new EntityNotFoundException("댓글의 게시글을 찾을 수 없습니다 - articleId: " + dto.articleId());
         }
+        ArticleComment articleComment = dto.toEntity(articleRepository.getReferenceById(dto.articleId()), userAccount);
+        articleCommentRepository.save(articleComment);
+        articleRepository.increaseCommentCount(dto.articleId(), 1, articleComment.getCreatedAt());
+    }
+
+    /**
+     * {@link ArticleCommentWriter} 가 모은 댓글을 한 트랜잭션으로 저장한다. 하나라도 실패하면 묶음 전체가 롤백된다.
+     * 작성자는 묶음 전체를 한 번에 읽고, 게시글의 댓글 수는 게시글마다 한 번씩 올린다.
+     */
+    public void saveArticleComments(List<ArticleCommentDto> dtos) {
+        Map<String, UserAccount> userAccounts = userAccountRepository.findByUserIdIn(
+                        dtos.stream().map(dto -> dto.userAccountDto().userId()).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(UserAccount::getUserId, Function.identity()));
+
+        Map<Long, CommentStatsDelta> deltas = new LinkedHashMap<>();
+        for (ArticleCommentDto dto : dtos) {
+            UserAccount userAccount = userAccounts.get(dto.userAccountDto().userId());
+            if (userAccount == null) {
+                throw new EntityNotFoundException("댓글 작성자를 찾을 수 없습니다 - userId: " + dto.userAccountDto().userId());
+            }
+            ArticleComment articleComment = dto.toEntity(articleRepository.getReferenceById(dto.articleId()), userAccount);
+            articleCommentRepository.save(articleComment);
+            deltas.merge(dto.articleId(), new CommentStatsDelta(1, articleComment.getCreatedAt()), CommentStatsDelta::plus);
+        }
+        deltas.forEach((articleId, delta) -> articleRepository.increaseCommentCount(articleId, delta.count(), delta.lastCommentedAt()));
     }
 
     public void updateArticleComment(ArticleCommentDto dto) {
@@ -49,8 +135,41 @@ public class ArticleCommentService {
     }
 
     public void deleteArticleComment(Long articleCommentId) {
+        // 삭제 후에는 어느 게시글의 댓글이었는지 알 수 없으므로 먼저 읽어 둔다. deleteById 도 같은 엔티티를 읽으므로 쿼리는 늘지 않는다.
+        Long articleId = articleCommentRepository.findById(articleCommentId)
+                .map(articleComment -> articleComment.getArticle().getId())
+                .orElse(null);
         articleCommentRepository.deleteById(articleCommentId);
+        if (articleId != null) {
+            articleRepository.refreshCommentStats(articleId, articleId);
+        }
     }
 
+    /**
+     * Data REST 로 만든 댓글의 게시글 댓글 수를 올린다. 저장 트랜잭션이 커밋된 뒤에 불리므로 그 사이 어긋난 값은 보정 작업이 바로잡는다.
+     */
+    @HandleAfterCreate
+    public void onRestCreate(ArticleComment articleComment) {
+        articleRepository.increaseCommentCount(articleComment.getArticle().getId(), 1, articleComment.getCreatedAt());
+    }
+
+    /**
+     * Data REST 로 지운 댓글의 게시글 댓글 수와 마지막 댓글 시각을 다시 계산한다.
+     */
+    @HandleAfterDelete
+    public void onRestDelete(ArticleComment articleComment) {
+        Long articleId = articleComment.getArticle().getId();
+        articleRepository.refreshCommentStats(articleId, articleId);
+    }
+
+
+    private record CommentStatsDelta(long count, LocalDateTime lastCommentedAt) {
+        CommentStatsDelta plus(CommentStatsDelta other) {
+            LocalDateTime last = lastCommentedAt == null || (other.lastCommentedAt != null && other.lastCommentedAt.isAfter(lastCommentedAt))
+                    ? other.lastCommentedAt
+                    : lastCommentedAt;
+            return new CommentStatsDelta(count + other.count, last);
+        }
+    }
 
 }
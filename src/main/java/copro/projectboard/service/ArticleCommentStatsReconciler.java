@@ -0,0 +1,64 @@
+package copro.projectboard.service;
+
+import copro.projectboard.config.CommentStatsConfig.CommentStatsProperties;
+import copro.projectboard.event.ArticleImportedEvent;
+import copro.projectboard.repository.ArticleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 게시글의 댓글 수/마지막 댓글 시각을 댓글 테이블 기준으로 다시 맞춘다.
+ * 평소에는 {@link ArticleCommentService} 가 댓글 쓰기와 같은 트랜잭션에서 갱신하므로, Data REST 나 SQL 로 댓글을 직접 바꾼 경우의 오차만 바로잡는다.
+ * <p>
+ * 게시글 ID 범위마다 따로 커밋해서, 한 번에 게시글 테이블 전체를 잠그지 않는다.
+ */
+@Slf4j
+@Service
+public class ArticleCommentStatsReconciler {
+
+    private final ArticleRepository articleRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final CommentStatsProperties properties;
+
+    public ArticleCommentStatsReconciler(
+            ArticleRepository articleRepository,
+            PlatformTransactionManager transactionManager,
+            CommentStatsProperties properties
+    ) {
+        this.articleRepository = articleRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+    }
+
+    /**
+     * 대량 적재(시드 포함)는 댓글을 JDBC 로 바로 넣을 수 있으므로 끝나면 전체를 다시 맞춘다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleImported(ArticleImportedEvent event) {
+        reconcile();
+    }
+
+    @Scheduled(
+            fixedDelayString = "${board.comment-stats.reconcile-interval:PT1H}",
+            initialDelayString = "${board.comment-stats.reconcile-interval:PT1H}"
+    )
+    public long reconcile() {
+        long startedAt = System.currentTimeMillis();
+        long maxId = articleRepository.findMaxId();
+        long batchSize = properties.getReconcileBatchSize();
+
+        long articles = 0L;
+        for (long fromId = 1; fromId <= maxId; fromId += batchSize) {
+            long from = fromId;
+            Integer updated = transactionTemplate.execute(status -> articleRepository.refreshCommentStats(from, from + batchSize - 1));
+            articles += updated == null ? 0 : updated;
+        }
+        log.info("댓글 수 보정 완료 - articles: {}, elapsed: {}ms", articles, System.currentTimeMillis() - startedAt);
+        return articles;
+    }
+
+}
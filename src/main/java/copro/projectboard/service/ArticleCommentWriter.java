@@ -0,0 +1,183 @@
+package copro.projectboard.service;
+
+import copro.projectboard.config.CommentWriteBehindConfig.AckMode;
+import copro.projectboard.config.CommentWriteBehindConfig.CommentWriteBehindProperties;
+import copro.projectboard.dto.ArticleCommentDto;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 댓글 쓰기 진입점. 기본은 {@link ArticleCommentService#saveArticleComment} 를 그대로 부르는 동기 저장이다.
+ * <p>
+ * write-behind 를 켜면 댓글을 큐에 넣고, 전용 스레드 하나가 쌓인 만큼(최대 batchSize) 꺼내 한 트랜잭션으로 저장한다.
+ * 이전 묶음을 저장하는 동안 들어온 댓글이 다음 묶음으로 합쳐지므로, 몰릴수록 트랜잭션 수가 줄어든다.
+ * 저장 스레드가 하나이므로 댓글은 큐에 들어온 순서대로, 즉 게시글마다 요청 순서대로 저장된다.
+ */
+@Slf4j
+@Component
+public class ArticleCommentWriter {
+
+    private static final long POLL_TIMEOUT_MILLIS = 100L;
+
+    private final ArticleCommentService articleCommentService;
+    private final CommentWriteBehindProperties properties;
+    private final BlockingQueue<PendingComment> queue;
+    private final Timer flushTimer;
+    private final DistributionSummary batchSummary;
+    private final ExecutorService executor;
+
+    private volatile boolean running;
+
+    public ArticleCommentWriter(
+            ArticleCommentService articleCommentService,
+            CommentWriteBehindProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.articleCommentService = articleCommentService;
+        this.properties = properties;
+        this.queue = new LinkedBlockingQueue<>(properties.getQueueCapacity());
+        Gauge.builder("board.comment.write-behind.queue", queue, BlockingQueue::size)
+                .description("저장을 기다리는 댓글 수")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("board.comment.write-behind.flush")
+                .description("댓글 묶음 하나를 저장하는 데 걸린 시간")
+                .register(meterRegistry);
+        this.batchSummary = DistributionSummary.builder("board.comment.write-behind.batch")
+                .description("한 트랜잭션으로 저장한 댓글 수")
+                .register(meterRegistry);
+
+        if (properties.isEnabled()) {
+            this.executor = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("comment-write-behind-"));
+            this.running = true;
+            executor.execute(this::drain);
+        } else {
+            this.executor = null;
+        }
+    }
+
+    /**
+     * 댓글을 저장하거나 저장 큐에 넣는다.
+     * <p>
+     * ack 모드가 NONE 이거나, FLUSH 모드에서 ackTimeout 안에 커밋되지 않으면 false 를 돌려준다.
+     * 이때 댓글은 여전히 큐에 있어 곧 저장되므로, 다시 보내면 중복된다.
+     *
+     * @return 돌아올 때 댓글이 커밋되었는지 여부
+     */
+    public boolean write(ArticleCommentDto dto) {
+        if (!properties.isEnabled()) {
+            articleCommentService.saveArticleComment(dto);
+            return true;
+        }
+
+        PendingComment pending = new PendingComment(dto, new CompletableFuture<>());
+        try {
+            if (!running || !queue.offer(pending, properties.getEnqueueTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new RejectedExecutionException("댓글 쓰기 큐가 가득 찼습니다 - queueSize: " + queue.size());
+            }
+            if (properties.getAckMode() == AckMode.NONE) {
+                return false;
+            }
+            pending.flushed().get(properties.getAckTimeout().toMillis(), TimeUnit.MILLISECONDS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("댓글 저장을 기다리다 중단되었습니다 - dto: " + dto, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            log.warn("댓글 저장 확인 시간 초과. 큐에 남아 있어 곧 저장됩니다 - dto: {}", dto);
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        if (executor == null) {
+            return;
+        }
+        running = false;
+        executor.shutdown();
+        if (!executor.awaitTermination(properties.getShutdownTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+            executor.shutdownNow();
+        }
+
+        List<PendingComment> unsaved = new ArrayList<>();
+        queue.drainTo(unsaved);
+        if (!unsaved.isEmpty()) {
+            log.error("종료 시간 안에 저장하지 못한 댓글이 있습니다 - size: {}", unsaved.size());
+            unsaved.forEach(pending -> pending.flushed().completeExceptionally(
+                    new RejectedExecutionException("댓글 쓰기 큐가 종료되었습니다")));
+        }
+    }
+
+    private void drain() {
+        List<PendingComment> batch = new ArrayList<>(properties.getBatchSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingComment first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, properties.getBatchSize() - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 묶음 저장이 실패하면 한 건씩 다시 저장해서, 문제 있는 댓글 하나 때문에 나머지가 버려지지 않게 한다.
+     */
+    private void flush(List<PendingComment> batch) {
+        long start = System.nanoTime();
+        try {
+            articleCommentService.saveArticleComments(batch.stream().map(PendingComment::dto).toList());
+            batch.forEach(pending -> pending.flushed().complete(null));
+        } catch (RuntimeException e) {
+            log.warn("댓글 묶음 저장 실패. 한 건씩 다시 저장합니다 - size: {}", batch.size(), e);
+            batch.forEach(this::saveOne);
+        } finally {
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            batchSummary.record(batch.size());
+        }
+    }
+
+    private void saveOne(PendingComment pending) {
+        try {
+            articleCommentService.saveArticleComment(pending.dto());
+            pending.flushed().complete(null);
+        } catch (RuntimeException e) {
+            log.error("댓글 저장 실패 - dto: {}", pending.dto(), e);
+            pending.flushed().completeExceptionally(e);
+        }
+    }
+
+    private record PendingComment(ArticleCommentDto dto, CompletableFuture<Void> flushed) {}
+
+}
@@ -0,0 +1,124 @@
+package copro.projectboard.service;
+
+import copro.projectboard.config.ArticleCountConfig.ArticleCountProperties;
+import copro.projectboard.domain.type.SearchType;
+import copro.projectboard.event.ArticleEvent;
+import copro.projectboard.event.ArticleImportedEvent;
+import copro.projectboard.repository.ArticleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 게시글 수를 매 요청마다 count(*) 하지 않도록 메모리에서 유지한다.
+ * 전체 게시글 수는 쓰기 이벤트로 갱신하고 주기적으로 DB 와 맞춘다.
+ * 검색 조건별 게시글 수는 근사치이며, 정해진 시간 동안만 재사용한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ArticleCountService {
+
+    private static final long NOT_LOADED = -1L;
+
+    private final ArticleRepository articleRepository;
+    private final ArticleCountProperties properties;
+
+    private final AtomicLong totalCount = new AtomicLong(NOT_LOADED);
+    private final Map<EstimateKey, Estimate> estimates = new ConcurrentHashMap<>();
+
+    public long getTotalCount() {
+        long count = totalCount.get();
+        return count == NOT_LOADED ? reconcile() : count;
+    }
+
+    /**
+     * 검색 조건에 맞는 게시글 수의 근사치. DB count 결과를 잠시 재사용한다.
+     * 제목/본문 검색에서 색인 후보가 있으면 호출자가 후보 수(실제 결과의 상한)를 바로 쓰므로 여기까지 오지 않는다.
+     */
+    public long estimateCount(SearchType searchType, String searchKeyword) {
+        if (searchType == null || searchKeyword == null || searchKeyword.isBlank()) {
+            return getTotalCount();
+        }
+
+        return estimate(new EstimateKey(searchType, searchKeyword), () -> articleRepository.countBySearch(searchType, searchKeyword));
+    }
+
+    /**
+     * DB 전문 검색 결과 수의 근사치. 목록과 같은 전문 색인으로 세므로 LIKE 로 테이블을 훑지 않는다.
+     */
+    public long estimateFullTextCount(SearchType searchType, String searchKeyword) {
+        return estimate(new EstimateKey(searchType, searchKeyword), () -> articleRepository.countByFullText(searchType, searchKeyword));
+    }
+
+    /**
+     * 회원 색인으로 찾은 작성자의 게시글 수 근사치. 회원 조인 LIKE 대신 작성자 IN 조건으로 세며, 같은 검색 조건의 결과와 함께 재사용한다.
+     */
+    public long estimateCountByUserAccounts(SearchType searchType, String searchKeyword, Collection<Long> userAccountIds) {
+        if (userAccountIds.isEmpty()) {
+            return 0L;
+        }
+        return estimate(new EstimateKey(searchType, searchKeyword), () -> articleRepository.countByUserAccountIds(userAccountIds));
+    }
+
+    private long estimate(EstimateKey key, LongSupplier counter) {
+        long now = System.currentTimeMillis();
+        Estimate estimate = estimates.get(key);
+        if (estimate != null && now - estimate.computedAt() < properties.getEstimateTtl().toMillis()) {
+            return estimate.count();
+        }
+
+        if (estimates.size() >= properties.getMaxEstimates()) {
+            estimates.values().removeIf(it -> now - it.computedAt() >= properties.getEstimateTtl().toMillis());
+            if (estimates.size() >= properties.getMaxEstimates()) {
+                estimates.clear();
+            }
+        }
+
+        long count = counter.getAsLong();
+        estimates.put(key, new Estimate(count, now));
+        return count;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleEvent(ArticleEvent event) {
+        switch (event.type()) {
+            case SAVED -> totalCount.getAndUpdate(count -> count == NOT_LOADED ? NOT_LOADED : count + 1);
+            case DELETED -> totalCount.getAndUpdate(count -> count == NOT_LOADED ? NOT_LOADED : Math.max(count - 1, 0));
+            default -> { }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleImported(ArticleImportedEvent event) {
+        estimates.clear();
+        reconcile();
+    }
+
+    /**
+     * 이벤트 누락이나 다른 경로(Data REST, SQL 직접 수정)로 생긴 오차를 DB 기준으로 바로잡는다.
+     */
+    @Scheduled(fixedDelayString = "${board.article-count.reconcile-interval:PT5M}")
+    public long reconcile() {
+        long actual = articleRepository.count();
+        long previous = totalCount.getAndSet(actual);
+        if (previous != NOT_LOADED && previous != actual) {
+            log.info("게시글 수 보정 - 메모리: {}, DB: {}", previous, actual);
+        }
+        return actual;
+    }
+
+
+    private record EstimateKey(SearchType searchType, String searchKeyword) {}
+
+    private record Estimate(long count, long computedAt) {}
+
+}
@@ -1,18 +1,34 @@
 package copro.projectboard.service;
 
+import copro.projectboard.config.CacheConfig;
 import copro.projectboard.domain.Article;
 import copro.projectboard.domain.type.SearchType;
 import copro.projectboard.dto.ArticleDto;
+import copro.projectboard.dto.ArticleSummaryDto;
 import copro.projectboard.dto.ArticleWithCommentsDto;
+import copro.projectboard.dto.HashtagCountDto;
+import copro.projectboard.dto.KeysetCursor;
+import copro.projectboard.dto.response.ArticleResponse;
+import copro.projectboard.repository.ArticleCommentRepository;
 import copro.projectboard.repository.ArticleRepository;
+import copro.projectboard.search.ArticleSearchIndex;
+import copro.projectboard.search.FullTextIndexInitializer;
+import copro.projectboard.search.HashtagIndex;
+import copro.projectboard.search.UserAccountIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityNotFoundException;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 @RequiredArgsConstructor
 @Service
@@ -20,34 +36,146 @@ import javax.persistence.EntityNotFoundException;
 @Slf4j
 public class ArticleService {
 
-    private final ArticleRepository articleRepository;
+    public static final int DETAIL_COMMENT_SIZE = 20;
 
+    private final ArticleRepository articleRepository;
+    private final ArticleCommentRepository articleCommentRepository;
+    private final ArticleSearchIndex articleSearchIndex;
+    private final ArticleCountService articleCountService;
+    private final HashtagService hashtagService;
+    private final HashtagIndex hashtagIndex;
+    private final UserAccountIndex userAccountIndex;
+    private final FullTextIndexInitializer fullTextIndexInitializer;
+
+    /**
+     * 목록은 본문을 뺀 요약으로 읽는다. 목록 조회에서 count 쿼리를 따로 날리지 않는다. 전체 건수는 {@link ArticleCountService} 의 추정치를 쓰고,
+     * 마지막 페이지에 도달하면 실제 건수로 맞춘다.
+     * 검색어 없는 앞쪽 {@link CacheConfig#CACHED_ARTICLE_PAGES} 페이지는 캐시하고, 게시글 쓰기 이벤트로 비운다.
+     * 댓글 수/최근 활동순 정렬은 댓글마다 순서가 바뀌므로 캐시하지 않는다.
+     */
+    @Cacheable(
+            cacheNames = CacheConfig.ARTICLE_PAGES,
+            key = "#pageable.pageNumber + ':' + #pageable.pageSize + ':' + #pageable.sort",
+            condition = "(#searchKeyword == null || #searchKeyword.isBlank()) && #pageable.paged"
+                    + " && #pageable.pageNumber < T(copro.projectboard.config.CacheConfig).CACHED_ARTICLE_PAGES"
+                    + " && #pageable.sort.getOrderFor('commentCount') == null && #pageable.sort.getOrderFor('lastCommentedAt') == null"
+    )
     @Transactional(readOnly = true)
-    public Page<ArticleDto> searchArticles(SearchType searchType, String searchKeyword, Pageable pageable) {
+    public Page<ArticleSummaryDto> searchArticles(SearchType searchType, String searchKeyword, Pageable pageable) {
         if (searchKeyword == null || searchKeyword.isBlank()) {
-            return articleRepository.findAll(pageable).map(ArticleDto::from);
+            Slice<ArticleSummaryDto> articles = articleRepository.findSliceBySearch(null, null, null, pageable);
+            return toEstimatedPage(articles, articleCountService.getTotalCount());
+        }
+
+        if (searchType == SearchType.HASHTAG) {
+            Optional<Set<Long>> articleIds = hashtagIndex.findArticleIds(searchKeyword);
+            if (articleIds.isPresent()) {
+                return searchArticlesByHashtagIndex(searchKeyword, articleIds.get(), pageable);
+            }
+        }
+
+        // ID/닉네임 검색은 회원 색인으로 작성자를 먼저 찾고, 회원 조인 LIKE 대신 작성자 IN 조건으로 페이징한다.
+        if (searchType == SearchType.ID || searchType == SearchType.NICKNAME) {
+            Optional<Set<Long>> userAccountIds = userAccountIndex.findUserAccountIds(searchType, searchKeyword);
+            if (userAccountIds.isPresent()) {
+                return searchArticlesByUserAccountIds(searchType, searchKeyword, userAccountIds.get(), pageable);
+            }
+        }
+
+        // 전문 검색을 켠 검색 유형은 DB 가 관련도 순으로 찾는다. 전체 건수도 같은 전문 색인으로 센 근사치를 쓴다.
+        // 전문 색인이 아직 없으면 아래 in-process 색인/LIKE 검색으로 돈다.
+        if (fullTextIndexInitializer.isReadyFor(searchType)) {
+            Slice<ArticleSummaryDto> articles = articleRepository.findSliceByFullText(searchType, searchKeyword, pageable);
+            return toEstimatedPage(articles, articleCountService.estimateFullTextCount(searchType, searchKeyword));
+        }
+
+        // 제목/본문 검색은 역색인으로 후보 ID 를 먼저 좁힌다. 색인을 쓸 수 없으면 전체 LIKE 검색이 된다.
+        Optional<Set<Long>> candidates = articleSearchIndex.findCandidates(searchType, searchKeyword);
+        if (candidates.isPresent() && candidates.get().isEmpty()) {
+            return Page.empty(pageable);
         }
 
-         return   switch (searchType){
-            case TITLE -> articleRepository.findByTitleContaining(searchKeyword, pageable).map(ArticleDto::from);
-            case CONTENT -> articleRepository.findByContentContaining(searchKeyword, pageable).map(ArticleDto::from);
-            case ID -> articleRepository.findByUserAccount_UserIdContaining(searchKeyword, pageable).map(ArticleDto::from);
-            case NICKNAME -> articleRepository.findByUserAccount_NicknameContaining(searchKeyword, pageable).map(ArticleDto::from);
-            case HASHTAG -> articleRepository.findByHashtag(searchKeyword, pageable).map(ArticleDto::from);
-        };
+        // 후보 수가 실제 결과의 상한이므로 그대로 전체 건수 추정치로 쓴다. 색인을 한 번만 읽도록 여기서 넘긴다.
+        Slice<ArticleSummaryDto> articles = articleRepository.findSliceBySearch(searchType, searchKeyword, candidates.orElse(null), pageable);
+        long estimatedTotal = candidates.isPresent()
+                ? candidates.get().size()
+                : articleCountService.estimateCount(searchType, searchKeyword);
+        return toEstimatedPage(articles, estimatedTotal);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<ArticleSummaryDto> searchArticlesViaHashtag(String hashtag, Pageable pageable) {
+        if (hashtag == null || hashtag.isBlank()) {
+            return Page.empty(pageable);
+        }
+        return searchArticles(SearchType.HASHTAG, hashtag, pageable);
+    }
 
+    public List<HashtagCountDto> getTopHashtags() {
+        return hashtagIndex.getTopHashtags();
     }
 
+    /**
+     * ID/닉네임 검색어 자동 완성. 회원 색인에서 앞부분이 같은 값을 찾으므로 DB 를 읽지 않는다.
+     */
+    public List<String> getSearchSuggestions(SearchType searchType, String prefix) {
+        return userAccountIndex.suggest(searchType, prefix);
+    }
+
+    /**
+     * keyset 페이징용 검색. 다음/이전 페이지가 있는지 알 수 있도록 size 보다 하나 더 읽어서 최신순으로 돌려준다.
+     * ID/닉네임 검색은 목록 검색과 같이 회원 색인으로 작성자를 먼저 찾는다.
+     */
+    @Transactional(readOnly = true)
+    public List<ArticleSummaryDto> searchArticlesByCursor(SearchType searchType, String searchKeyword, KeysetCursor cursor, int size) {
+        if ((searchType == SearchType.ID || searchType == SearchType.NICKNAME) && searchKeyword != null && !searchKeyword.isBlank()) {
+            Optional<Set<Long>> userAccountIds = userAccountIndex.findUserAccountIds(searchType, searchKeyword);
+            if (userAccountIds.isPresent()) {
+                return userAccountIds.get().isEmpty()
+                        ? List.of()
+                        : articleRepository.findByCursorAndUserAccountIds(userAccountIds.get(), cursor, size + 1);
+            }
+        }
+        return articleRepository.findByCursor(searchType, searchKeyword, cursor, size + 1);
+    }
+
+    /**
+     * 게시글(+작성자) 한 번, 댓글(+작성자) 한 번, 총 두 번의 쿼리로 상세 화면을 만든다.
+     * 댓글은 최신순 첫 페이지만 읽는다. 더보기 여부를 알 수 있도록 {@link #DETAIL_COMMENT_SIZE} 보다 하나 더 읽는다.
+     * 결과는 캐시하고, 게시글/댓글 쓰기 이벤트로 해당 게시글만 지운다.
+     */
+    @Cacheable(cacheNames = CacheConfig.ARTICLE_DETAIL, key = "#articleId")
     @Transactional(readOnly = true)
     public ArticleWithCommentsDto getArticle(Long articleId) {
         return articleRepository.findById(articleId)
-                .map(ArticleWithCommentsDto::from)
+                .map(article -> ArticleWithCommentsDto.from(
+                        article,
+                        articleCommentRepository.findByCursor(articleId, null, DETAIL_COMMENT_SIZE + 1)
+                ))
                 .orElseThrow(()-> new EntityNotFoundException("게시글이 없습니다 - articleId: "+ articleId));
     }
 
-    public void saveArticle(ArticleDto dto) {
-        articleRepository.save(dto.toEntity());
+    /**
+     * JSON API 용. 엔티티를 거치지 않고 응답 레코드로 바로 읽으며, count 쿼리를 날리지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public Slice<ArticleResponse> getArticleResponses(Pageable pageable) {
+        return articleRepository.findResponseSlice(pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public ArticleResponse getArticleResponse(Long articleId) {
+        return articleRepository.findResponseById(articleId)
+                .orElseThrow(() -> new EntityNotFoundException("게시글이 없습니다 - articleId: " + articleId));
+    }
 
+    /**
+     * 쓰기 이벤트({@link copro.projectboard.event.ArticleEvent})는 엔티티 리스너가 발행한다.
+     */
+    public void saveArticle(ArticleDto dto) {
+        Article article = dto.toEntity();
+        article.replaceHashtags(hashtagService.findOrCreateHashtags(dto.hashtag()));
+        articleRepository.save(article);
     }
 
     public void updateArticle(ArticleDto dto) {
@@ -55,6 +183,7 @@ public class ArticleService {
         if(dto.title() != null) { article.setTitle(dto.title()); }
         if(dto.content() != null) {article.setContent(dto.content()); }
         article.setHashtag(dto.hashtag());
+        article.replaceHashtags(hashtagService.findOrCreateHashtags(dto.hashtag()));
         } catch (EntityNotFoundException e){
            log.warn("게시글 업데이트 실패. 게시글을 찾을 수 없습니다. -dto: {}", dto);
        }
@@ -67,7 +196,46 @@ public class ArticleService {
     }
 
     public long getArticleCount() {
-        return articleRepository.count();
+        return articleCountService.getTotalCount();
+    }
+
+    /**
+     * 해시태그 색인은 정확하므로 게시글 수를 그대로 전체 건수로 쓴다.
+     * 게시글이 많은 해시태그는 긴 IN 목록 대신 조인 조건만으로 DB 에서 페이징한다.
+     */
+    private Page<ArticleSummaryDto> searchArticlesByHashtagIndex(String hashtag, Set<Long> articleIds, Pageable pageable) {
+        if (articleIds.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        Set<Long> candidates = articleIds.size() <= hashtagIndex.getMaxCandidates() ? articleIds : null;
+        Slice<ArticleSummaryDto> articles = articleRepository.findSliceBySearch(SearchType.HASHTAG, hashtag, candidates, pageable);
+        return toEstimatedPage(articles, articleIds.size());
+    }
+
+    private Page<ArticleSummaryDto> searchArticlesByUserAccountIds(SearchType searchType, String searchKeyword, Set<Long> userAccountIds, Pageable pageable) {
+        if (userAccountIds.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        Slice<ArticleSummaryDto> articles = articleRepository.findSliceByUserAccountIds(userAccountIds, pageable);
+        return toEstimatedPage(articles, articleCountService.estimateCountByUserAccounts(searchType, searchKeyword, userAccountIds));
+    }
+
+    private <T> Page<T> toEstimatedPage(Slice<T> slice, long estimatedTotal) {
+        Pageable pageable = slice.getPageable();
+        long offset = pageable.isPaged() ? pageable.getOffset() : 0L;
+        long seen = offset + slice.getNumberOfElements();
+
+        long total;
+        if (slice.getContent().isEmpty()) {
+            total = Math.min(estimatedTotal, offset);
+        } else if (slice.hasNext()) {
+            total = Math.max(estimatedTotal, seen + 1);
+        } else {
+            total = seen;
+        }
+        return new PageImpl<>(slice.getContent(), pageable, total);
     }
 
 }
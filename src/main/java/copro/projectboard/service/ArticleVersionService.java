@@ -0,0 +1,59 @@
+package copro.projectboard.service;
+
+import copro.projectboard.dto.ArticleVersion;
+import copro.projectboard.event.ArticleCommentEvent;
+import copro.projectboard.event.ArticleEvent;
+import copro.projectboard.event.ArticleImportedEvent;
+import copro.projectboard.repository.ArticleRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * HTTP 조건부 요청에 쓸 버전. 게시글 하나는 DB 의 modifiedAt 으로, 목록은 게시판 전체 버전 카운터로 판단한다.
+ * <p>
+ * 게시판 버전은 게시글/댓글 쓰기가 커밋될 때마다 올라간다. 이벤트는 엔티티 리스너가 발행하므로 서비스를 거치지 않는 Data REST 쓰기도 포함하고,
+ * {@link ArticleCacheEvictor} 가 같은 이벤트로 상세 캐시를 지우므로 새 ETag 에 옛 캐시 본문이 실리지 않는다.
+ * 재시작 전 ETag 가 우연히 맞지 않도록 기동 시각에서 시작한다.
+ */
+@RequiredArgsConstructor
+@Service
+public class ArticleVersionService {
+
+    private final ArticleRepository articleRepository;
+
+    private final AtomicLong boardVersion = new AtomicLong(System.currentTimeMillis());
+
+    @Transactional(readOnly = true)
+    public Optional<ArticleVersion> getArticleVersion(Long articleId) {
+        return articleRepository.findVersionById(articleId);
+    }
+
+    public String getBoardEtag(Object... variants) {
+        return Arrays.stream(variants)
+                .map(String::valueOf)
+                .collect(Collectors.joining("-", "\"b" + boardVersion.get() + "-", "\""));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleEvent(ArticleEvent event) {
+        boardVersion.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleCommentEvent(ArticleCommentEvent event) {
+        boardVersion.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleImported(ArticleImportedEvent event) {
+        boardVersion.incrementAndGet();
+    }
+
+}
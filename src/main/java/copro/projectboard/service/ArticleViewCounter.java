@@ -0,0 +1,143 @@
+package copro.projectboard.service;
+
+import copro.projectboard.config.ViewCountConfig.ViewCountProperties;
+import copro.projectboard.dto.ArticleViewCountDto;
+import copro.projectboard.event.ArticleEvent;
+import copro.projectboard.repository.ArticleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회수. 조회마다 게시글 행을 갱신하면 인기 글에서 행 잠금을 기다리게 되므로,
+ * 게시글마다 {@link LongAdder} 에 모았다가 주기적으로 batch update 한 번으로 더한다.
+ * <p>
+ * 조회수는 근사치다. 한 주기 동안 조회가 없던 게시글의 카운터를 지우는 순간 들어온 조회나, 강제 종료 직전 주기의 조회는 잃을 수 있다.
+ * 조회수 상위 목록은 반영할 때마다 DB 에서 다시 읽어 두고, 그 사이에는 아직 반영하지 않은 조회수를 더해서 메모리에서 돌려준다.
+ */
+@Slf4j
+@Service
+public class ArticleViewCounter {
+
+    private static final String ADD_VIEW_COUNT = "update article set view_count = view_count + ? where id = ?";
+
+    private final ArticleRepository articleRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ViewCountProperties properties;
+
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    private volatile List<ArticleViewCountDto> mostViewed = List.of();
+
+    public ArticleViewCounter(
+            ArticleRepository articleRepository,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ViewCountProperties properties
+    ) {
+        this.articleRepository = articleRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+    }
+
+    public void increment(Long articleId) {
+        pending.computeIfAbsent(articleId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * 아직 DB 에 더하지 않은 조회수
+     */
+    public long getPendingViews(Long articleId) {
+        LongAdder views = pending.get(articleId);
+        return views == null ? 0L : views.sum();
+    }
+
+    /**
+     * 조회수 상위 게시글. DB 를 읽지 않는다. size 는 board.view-count.top-size 를 넘을 수 없다.
+     */
+    public List<ArticleViewCountDto> getMostViewed(int size) {
+        return mostViewed.stream()
+                .map(article -> article.plus(getPendingViews(article.articleId())))
+                .sorted(Comparator.comparingLong(ArticleViewCountDto::viewCount).reversed())
+                .limit(Math.max(0, Math.min(size, properties.getTopSize())))
+                .toList();
+    }
+
+    /**
+     * 모은 조회수를 DB 에 더한다. 실패하면 다음 주기에 다시 더하도록 되돌려 놓는다.
+     *
+     * @return 조회수를 더한 게시글 수
+     */
+    @Scheduled(fixedDelayString = "${board.view-count.flush-interval:PT10S}")
+    public synchronized int flush() {
+        List<ViewDelta> deltas = new ArrayList<>();
+        pending.forEach((articleId, views) -> {
+            long sum = views.sumThenReset();
+            if (sum > 0) {
+                deltas.add(new ViewDelta(articleId, sum));
+            } else {
+                // 한 주기 동안 조회가 없던 게시글은 지워서 카운터가 계속 늘어나지 않게 한다.
+                pending.remove(articleId, views);
+            }
+        });
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+                    ADD_VIEW_COUNT, deltas, properties.getFlushBatchSize(), (ps, delta) -> {
+                        ps.setLong(1, delta.views());
+                        ps.setLong(2, delta.articleId());
+                    }));
+        } catch (DataAccessException e) {
+            deltas.forEach(delta -> pending.computeIfAbsent(delta.articleId(), id -> new LongAdder()).add(delta.views()));
+            log.warn("조회수 반영 실패. 다음 주기에 다시 시도합니다 - articles: {}", deltas.size(), e);
+            return 0;
+        }
+
+        refreshMostViewed();
+        return deltas.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void refreshMostViewed() {
+        mostViewed = articleRepository.findMostViewed(PageRequest.of(0, properties.getTopSize()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleEvent(ArticleEvent event) {
+        if (event.type() == ArticleEvent.Type.DELETED) {
+            pending.remove(event.articleId());
+            mostViewed = mostViewed.stream()
+                    .filter(article -> !article.articleId().equals(event.articleId()))
+                    .toList();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+
+    private record ViewDelta(Long articleId, long views) {}
+
+}
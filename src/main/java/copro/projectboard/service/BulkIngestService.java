@@ -0,0 +1,260 @@
+package copro.projectboard.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import copro.projectboard.config.BulkIngestConfig.BulkIngestProperties;
+import copro.projectboard.dto.BulkIngestResult;
+import copro.projectboard.dto.request.ArticleBulkRequest;
+import copro.projectboard.dto.request.ArticleCommentBulkRequest;
+import copro.projectboard.event.ArticleCommentEvent;
+import copro.projectboard.event.ArticleImportedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * NDJSON 대량 적재. 엔티티와 영속성 컨텍스트를 거치지 않고 JDBC batch insert 로 쓴다.
+ * IDENTITY 키에서는 Hibernate 가 insert 를 batch 로 묶지 못하기 때문이다.
+ * <p>
+ * commitSize 행마다 따로 커밋하므로 클래스 단위 {@code @Transactional} 을 쓰지 않는다.
+ * 한 묶음을 다 쓴 뒤에야 다음 줄을 읽으므로, 클라이언트는 DB 가 소화하는 속도 이상으로 밀어 넣을 수 없다.
+ */
+@Slf4j
+@Service
+public class BulkIngestService {
+
+    private static final int TITLE_MAX_LENGTH = 255;
+    private static final int CONTENT_MAX_LENGTH = 10000;
+    private static final int HASHTAG_MAX_LENGTH = 255;
+    private static final int COMMENT_MAX_LENGTH = 500;
+
+    private static final String INSERT_ARTICLE = """
+            insert into article (user_account_id, title, content, hashtag, created_at, created_by, modified_at, modified_by)
+            values (?, ?, ?, ?, ?, ?, ?, ?)""";
+    private static final String INSERT_ARTICLE_COMMENT = """
+            insert into article_comment (article_id, user_account_id, content, created_at, created_by, modified_at, modified_by)
+            values (?, ?, ?, ?, ?, ?, ?)""";
+    private static final String INCREASE_COMMENT_COUNT = """
+            update article set comment_count = comment_count + ?, last_commented_at = coalesce(greatest(last_commented_at, ?), ?)
+            where id = ?""";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BulkIngestProperties properties;
+
+    public BulkIngestService(
+            NamedParameterJdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            ApplicationEventPublisher eventPublisher,
+            BulkIngestProperties properties
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+    }
+
+    public BulkIngestResult ingestArticles(InputStream ndjson) throws IOException {
+        BulkIngestResult result = ingest(ndjson, ArticleBulkRequest.class, this::writeArticles);
+        if (result.insertedRows() > 0) {
+            eventPublisher.publishEvent(ArticleImportedEvent.of(result.insertedRows()));
+        }
+        log.info("게시글 대량 적재 완료 - {}", result);
+        return result;
+    }
+
+    public BulkIngestResult ingestArticleComments(InputStream ndjson) throws IOException {
+        BulkIngestResult result = ingest(ndjson, ArticleCommentBulkRequest.class, this::writeArticleComments);
+        log.info("댓글 대량 적재 완료 - {}", result);
+        return result;
+    }
+
+    private <T> BulkIngestResult ingest(InputStream ndjson, Class<T> type, Function<List<T>, Integer> writer) throws IOException {
+        long startedAt = System.currentTimeMillis();
+        long inserted = 0L;
+        long skipped = 0L;
+        long lineNumber = 0L;
+        List<T> chunk = new ArrayList<>(properties.getCommitSize());
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(ndjson, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                try {
+                    chunk.add(objectMapper.readValue(line, type));
+                } catch (JsonProcessingException e) {
+                    log.warn("대량 적재 - 읽을 수 없는 줄을 건너뜁니다 - line: {}, message: {}", lineNumber, e.getOriginalMessage());
+                    skipped++;
+                    continue;
+                }
+
+                if (chunk.size() >= properties.getCommitSize()) {
+                    int written = commit(chunk, writer);
+                    inserted += written;
+                    skipped += chunk.size() - written;
+                    chunk.clear();
+                }
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            int written = commit(chunk, writer);
+            inserted += written;
+            skipped += chunk.size() - written;
+        }
+        return BulkIngestResult.of(inserted, skipped, System.currentTimeMillis() - startedAt);
+    }
+
+    private <T> int commit(List<T> chunk, Function<List<T>, Integer> writer) {
+        Integer written = transactionTemplate.execute(status -> writer.apply(chunk));
+        return written == null ? 0 : written;
+    }
+
+    private int writeArticles(List<ArticleBulkRequest> rows) {
+        Map<String, Long> userAccountIds = findUserAccountIds(rows.stream().map(ArticleBulkRequest::userId).collect(Collectors.toSet()));
+        LocalDateTime now = LocalDateTime.now();
+
+        List<ArticleBulkRequest> valid = rows.stream()
+                .filter(row -> {
+                    boolean ok = userAccountIds.containsKey(row.userId())
+                            && hasText(row.title(), TITLE_MAX_LENGTH)
+                            && hasText(row.content(), CONTENT_MAX_LENGTH)
+                            && (row.hashtag() == null || row.hashtag().length() <= HASHTAG_MAX_LENGTH);
+                    if (!ok) {
+                        log.warn("게시글 대량 적재 - 작성자가 없거나 값이 올바르지 않아 건너뜁니다 - userId: {}, title: {}", row.userId(), row.title());
+                    }
+                    return ok;
+                })
+                .toList();
+
+        jdbcTemplate.getJdbcTemplate().batchUpdate(INSERT_ARTICLE, valid, properties.getBatchSize(), (ps, row) -> {
+            Timestamp createdAt = Timestamp.valueOf(row.createdAt() == null ? now : row.createdAt());
+            ps.setLong(1, userAccountIds.get(row.userId()));
+            ps.setString(2, row.title());
+            ps.setString(3, row.content());
+            ps.setString(4, row.hashtag());
+            ps.setTimestamp(5, createdAt);
+            ps.setString(6, row.userId());
+            ps.setTimestamp(7, createdAt);
+            ps.setString(8, row.userId());
+        });
+        return valid.size();
+    }
+
+    private int writeArticleComments(List<ArticleCommentBulkRequest> rows) {
+        Map<String, Long> userAccountIds = findUserAccountIds(rows.stream().map(ArticleCommentBulkRequest::userId).collect(Collectors.toSet()));
+        Set<Long> articleIds = findArticleIds(rows.stream().map(ArticleCommentBulkRequest::articleId).collect(Collectors.toSet()));
+        LocalDateTime now = LocalDateTime.now();
+
+        List<ArticleCommentBulkRequest> valid = rows.stream()
+                .filter(row -> {
+                    boolean ok = userAccountIds.containsKey(row.userId())
+                            && articleIds.contains(row.articleId())
+                            && hasText(row.content(), COMMENT_MAX_LENGTH);
+                    if (!ok) {
+                        log.warn("댓글 대량 적재 - 게시글이나 작성자가 없거나 값이 올바르지 않아 건너뜁니다 - articleId: {}, userId: {}", row.articleId(), row.userId());
+                    }
+                    return ok;
+                })
+                .toList();
+
+        jdbcTemplate.getJdbcTemplate().batchUpdate(INSERT_ARTICLE_COMMENT, valid, properties.getBatchSize(), (ps, row) -> {
+            Timestamp createdAt = Timestamp.valueOf(row.createdAt() == null ? now : row.createdAt());
+            ps.setLong(1, row.articleId());
+            ps.setLong(2, userAccountIds.get(row.userId()));
+            ps.setString(3, row.content());
+            ps.setTimestamp(4, createdAt);
+            ps.setString(5, row.userId());
+            ps.setTimestamp(6, createdAt);
+            ps.setString(7, row.userId());
+        });
+
+        increaseCommentCounts(valid, now);
+
+        // 커밋 후 게시글 상세 캐시 등이 정리되도록 게시글마다 한 번씩 알린다.
+        valid.stream()
+                .map(ArticleCommentBulkRequest::articleId)
+                .distinct()
+                .forEach(articleId -> eventPublisher.publishEvent(ArticleCommentEvent.saved(articleId, null)));
+        return valid.size();
+    }
+
+    /**
+     * 반정규화한 댓글 수/마지막 댓글 시각을 게시글마다 한 번씩 올린다. ArticleRepository#increaseCommentCount 와 같은 규칙이다.
+     */
+    private void increaseCommentCounts(List<ArticleCommentBulkRequest> rows, LocalDateTime now) {
+        Map<Long, List<ArticleCommentBulkRequest>> byArticle = rows.stream()
+                .collect(Collectors.groupingBy(ArticleCommentBulkRequest::articleId));
+        List<Object[]> updates = byArticle.entrySet().stream()
+                .map(entry -> {
+                    Timestamp lastCommentedAt = Timestamp.valueOf(entry.getValue().stream()
+                            .map(row -> row.createdAt() == null ? now : row.createdAt())
+                            .max(LocalDateTime::compareTo)
+                            .orElse(now));
+                    return new Object[]{entry.getValue().size(), lastCommentedAt, lastCommentedAt, entry.getKey()};
+                })
+                .toList();
+        jdbcTemplate.getJdbcTemplate().batchUpdate(INCREASE_COMMENT_COUNT, updates);
+    }
+
+    private Map<String, Long> findUserAccountIds(Collection<String> userIds) {
+        userIds.remove(null);
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, Long> result = new HashMap<>();
+        jdbcTemplate.query(
+                "select id, user_id from user_account where user_id in (:userIds)",
+                Map.of("userIds", userIds),
+                rs -> {
+                    result.put(rs.getString("user_id"), rs.getLong("id"));
+                });
+        return result;
+    }
+
+    private Set<Long> findArticleIds(Collection<Long> articleIds) {
+        articleIds.remove(null);
+        if (articleIds.isEmpty()) {
+            return Set.of();
+        }
+
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "select id from article where id in (:articleIds)",
+                Map.of("articleIds", articleIds),
+                Long.class));
+    }
+
+    private static boolean hasText(String value, int maxLength) {
+        return value != null && !value.isBlank() && value.length() <= maxLength;
+    }
+
+}
@@ -0,0 +1,180 @@
+package copro.projectboard.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import copro.projectboard.config.ExportConfig.ExportProperties;
+import copro.projectboard.domain.Article;
+import copro.projectboard.domain.ArticleComment;
+import copro.projectboard.domain.type.ExportFormat;
+import copro.projectboard.repository.ArticleCommentRepository;
+import copro.projectboard.repository.ArticleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * 분석용 전체 내보내기. 전진 전용 커서로 읽으면서 한 행씩 바로 쓰고, clearInterval 행마다 영속성 컨텍스트를 비운다.
+ * 테이블 크기와 상관없이 메모리 사용량이 일정하다.
+ * <p>
+ * CSV 의 NULL 은 시드 CSV 와 같이 따옴표 없는 \N 으로 쓴다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ExportService {
+
+    private static final String CSV_NULL = "\\N";
+    private static final DateTimeFormatter CSV_DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private static final List<Column<Article>> ARTICLE_COLUMNS = List.of(
+            Column.of("id", Article::getId),
+            Column.of("user_id", article -> article.getUserAccount().getUserId()),
+            Column.of("title", Article::getTitle),
+            Column.of("content", Article::getContent),
+            Column.of("hashtag", Article::getHashtag),
+            Column.of("comment_count", Article::getCommentCount),
+            Column.of("last_commented_at", Article::getLastCommentedAt),
+            Column.of("view_count", Article::getViewCount),
+            Column.of("created_at", Article::getCreatedAt),
+            Column.of("created_by", Article::getCreatedBy),
+            Column.of("modified_at", Article::getModifiedAt),
+            Column.of("modified_by", Article::getModifiedBy)
+    );
+
+    private static final List<Column<ArticleComment>> ARTICLE_COMMENT_COLUMNS = List.of(
+            Column.of("id", ArticleComment::getId),
+            Column.of("article_id", articleComment -> articleComment.getArticle().getId()),
+            Column.of("user_id", articleComment -> articleComment.getUserAccount().getUserId()),
+            Column.of("content", ArticleComment::getContent),
+            Column.of("created_at", ArticleComment::getCreatedAt),
+            Column.of("created_by", ArticleComment::getCreatedBy),
+            Column.of("modified_at", ArticleComment::getModifiedAt),
+            Column.of("modified_by", ArticleComment::getModifiedBy)
+    );
+
+    private final ArticleRepository articleRepository;
+    private final ArticleCommentRepository articleCommentRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final ExportProperties properties;
+
+    /**
+     * @return 내보낸 게시글 수
+     */
+    @Transactional(readOnly = true)
+    public long exportArticles(ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<Article> articles = articleRepository.streamAll()) {
+            long rows = export(articles, ARTICLE_COLUMNS, format, out);
+            log.info("게시글 내보내기 완료 - format: {}, rows: {}", format, rows);
+            return rows;
+        }
+    }
+
+    /**
+     * @return 내보낸 댓글 수
+     */
+    @Transactional(readOnly = true)
+    public long exportArticleComments(ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<ArticleComment> articleComments = articleCommentRepository.streamAll()) {
+            long rows = export(articleComments, ARTICLE_COMMENT_COLUMNS, format, out);
+            log.info("댓글 내보내기 완료 - format: {}, rows: {}", format, rows);
+            return rows;
+        }
+    }
+
+    private <T> long export(Stream<T> entities, List<Column<T>> columns, ExportFormat format, OutputStream out) throws IOException {
+        return switch (format) {
+            case CSV -> writeCsv(entities.iterator(), columns, out);
+            case NDJSON -> writeNdjson(entities.iterator(), columns, out);
+        };
+    }
+
+    private <T> long writeCsv(Iterator<T> entities, List<Column<T>> columns, OutputStream out) throws IOException {
+        // 응답 스트림은 호출한 쪽이 닫으므로 flush 만 한다.
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(String.join(",", columns.stream().map(Column::name).toList()));
+        writer.write('\n');
+
+        long rows = 0L;
+        while (entities.hasNext()) {
+            T entity = entities.next();
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(toCsvValue(columns.get(i).value().apply(entity)));
+            }
+            writer.write('\n');
+            clearIfNeeded(++rows);
+        }
+        writer.flush();
+        return rows;
+    }
+
+    private <T> long writeNdjson(Iterator<T> entities, List<Column<T>> columns, OutputStream out) throws IOException {
+        // 값마다 flush 하지 않도록 FLUSH_AFTER_WRITE_VALUE 를 끈다.
+        ObjectWriter valueWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        JsonGenerator generator = valueWriter.createGenerator(out, JsonEncoding.UTF8);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+
+        long rows = 0L;
+        while (entities.hasNext()) {
+            T entity = entities.next();
+            generator.writeStartObject();
+            for (Column<T> column : columns) {
+                generator.writeFieldName(column.name());
+                valueWriter.writeValue(generator, column.value().apply(entity));
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+            clearIfNeeded(++rows);
+        }
+        generator.close();
+        return rows;
+    }
+
+    // 커서가 읽은 엔티티가 영속성 컨텍스트에 쌓이지 않도록 주기적으로 비운다. 읽기 전용이라 flush 할 변경은 없다.
+    private void clearIfNeeded(long rows) {
+        if (rows % properties.getClearInterval() == 0) {
+            entityManager.clear();
+        }
+    }
+
+    private static String toCsvValue(Object value) {
+        if (value == null) {
+            return CSV_NULL;
+        }
+        String text = value instanceof LocalDateTime dateTime ? CSV_DATE_TIME.format(dateTime) : value.toString();
+        if (text.equals(CSV_NULL) || text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+
+
+    private record Column<T>(String name, Function<T, Object> value) {
+        static <T> Column<T> of(String name, Function<T, Object> value) {
+            return new Column<>(name, value);
+        }
+    }
+
+}
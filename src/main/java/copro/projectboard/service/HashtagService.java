@@ -0,0 +1,159 @@
+package copro.projectboard.service;
+
+import copro.projectboard.config.SearchConfig.HashtagIndexProperties;
+import copro.projectboard.domain.Article;
+import copro.projectboard.domain.Hashtag;
+import copro.projectboard.event.ArticleImportedEvent;
+import copro.projectboard.repository.ArticleRepository;
+import copro.projectboard.repository.HashtagRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.rest.core.annotation.HandleBeforeCreate;
+import org.springframework.data.rest.core.annotation.HandleBeforeSave;
+import org.springframework.data.rest.core.annotation.RepositoryEventHandler;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글의 해시태그 문자열과 해시태그 조인 테이블을 맞춘다.
+ * 서비스는 저장 전에 직접 부르고, 서비스를 거치지 않는 Data REST 쓰기는 저장 직전 이벤트로 맞춘다.
+ */
+@RepositoryEventHandler
+@Service
+@Transactional
+@Slf4j
+public class HashtagService {
+
+    private static final String INSERT_HASHTAG = "insert into hashtag (hashtag_name) values (?)";
+
+    private final HashtagRepository hashtagRepository;
+    private final ArticleRepository articleRepository;
+    private final HashtagIndexProperties properties;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public HashtagService(
+            HashtagRepository hashtagRepository,
+            ArticleRepository articleRepository,
+            HashtagIndexProperties properties,
+            EntityManager entityManager,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.hashtagRepository = hashtagRepository;
+        this.articleRepository = articleRepository;
+        this.properties = properties;
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 해시태그 문자열을 파싱해서 이미 있는 해시태그는 그대로 쓰고, 없는 것만 새로 저장한다.
+     * <p>
+     * 다른 요청이 같은 해시태그를 동시에 만들 수 있다. JPA 로 저장하다 유니크 키 위반이 나면 게시글 저장까지 롤백되므로,
+     * 없는 이름은 JDBC 로 넣고 중복은 무시한 뒤 잠금 읽기로 커밋된 행을 다시 읽는다.
+     * MySQL/H2 는 실패한 문장만 되돌리므로 트랜잭션은 계속 쓸 수 있다. 두 요청이 서로의 행을 기다리지 않도록 이름 순서로 넣는다.
+     */
+    public Set<Hashtag> findOrCreateHashtags(String hashtags) {
+        Set<String> names = Hashtag.parseNames(hashtags);
+        if (names.isEmpty()) {
+            return Set.of();
+        }
+
+        Map<String, Hashtag> existing = hashtagRepository.findByHashtagNameIn(names)
+                .stream()
+                .collect(Collectors.toMap(Hashtag::getHashtagName, Function.identity()));
+
+        List<String> missing = names.stream()
+                .filter(name -> !existing.containsKey(name))
+                .sorted()
+                .toList();
+        if (!missing.isEmpty()) {
+            missing.forEach(this::insertIfAbsent);
+            hashtagRepository.findWithLockByHashtagNameIn(missing)
+                    .forEach(hashtag -> existing.put(hashtag.getHashtagName(), hashtag));
+        }
+
+        return names.stream()
+                .map(existing::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    /**
+     * Data REST 로 게시글을 만들거나 고칠 때, 저장하기 전에 해시태그 연관관계를 문자열에 맞춘다.
+     * 색인은 저장 후 엔티티 리스너가 발행하는 게시글 이벤트로 갱신된다.
+     */
+    @HandleBeforeCreate
+    @HandleBeforeSave
+    public void syncHashtags(Article article) {
+        article.replaceHashtags(findOrCreateHashtags(article.getHashtag()));
+    }
+
+    /**
+     * 해시태그 문자열은 있는데 조인 테이블이 비어 있는 게시글(초기 데이터, 이전 버전에서 쓴 글, 대량 적재한 글)을 채운다.
+     * 배치마다 따로 커밋하고 영속성 컨텍스트를 비워서, 게시글 수와 상관없이 트랜잭션 크기와 메모리 사용량이 일정하다.
+     * 중간에 실패해도 이미 채운 배치는 남고, 다음 기동이나 적재 때 나머지부터 이어서 채운다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @EventListener({ApplicationReadyEvent.class, ArticleImportedEvent.class})
+    public void backfillHashtags() {
+        PageRequest batch = PageRequest.of(0, properties.getRebuildBatchSize(), Sort.by(Sort.Direction.ASC, "id"));
+        long lastId = 0L;
+        long filled = 0L;
+        BackfillBatch result;
+        do {
+            long fromId = lastId;
+            result = transactionTemplate.execute(status -> backfillBatch(fromId, batch));
+            entityManager.clear();
+            lastId = result.lastId();
+            filled += result.filled();
+        } while (result.hasNext());
+
+        if (filled > 0) {
+            log.info("게시글 해시태그 조인 테이블 보정 완료 - 게시글 수: {}", filled);
+        }
+    }
+
+    private BackfillBatch backfillBatch(long fromId, PageRequest batch) {
+        Slice<Article> slice = articleRepository.findByIdGreaterThanAndHashtagIsNotNullAndHashtagsIsEmpty(fromId, batch);
+        long lastId = fromId;
+        for (Article article : slice) {
+            article.replaceHashtags(findOrCreateHashtags(article.getHashtag()));
+            lastId = article.getId();
+        }
+        return new BackfillBatch(lastId, slice.getNumberOfElements(), slice.hasNext());
+    }
+
+    private void insertIfAbsent(String hashtagName) {
+        try {
+            jdbcTemplate.update(INSERT_HASHTAG, hashtagName);
+        } catch (DuplicateKeyException e) {
+            log.debug("다른 요청이 먼저 만든 해시태그를 씁니다 - hashtagName: {}", hashtagName);
+        }
+    }
+
+
+    private record BackfillBatch(long lastId, int filled, boolean hasNext) {}
+
+}
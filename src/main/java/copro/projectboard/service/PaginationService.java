@@ -1,8 +1,11 @@
 package copro.projectboard.service;
 
+import copro.projectboard.dto.CursorPage;
+import copro.projectboard.dto.KeysetCursor;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.IntStream;
 
 @Service
@@ -17,6 +20,39 @@ public class PaginationService {
         return IntStream.range(startNumber, endNumber).boxed().toList();
     }
 
+    /**
+     * 전체 페이지 수를 모르는 Slice 용. 다음 페이지가 있으면 바로 다음 페이지까지만 보여준다.
+     */
+    public List<Integer> getPaginationBarNumbers(int currentPageNumber, boolean hasNext) {
+        return getPaginationBarNumbers(currentPageNumber, currentPageNumber + (hasNext ? 2 : 1));
+    }
+
+    /**
+     * size + 1 개까지 읽어온 최신순 목록으로 keyset 페이지를 만든다.
+     * 남는 한 건은 다음 방향이면 끝에, 이전 방향이면 앞에 붙어 있으므로 그쪽을 잘라낸다.
+     */
+    public <T> CursorPage<T> getCursorPage(List<T> rows, int size, KeysetCursor cursor, Function<T, KeysetCursor> keyOf) {
+        boolean backward = cursor != null && cursor.isBackward();
+        boolean hasMore = rows.size() > size;
+
+        List<T> content = rows;
+        if (hasMore) {
+            content = backward ? rows.subList(rows.size() - size, rows.size()) : rows.subList(0, size);
+        }
+        if (content.isEmpty()) {
+            return CursorPage.of(List.of(), null, null);
+        }
+
+        boolean hasNext = backward || hasMore;
+        boolean hasPrevious = backward ? hasMore : cursor != null;
+
+        return CursorPage.of(
+                List.copyOf(content),
+                hasNext ? keyOf.apply(content.get(content.size() - 1)).toward(KeysetCursor.Direction.NEXT).encode() : null,
+                hasPrevious ? keyOf.apply(content.get(0)).toward(KeysetCursor.Direction.PREVIOUS).encode() : null
+        );
+    }
+
     public int currentBarLength(){
         return BAR_LENGTH;
         }
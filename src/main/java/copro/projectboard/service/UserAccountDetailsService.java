@@ -0,0 +1,38 @@
+package copro.projectboard.service;
+
+import copro.projectboard.config.SecurityConfig.BoardSecurityProperties;
+import copro.projectboard.domain.UserAccount;
+import copro.projectboard.repository.UserAccountRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 로그인 계정을 user_account 에서 읽는다. 모든 계정은 USER 이고, 설정한 계정만 ADMIN 을 더 받는다.
+ */
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Service
+public class UserAccountDetailsService implements UserDetailsService {
+
+    private final UserAccountRepository userAccountRepository;
+    private final BoardSecurityProperties securityProperties;
+
+    @Override
+    public UserDetails loadUserByUsername(String username) {
+        UserAccount userAccount = userAccountRepository.findByUserId(username)
+                .orElseThrow(() -> new UsernameNotFoundException("계정이 없습니다 - userId: " + username));
+
+        return User.withUsername(userAccount.getUserId())
+                .password(userAccount.getUserPassword())
+                .roles(securityProperties.getAdminUserIds().contains(userAccount.getUserId())
+                        ? new String[]{"USER", "ADMIN"}
+                        : new String[]{"USER"})
+                .build();
+    }
+
+}
@@ -1337,3 +1337,9 @@ values (49, 1,
        (19, 1, 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2021-05-07 23:57:29',
         '2021-04-03 21:55:11', 'Oliver', 'Graehme')
 ;
+
+-- 반정규화한 댓글 수/마지막 댓글 시각
+update article a
+set comment_count     = (select count(*) from article_comment ac where ac.article_id = a.id),
+    last_commented_at = (select max(ac.created_at) from article_comment ac where ac.article_id = a.id)
+;
@@ -0,0 +1,73 @@
+-- 엔티티(copro.projectboard.domain)와 같은 스키마. 운영에서는 ddl-auto=validate 로 이 스키마를 검증만 한다.
+create table user_account
+(
+    id            bigint       not null auto_increment,
+    user_id       varchar(50)  not null,
+    user_password varchar(255) not null,
+    email         varchar(100),
+    nickname      varchar(100),
+    memo          varchar(255),
+    created_at    datetime(6)  not null,
+    created_by    varchar(100) not null,
+    modified_at   datetime(6)  not null,
+    modified_by   varchar(100) not null,
+    primary key (id),
+    constraint uk_user_account_user_id unique (user_id),
+    constraint uk_user_account_email unique (email)
+);
+create index idx_user_account_created_at on user_account (created_at);
+create index idx_user_account_created_by on user_account (created_by);
+
+create table article
+(
+    id              bigint         not null auto_increment,
+    user_account_id bigint         not null,
+    title           varchar(255)   not null,
+    content         varchar(10000) not null,
+    hashtag         varchar(255),
+    created_at      datetime(6)    not null,
+    created_by      varchar(100)   not null,
+    modified_at     datetime(6)    not null,
+    modified_by     varchar(100)   not null,
+    primary key (id),
+    constraint fk_article_user_account foreign key (user_account_id) references user_account (id)
+);
+create index idx_article_title on article (title);
+create index idx_article_hashtag on article (hashtag);
+create index idx_article_created_at on article (created_at);
+create index idx_article_created_by on article (created_by);
+
+create table article_comment
+(
+    id              bigint       not null auto_increment,
+    article_id      bigint       not null,
+    user_account_id bigint       not null,
+    content         varchar(500) not null,
+    created_at      datetime(6)  not null,
+    created_by      varchar(100) not null,
+    modified_at     datetime(6)  not null,
+    modified_by     varchar(100) not null,
+    primary key (id),
+    constraint fk_article_comment_article foreign key (article_id) references article (id),
+    constraint fk_article_comment_user_account foreign key (user_account_id) references user_account (id)
+);
+create index idx_article_comment_content on article_comment (content);
+create index idx_article_comment_created_at on article_comment (created_at);
+create index idx_article_comment_created_by on article_comment (created_by);
+
+create table hashtag
+(
+    id           bigint      not null auto_increment,
+    hashtag_name varchar(50) not null,
+    primary key (id),
+    constraint uk_hashtag_hashtag_name unique (hashtag_name)
+);
+
+create table article_hashtag
+(
+    article_id bigint not null,
+    hashtag_id bigint not null,
+    primary key (article_id, hashtag_id),
+    constraint fk_article_hashtag_article foreign key (article_id) references article (id),
+    constraint fk_article_hashtag_hashtag foreign key (hashtag_id) references hashtag (id)
+);
@@ -0,0 +1,10 @@
+-- 게시글 목록에서 집계 없이 댓글 수/최근 활동순으로 정렬하기 위한 반정규화 컬럼
+alter table article add column comment_count bigint not null default 0;
+alter table article add column last_commented_at datetime(6);
+
+update article a
+set comment_count     = (select count(*) from article_comment ac where ac.article_id = a.id),
+    last_commented_at = (select max(ac.created_at) from article_comment ac where ac.article_id = a.id);
+
+create index idx_article_comment_count on article (comment_count);
+create index idx_article_last_commented_at on article (last_commented_at);
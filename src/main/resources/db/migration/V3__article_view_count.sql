@@ -0,0 +1,4 @@
+-- 조회수. 요청마다 갱신하지 않고 ArticleViewCounter 가 모아서 더한다.
+alter table article add column view_count bigint not null default 0;
+
+create index idx_article_view_count on article (view_count);
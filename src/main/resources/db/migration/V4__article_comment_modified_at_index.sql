@@ -0,0 +1,2 @@
+-- 게시글 버전 조회(ArticleRepository#findVersionById)가 댓글 최종 수정 시각을 인덱스 한 번으로 찾게 한다.
+create index idx_article_comment_article_id_modified_at on article_comment (article_id, modified_at);
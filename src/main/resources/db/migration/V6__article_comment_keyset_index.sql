@@ -0,0 +1,3 @@
+-- 댓글 더보기(ArticleCommentRepositoryCustom#findByCursor)의 article_id = ? order by created_at desc, id desc 를
+-- 정렬 없이 인덱스 역순 탐색으로 끝낸다.
+create index idx_article_comment_article_id_created_at_id on article_comment (article_id, created_at, id);
@@ -0,0 +1,56 @@
+// 게시글 상세 - 댓글 더보기
+(function () {
+    const button = document.getElementById('load-more-comments');
+    const list = document.getElementById('article-comments');
+    if (!button || !list) {
+        return;
+    }
+
+    function pad(number) {
+        return String(number).padStart(2, '0');
+    }
+
+    function formatDateTime(value) {
+        const date = new Date(value);
+        return date.getFullYear() + '-' + pad(date.getMonth() + 1) + '-' + pad(date.getDate())
+            + ' ' + pad(date.getHours()) + ':' + pad(date.getMinutes()) + ':' + pad(date.getSeconds());
+    }
+
+    function createComment(articleComment) {
+        const item = document.createElement('li');
+        const body = document.createElement('div');
+        const nickname = document.createElement('strong');
+        const small = document.createElement('small');
+        const time = document.createElement('time');
+        const content = document.createElement('p');
+
+        nickname.textContent = articleComment.nickname;
+        time.setAttribute('datetime', articleComment.createdAt);
+        time.textContent = formatDateTime(articleComment.createdAt);
+        content.textContent = articleComment.content;
+
+        small.appendChild(time);
+        body.append(nickname, ' ', small, content);
+        item.appendChild(body);
+        return item;
+    }
+
+    button.addEventListener('click', function () {
+        const articleId = button.dataset.articleId;
+        const cursor = button.dataset.cursor;
+        button.disabled = true;
+
+        fetch('/articles/' + articleId + '/comments?cursor=' + encodeURIComponent(cursor))
+            .then(response => response.json())
+            .then(page => {
+                page.content.forEach(articleComment => list.appendChild(createComment(articleComment)));
+                if (page.nextCursor) {
+                    button.dataset.cursor = page.nextCursor;
+                    button.disabled = false;
+                } else {
+                    button.remove();
+                }
+            })
+            .catch(() => button.disabled = false);
+    });
+})();
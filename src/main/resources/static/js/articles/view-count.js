@@ -0,0 +1,12 @@
+// 게시글 상세 - 조회수. 본문은 ETag 로 캐시하므로 자주 바뀌는 조회수는 따로 읽는다.
+(function () {
+    const viewCount = document.getElementById('view-count');
+    if (!viewCount || !viewCount.dataset.articleId) {
+        return;
+    }
+
+    fetch('/articles/' + viewCount.dataset.articleId + '/view-count')
+        .then(response => response.ok ? response.json() : Promise.reject(response.status))
+        .then(count => viewCount.textContent = count)
+        .catch(() => {});
+})();
@@ -0,0 +1,143 @@
+package copro.controller;
+
+import copro.projectboard.config.SecurityConfig;
+import copro.projectboard.controller.ArticleCommentController;
+import copro.projectboard.dto.ArticleCommentDto;
+import copro.projectboard.service.ArticleCommentWriter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.persistence.EntityNotFoundException;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@DisplayName("API 컨트롤러 - 댓글 쓰기")
+@Import(SecurityConfig.class)
+@WebMvcTest(ArticleCommentController.class)
+class ArticleCommentControllerTest {
+
+    private static final String COMMENT_JSON = """
+            {"articleId":1,"content":"댓글"}
+            """;
+
+    private final MockMvc mvc;
+
+    @MockBean
+    private ArticleCommentWriter articleCommentWriter;
+
+    public ArticleCommentControllerTest(@Autowired MockMvc mvc) {
+        this.mvc = mvc;
+    }
+
+    @DisplayName("[api][POST] 댓글 쓰기 - 작성자는 본문이 아니라 로그인한 계정이다")
+    @WithMockUser("uno")
+    @Test
+    void 댓글쓰기_작성자는로그인계정() throws Exception {
+        // Given
+        given(articleCommentWriter.write(any(ArticleCommentDto.class))).willReturn(true);
+
+        // When & Then
+        mvc.perform(post("/comments").contentType(MediaType.APPLICATION_JSON).content("""
+                        {"articleId":1,"userId":"uno2","content":"댓글"}
+                        """).with(csrf()))
+                .andExpect(status().isCreated());
+        then(articleCommentWriter).should().write(argThat(dto -> dto.userAccountDto().userId().equals("uno")));
+    }
+
+    @DisplayName("[api][POST] 댓글 쓰기 - 로그인하지 않으면 401 을 돌려주고 저장하지 않는다")
+    @Test
+    void 댓글쓰기_익명거부() throws Exception {
+        // When & Then
+        mvc.perform(post("/comments").contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON)
+                        .content(COMMENT_JSON).with(csrf()))
+                .andExpect(status().isUnauthorized());
+        then(articleCommentWriter).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("[api][POST] 댓글 쓰기 - CSRF 토큰이 없으면 403")
+    @WithMockUser("uno")
+    @Test
+    void 댓글쓰기_CSRF토큰없음_거부() throws Exception {
+        // When & Then
+        mvc.perform(post("/comments").contentType(MediaType.APPLICATION_JSON).content(COMMENT_JSON))
+                .andExpect(status().isForbidden());
+        then(articleCommentWriter).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("[api][POST] 댓글 쓰기 - 쓰기 큐를 거쳐 저장하고, 커밋된 뒤면 201")
+    @WithMockUser("uno")
+    @Test
+    void 댓글쓰기_저장후201() throws Exception {
+        // Given
+        given(articleCommentWriter.write(any(ArticleCommentDto.class))).willReturn(true);
+
+        // When & Then
+        mvc.perform(post("/comments").contentType(MediaType.APPLICATION_JSON).content(COMMENT_JSON).with(csrf()))
+                .andExpect(status().isCreated());
+        then(articleCommentWriter).should().write(argThat(dto -> dto.articleId().equals(1L)
+                && dto.userAccountDto().userId().equals("uno")
+                && dto.content().equals("댓글")));
+    }
+
+    @DisplayName("[api][POST] 댓글 쓰기 - 큐에 넣기만 했거나 커밋 확인 시간이 지났으면 202")
+    @WithMockUser("uno")
+    @Test
+    void 댓글쓰기_지연저장202() throws Exception {
+        // Given
+        given(articleCommentWriter.write(any(ArticleCommentDto.class))).willReturn(false);
+
+        // When & Then
+        mvc.perform(post("/comments").contentType(MediaType.APPLICATION_JSON).content(COMMENT_JSON).with(csrf()))
+                .andExpect(status().isAccepted());
+        then(articleCommentWriter).should().write(any(ArticleCommentDto.class));
+    }
+
+    @DisplayName("[api][POST] 댓글 쓰기 - 게시글이나 작성자가 없으면 404")
+    @WithMockUser("uno")
+    @Test
+    void 댓글쓰기_게시글없음404() throws Exception {
+        // Given
+        willThrow(new EntityNotFoundException("댓글의 게시글을 찾을 수 없습니다")).given(articleCommentWriter).write(any(ArticleCommentDto.class));
+
+        // When & Then
+        mvc.perform(post("/comments").contentType(MediaType.APPLICATION_JSON).content(COMMENT_JSON).with(csrf()))
+                .andExpect(status().isNotFound());
+    }
+
+    @DisplayName("[api][POST] 댓글 쓰기 - 쓰기 큐가 가득 차면 503")
+    @WithMockUser("uno")
+    @Test
+    void 댓글쓰기_큐가득참503() throws Exception {
+        // Given
+        willThrow(new RejectedExecutionException("댓글 쓰기 큐가 가득 찼습니다")).given(articleCommentWriter).write(any(ArticleCommentDto.class));
+
+        // When & Then
+        mvc.perform(post("/comments").contentType(MediaType.APPLICATION_JSON).content(COMMENT_JSON).with(csrf()))
+                .andExpect(status().isServiceUnavailable());
+    }
+
+    @DisplayName("[api][POST] 댓글 쓰기 - 내용이 비어 있으면 저장하지 않고 400")
+    @WithMockUser("uno")
+    @Test
+    void 댓글쓰기_내용없음400() throws Exception {
+        // When & Then
+        mvc.perform(post("/comments").contentType(MediaType.APPLICATION_JSON).content("""
+                        {"articleId":1,"content":" "}
+                        """).with(csrf()))
+                .andExpect(status().isBadRequest());
+        then(articleCommentWriter).shouldHaveNoInteractions();
+    }
+
+}
@@ -2,9 +2,20 @@ package copro.controller;
 
 import copro.projectboard.config.SecurityConfig;
 import copro.projectboard.controller.ArticleController;
+import copro.projectboard.controller.ArticleJsonController;
+import copro.projectboard.domain.type.SearchType;
+import copro.projectboard.dto.ArticleCommentDto;
+import copro.projectboard.dto.ArticleVersion;
+import copro.projectboard.dto.ArticleViewCountDto;
 import copro.projectboard.dto.ArticleWithCommentsDto;
+import copro.projectboard.dto.CursorPage;
+import copro.projectboard.dto.HashtagCountDto;
+import copro.projectboard.dto.KeysetCursor;
 import copro.projectboard.dto.UserAccountDto;
+import copro.projectboard.service.ArticleCommentService;
 import copro.projectboard.service.ArticleService;
+import copro.projectboard.service.ArticleVersionService;
+import copro.projectboard.service.ArticleViewCounter;
 import copro.projectboard.service.PaginationService;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
@@ -18,6 +29,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
@@ -25,6 +37,7 @@ import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -43,9 +56,18 @@ class ArticleControllerTest {
     @MockBean
     private ArticleService articleService;
 
+    @MockBean
+    private ArticleCommentService articleCommentService;
+
     @MockBean
     private PaginationService paginationService;
 
+    @MockBean
+    private ArticleVersionService articleVersionService;
+
+    @MockBean
+    private ArticleViewCounter articleViewCounter;
+
     public ArticleControllerTest(@Autowired MockMvc mvc) {
         this.mvc = mvc;
     }
@@ -99,14 +121,59 @@ class ArticleControllerTest {
         then(paginationService).should().getPaginationBarNumbers(pageable.getPageNumber(), Page.empty().getTotalPages());
     }
 
+    @DisplayName("[view][GET] 게시글 리스트 (게시판) 페이지 - 커서 페이징")
+    @Test
+    void 커서페이징_페이지호출() throws Exception {
+        // Given
+        KeysetCursor cursor = KeysetCursor.of(LocalDateTime.of(2022, 1, 1, 0, 0), 10L);
+        given(articleService.searchArticlesByCursor(null, null, cursor, 10)).willReturn(List.of());
+        given(paginationService.getCursorPage(anyList(), eq(10), eq(cursor), any())).willReturn(CursorPage.of(List.of(), null, null));
+
+        // When & Then
+        mvc.perform(get("/articles").queryParam("cursor", cursor.encode()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_HTML))
+                .andExpect(view().name("articles/index"))
+                .andExpect(model().attributeExists("articles"))
+                .andExpect(model().attribute("cursorMode", true));
+        then(articleService).should().searchArticlesByCursor(null, null, cursor, 10);
+        then(articleService).should(never()).searchArticles(any(), any(), any(Pageable.class));
+    }
+
+    @DisplayName("[view][GET] 게시글 리스트 (게시판) 페이지 - 커서 페이지 크기는 1 ~ 최대 크기로 자른다")
+    @Test
+    void 커서페이징_페이지크기제한() throws Exception {
+        // Given
+        KeysetCursor cursor = KeysetCursor.of(LocalDateTime.of(2022, 1, 1, 0, 0), 10L);
+        given(articleService.searchArticlesByCursor(eq(null), eq(null), eq(cursor), anyInt())).willReturn(List.of());
+        given(paginationService.getCursorPage(anyList(), anyInt(), eq(cursor), any())).willReturn(CursorPage.of(List.of(), null, null));
+
+        // When & Then
+        mvc.perform(get("/articles").queryParam("cursor", cursor.encode()).queryParam("size", "-1"))
+                .andExpect(status().isOk());
+        mvc.perform(get("/articles").queryParam("cursor", cursor.encode()).queryParam("size", "100000"))
+                .andExpect(status().isOk());
+        then(articleService).should().searchArticlesByCursor(null, null, cursor, 1);
+        then(articleService).should().searchArticlesByCursor(null, null, cursor, ArticleJsonController.MAX_PAGE_SIZE);
+    }
+
+    @DisplayName("[view][GET] 게시글 리스트 (게시판) 페이지 - 잘못된 커서")
+    @Test
+    void 잘못된커서_BadRequest() throws Exception {
+        // When & Then
+        mvc.perform(get("/articles").queryParam("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+        then(articleService).shouldHaveNoInteractions();
+    }
+
     @DisplayName("[view][GET] 게시글 페이지 - 정상 호출")
     @Test
     public void 게시글상세페이지_호출() throws Exception {
         //given
         Long articleId = 1L;
-        long totalCount = 1L;
         given(articleService.getArticle(articleId)).willReturn(createArticleWithCommentsDto());
-        given(articleService.getArticleCount()).willReturn(totalCount);
+        given(paginationService.getCursorPage(anyList(), eq(ArticleService.DETAIL_COMMENT_SIZE), isNull(), any()))
+                .willReturn(CursorPage.of(List.of(), null, null));
 
         //when
         mvc.perform(get("/articles/" + articleId))
@@ -116,11 +183,158 @@ class ArticleControllerTest {
                 .andExpect(model().attributeExists("article"))
                 .andExpect(model().attributeExists("articleComments"))
                 .andExpect(model().attributeExists("articleComments"))
-                .andExpect(model().attribute("totalCount", totalCount));
+                .andExpect(model().attributeDoesNotExist("viewCount", "totalCount"));
         then(articleService).should().getArticle(articleId);
-        then(articleService).should().getArticleCount();
+        then(articleService).should(never()).getArticleCount();
+    }
+
+
+    @DisplayName("[view][GET] 게시글 페이지 - ETag 가 같으면 게시글을 읽지 않고 304")
+    @Test
+    void 게시글상세페이지_변경없음_304() throws Exception {
+        // Given
+        Long articleId = 1L;
+        ArticleVersion version = ArticleVersion.of(articleId, LocalDateTime.of(2022, 1, 1, 0, 0), null, 0L, 0L);
+        given(articleVersionService.getArticleVersion(articleId)).willReturn(Optional.of(version));
+        given(articleService.getArticle(articleId)).willReturn(createArticleWithCommentsDto());
+        given(paginationService.getCursorPage(anyList(), eq(ArticleService.DETAIL_COMMENT_SIZE), isNull(), any()))
+                .willReturn(CursorPage.of(List.of(), null, null));
+        String etag = mvc.perform(get("/articles/" + articleId))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertTrue(etag.startsWith("W/\""));
+
+        // When & Then
+        mvc.perform(get("/articles/" + articleId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        then(articleService).should(times(1)).getArticle(articleId);
+        then(articleViewCounter).should(times(2)).increment(articleId);
     }
 
+    @DisplayName("[view][GET] 게시글 페이지 - 조회수만 바뀌었으면 ETag 가 그대로라 304")
+    @Test
+    void 게시글상세페이지_조회수만변경_304() throws Exception {
+        // Given
+        Long articleId = 1L;
+        LocalDateTime modifiedAt = LocalDateTime.of(2022, 1, 1, 0, 0);
+        given(articleVersionService.getArticleVersion(articleId))
+                .willReturn(Optional.of(ArticleVersion.of(articleId, modifiedAt, null, 0L, 0L)))
+                .willReturn(Optional.of(ArticleVersion.of(articleId, modifiedAt, null, 0L, 100L)));
+        given(articleService.getArticle(articleId)).willReturn(createArticleWithCommentsDto());
+        given(paginationService.getCursorPage(anyList(), eq(ArticleService.DETAIL_COMMENT_SIZE), isNull(), any()))
+                .willReturn(CursorPage.of(List.of(), null, null));
+        String etag = mvc.perform(get("/articles/" + articleId))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When & Then
+        mvc.perform(get("/articles/" + articleId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        then(articleService).should(times(1)).getArticle(articleId);
+    }
+
+    @DisplayName("[view][GET] 게시글 조회수 - DB 에 반영된 조회수와 아직 반영하지 않은 조회수를 더해, 캐시하지 않게 돌려준다")
+    @Test
+    void 게시글조회수_호출() throws Exception {
+        // Given
+        Long articleId = 1L;
+        given(articleVersionService.getArticleVersion(articleId))
+                .willReturn(Optional.of(ArticleVersion.of(articleId, LocalDateTime.of(2022, 1, 1, 0, 0), null, 0L, 40L)));
+        given(articleViewCounter.getPendingViews(articleId)).willReturn(2L);
+
+        // When & Then
+        mvc.perform(get("/articles/" + articleId + "/view-count"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(content().string("42"))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-store"));
+        then(articleViewCounter).should(never()).increment(articleId);
+    }
+
+    @DisplayName("[view][GET] 게시글 리스트 페이지 - 게시판 버전이 같으면 304")
+    @Test
+    void 게시글리스트_변경없음_304() throws Exception {
+        // Given
+        given(articleVersionService.getBoardEtag(any())).willReturn("\"b1-0\"");
+
+        // When & Then
+        mvc.perform(get("/articles").header(HttpHeaders.IF_NONE_MATCH, "\"b1-0\""))
+                .andExpect(status().isNotModified());
+        then(articleService).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("[view][GET] 게시글 댓글 더보기 - 정상 호출")
+    @Test
+    void 댓글더보기_호출() throws Exception {
+        // Given
+        Long articleId = 1L;
+        KeysetCursor cursor = KeysetCursor.of(LocalDateTime.of(2022, 1, 1, 0, 0), 30L);
+        List<ArticleCommentDto> rows = List.of(createArticleCommentDto(29L));
+        given(articleCommentService.searchArticleComments(articleId, cursor, 20)).willReturn(rows);
+        given(paginationService.getCursorPage(anyList(), eq(20), eq(cursor), any()))
+                .willAnswer(invocation -> CursorPage.of(invocation.getArgument(0), null, null));
+
+        // When & Then
+        mvc.perform(get("/articles/" + articleId + "/comments").queryParam("cursor", cursor.encode()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.content[0].id").value(29L))
+                .andExpect(jsonPath("$.content[0].nickname").value("copro"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+        then(articleCommentService).should().searchArticleComments(articleId, cursor, 20);
+    }
+
+    @DisplayName("[view][GET] 게시글 댓글 더보기 - 페이지 크기는 1 ~ 최대 크기로 자른다")
+    @Test
+    void 댓글더보기_페이지크기제한() throws Exception {
+        // Given
+        Long articleId = 1L;
+        given(articleCommentService.searchArticleComments(eq(articleId), isNull(), anyInt())).willReturn(List.of());
+        given(paginationService.getCursorPage(anyList(), anyInt(), isNull(), any())).willReturn(CursorPage.of(List.of(), null, null));
+
+        // When & Then
+        mvc.perform(get("/articles/" + articleId + "/comments").queryParam("size", "0"))
+                .andExpect(status().isOk());
+        mvc.perform(get("/articles/" + articleId + "/comments").queryParam("size", "100000"))
+                .andExpect(status().isOk());
+        then(articleCommentService).should().searchArticleComments(articleId, null, 1);
+        then(articleCommentService).should().searchArticleComments(articleId, null, ArticleJsonController.MAX_PAGE_SIZE);
+    }
+
+    @DisplayName("[view][GET] 조회수 상위 게시글 - 정상 호출")
+    @Test
+    void 조회수상위게시글_호출() throws Exception {
+        // Given
+        given(articleViewCounter.getMostViewed(5)).willReturn(List.of(
+                ArticleViewCountDto.of(3L, "인기 글", 42L),
+                ArticleViewCountDto.of(1L, "new article", 7L)
+        ));
+
+        // When & Then
+        mvc.perform(get("/articles/most-viewed").queryParam("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$[0].id").value(3L))
+                .andExpect(jsonPath("$[0].viewCount").value(42L))
+                .andExpect(jsonPath("$[1].id").value(1L));
+        then(articleViewCounter).should().getMostViewed(5);
+        then(articleService).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("[view][GET] ID/닉네임 검색어 자동 완성 - 정상 호출")
+    @Test
+    void 검색어자동완성_호출() throws Exception {
+        // Given
+        given(articleService.getSearchSuggestions(SearchType.NICKNAME, "cop")).willReturn(List.of("Coppola", "Copro"));
+
+        // When & Then
+        mvc.perform(get("/articles/search-suggestions")
+                        .queryParam("searchType", SearchType.NICKNAME.name())
+                        .queryParam("searchValue", "cop"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$[0]").value("Coppola"))
+                .andExpect(jsonPath("$[1]").value("Copro"));
+        then(articleService).should().getSearchSuggestions(SearchType.NICKNAME, "cop");
+    }
 
     @Disabled("구현 중")
     @DisplayName("[view][GET] 게시글 검색 전용 페이지 - 정상 호출")
@@ -135,17 +349,25 @@ class ArticleControllerTest {
                 .andExpect(model().attributeExists("articles/search"));
     }
 
-    @Disabled("구현 중")
     @DisplayName("[view][GET] 해시태그 검색 페이지 - 정상 호출")
     @Test
     public void 해시태그검색_페이지() throws Exception {
         //given
+        String hashtag = "#java";
+        given(articleService.searchArticlesViaHashtag(eq(hashtag), any(Pageable.class))).willReturn(Page.empty());
+        given(articleService.getTopHashtags()).willReturn(List.of(HashtagCountDto.of("java", 3)));
+        given(paginationService.getPaginationBarNumbers(anyInt(), anyInt())).willReturn(List.of(0));
 
         //when
-        mvc.perform(get("/articles/search-hashtag"))
+        mvc.perform(get("/articles/search-hashtag").queryParam("searchValue", hashtag))
                 .andExpect(status().isOk())
                 .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_HTML))
-                .andExpect(model().attributeExists("articles/search-hashtag"));
+                .andExpect(view().name("articles/search-hashtag"))
+                .andExpect(model().attributeExists("articles"))
+                .andExpect(model().attribute("hashtags", List.of(HashtagCountDto.of("java", 3))))
+                .andExpect(model().attributeExists("paginationBarNumbers"));
+        then(articleService).should().searchArticlesViaHashtag(eq(hashtag), any(Pageable.class));
+        then(articleService).should().getTopHashtags();
     }
 
 
@@ -164,6 +386,19 @@ class ArticleControllerTest {
         );
     }
 
+    private ArticleCommentDto createArticleCommentDto(Long id) {
+        return ArticleCommentDto.of(
+                id,
+                1L,
+                createUserAccountDto(),
+                "content",
+                LocalDateTime.now(),
+                "copro",
+                LocalDateTime.now(),
+                "copro"
+        );
+    }
+
     private UserAccountDto createUserAccountDto() {
         return UserAccountDto.of(1L,
                 "copro",
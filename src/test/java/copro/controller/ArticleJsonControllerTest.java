@@ -0,0 +1,129 @@
+package copro.controller;
+
+import copro.projectboard.config.SecurityConfig;
+import copro.projectboard.controller.ArticleJsonController;
+import copro.projectboard.dto.response.ArticleCommentResponse;
+import copro.projectboard.dto.response.ArticleResponse;
+import copro.projectboard.service.ArticleCommentService;
+import copro.projectboard.service.ArticleService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.persistence.EntityNotFoundException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@DisplayName("API 컨트롤러 - 게시글 JSON")
+@Import(SecurityConfig.class)
+@WebMvcTest(ArticleJsonController.class)
+class ArticleJsonControllerTest {
+
+    private final MockMvc mvc;
+
+    @MockBean
+    private ArticleService articleService;
+
+    @MockBean
+    private ArticleCommentService articleCommentService;
+
+    public ArticleJsonControllerTest(@Autowired MockMvc mvc) {
+        this.mvc = mvc;
+    }
+
+    @DisplayName("[api][GET] 게시글 목록 - HAL 링크 없이 게시글과 다음 페이지 여부만 내려준다")
+    @Test
+    void 게시글목록_호출() throws Exception {
+        // Given
+        Pageable pageable = PageRequest.of(2, 1, Sort.by(Sort.Direction.DESC, "createdAt"));
+        given(articleService.getArticleResponses(pageable))
+                .willReturn(new SliceImpl<>(List.of(createArticleResponse()), pageable, true));
+
+        // When & Then
+        mvc.perform(get("/json/articles").queryParam("page", "2").queryParam("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.content[0].id").value(1L))
+                .andExpect(jsonPath("$.content[0].nickname").value("copro"))
+                .andExpect(jsonPath("$.content[0]._links").doesNotExist())
+                .andExpect(jsonPath("$.page").value(2))
+                .andExpect(jsonPath("$.size").value(1))
+                .andExpect(jsonPath("$.hasNext").value(true));
+        then(articleService).should().getArticleResponses(pageable);
+    }
+
+    @DisplayName("[api][GET] 게시글 목록 - 페이지 크기는 최대값으로 자른다")
+    @Test
+    void 게시글목록_페이지크기제한() throws Exception {
+        // Given
+        Pageable pageable = PageRequest.of(0, ArticleJsonController.MAX_PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdAt"));
+        given(articleService.getArticleResponses(any(Pageable.class)))
+                .willReturn(new SliceImpl<>(List.of(), pageable, false));
+
+        // When & Then
+        mvc.perform(get("/json/articles").queryParam("size", "1000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size").value(ArticleJsonController.MAX_PAGE_SIZE));
+        then(articleService).should().getArticleResponses(pageable);
+    }
+
+    @DisplayName("[api][GET] 게시글 목록 - 응답에 없는 컬럼으로 정렬하면 400")
+    @Test
+    void 게시글목록_정렬불가컬럼() throws Exception {
+        // When & Then
+        mvc.perform(get("/json/articles").queryParam("sort", "userAccount.userPassword"))
+                .andExpect(status().isBadRequest());
+        then(articleService).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("[api][GET] 게시글 단건 - 없는 게시글이면 404")
+    @Test
+    void 게시글단건_없음() throws Exception {
+        // Given
+        given(articleService.getArticleResponse(999L)).willThrow(new EntityNotFoundException());
+
+        // When & Then
+        mvc.perform(get("/json/articles/999"))
+                .andExpect(status().isNotFound());
+    }
+
+    @DisplayName("[api][GET] 게시글 댓글 목록 - 정상 호출")
+    @Test
+    void 댓글목록_호출() throws Exception {
+        // Given
+        Long articleId = 1L;
+        Pageable pageable = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+        given(articleCommentService.getArticleCommentResponses(articleId, pageable)).willReturn(new SliceImpl<>(
+                List.of(ArticleCommentResponse.of(3L, "댓글", LocalDateTime.of(2022, 1, 1, 0, 0), "copro@mail.com", "copro")),
+                pageable,
+                false));
+
+        // When & Then
+        mvc.perform(get("/json/articles/" + articleId + "/comments"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(3L))
+                .andExpect(jsonPath("$.content[0].createdAt").value("2022-01-01T00:00:00"))
+                .andExpect(jsonPath("$.hasNext").value(false));
+        then(articleCommentService).should().getArticleCommentResponses(articleId, pageable);
+    }
+
+
+    private ArticleResponse createArticleResponse() {
+        return ArticleResponse.of(1L, "title", "content", "#java", LocalDateTime.of(2022, 1, 1, 0, 0), "copro@mail.com", "copro", 0L, null);
+    }
+
+}
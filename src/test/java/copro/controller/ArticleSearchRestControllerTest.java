@@ -0,0 +1,122 @@
+package copro.controller;
+
+import copro.projectboard.domain.Article;
+import copro.projectboard.domain.Hashtag;
+import copro.projectboard.domain.UserAccount;
+import copro.projectboard.repository.ArticleRepository;
+import copro.projectboard.repository.HashtagRepository;
+import copro.projectboard.repository.UserAccountRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Set;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * /api/articles/search 는 Data REST 기본 검색 목록(쿼리 메서드 링크) 대신 조건 검색 결과를 HAL 페이지로 돌려준다.
+ */
+@DisplayName("Data REST - 게시글 조건 검색")
+@AutoConfigureTestDatabase
+@AutoConfigureMockMvc
+@SpringBootTest
+@Transactional
+class ArticleSearchRestControllerTest {
+
+    private final MockMvc mvc;
+    private final ArticleRepository articleRepository;
+    private final HashtagRepository hashtagRepository;
+    private final UserAccountRepository userAccountRepository;
+
+    public ArticleSearchRestControllerTest(
+            @Autowired MockMvc mvc,
+            @Autowired ArticleRepository articleRepository,
+            @Autowired HashtagRepository hashtagRepository,
+            @Autowired UserAccountRepository userAccountRepository) {
+        this.mvc = mvc;
+        this.articleRepository = articleRepository;
+        this.hashtagRepository = hashtagRepository;
+        this.userAccountRepository = userAccountRepository;
+    }
+
+    @DisplayName("[api] 제목 끝에 * 를 붙이면, 기본 검색 목록 대신 앞부분 일치 게시글 페이지를 준다.")
+    @Test
+    void 제목앞부분일치_검색() throws Exception {
+        // Given
+
+        // When & Then
+        mvc.perform(get("/api/articles/search").queryParam("title", "Quisque*"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.valueOf("application/hal+json")))
+                .andExpect(jsonPath("$.page.totalElements").value(greaterThan(0)))
+                .andExpect(jsonPath("$._embedded.articles[*].title", everyItem(startsWith("Quisque"))));
+    }
+
+    @DisplayName("[api] 해시태그 끝에 * 를 붙이면, 대소문자와 # 에 상관없이 정규화한 해시태그 이름의 앞부분 일치로 찾는다.")
+    @Test
+    void 해시태그앞부분일치_검색() throws Exception {
+        // Given
+        UserAccount userAccount = userAccountRepository.findById(1L).orElseThrow();
+        Hashtag hashtag = hashtagRepository.save(Hashtag.of("Javascript"));
+        Article tagged = Article.of(userAccount, "해시태그 글", "본문", "#Javascript");
+        tagged.replaceHashtags(Set.of(hashtag));
+        articleRepository.saveAndFlush(tagged);
+
+        // When & Then
+        mvc.perform(get("/api/articles/search").queryParam("hashtag", "#JAVA*"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.valueOf("application/hal+json")))
+                .andExpect(jsonPath("$.page.totalElements").value(1))
+                .andExpect(jsonPath("$._embedded.articles[0].title").value("해시태그 글"));
+    }
+
+    @DisplayName("[api] 작성일시를 두 개 주면, 그 사이에 쓴 게시글을 찾는다.")
+    @Test
+    void 작성일시범위_검색() throws Exception {
+        // Given
+        String from = "2021-01-01T00:00:00";
+        String to = "2021-06-30T23:59:59";
+
+        // When & Then
+        mvc.perform(get("/api/articles/search").queryParam("createdAt", to, from))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.page.totalElements").value(greaterThan(0)))
+                .andExpect(jsonPath("$._embedded.articles[*].createdAt",
+                        everyItem(both(greaterThanOrEqualTo(from)).and(lessThanOrEqualTo(to)))));
+    }
+
+    @DisplayName("[api] 작성자 끝에 * 를 붙이면, 앞부분 일치로 찾는다.")
+    @Test
+    void 작성자앞부분일치_검색() throws Exception {
+        // Given
+
+        // When & Then
+        mvc.perform(get("/api/articles/search").queryParam("createdBy", "Ka*"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.page.totalElements").value(greaterThan(0)))
+                .andExpect(jsonPath("$._embedded.articles[*].createdBy", everyItem(startsWith("Ka"))));
+    }
+
+    @DisplayName("[api] 검색 조건이 없으면, 전체 게시글을 페이지로 준다.")
+    @Test
+    void 조건없이_검색() throws Exception {
+        // Given
+        long total = articleRepository.count();
+
+        // When & Then
+        mvc.perform(get("/api/articles/search").queryParam("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.page.totalElements").value((int) total))
+                .andExpect(jsonPath("$._embedded.articles", hasSize(5)));
+    }
+
+}
@@ -0,0 +1,105 @@
+package copro.controller;
+
+import copro.projectboard.config.SecurityConfig;
+import copro.projectboard.controller.BulkIngestController;
+import copro.projectboard.dto.BulkIngestResult;
+import copro.projectboard.service.BulkIngestService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.InputStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@DisplayName("API 컨트롤러 - 대량 적재")
+@Import(SecurityConfig.class)
+@WebMvcTest(BulkIngestController.class)
+class BulkIngestControllerTest {
+
+    private final MockMvc mvc;
+
+    @MockBean
+    private BulkIngestService bulkIngestService;
+
+    public BulkIngestControllerTest(@Autowired MockMvc mvc) {
+        this.mvc = mvc;
+    }
+
+    @DisplayName("[api][POST] 게시글 대량 적재 - NDJSON 을 받아 적재 결과를 돌려준다")
+    @WithMockUser(roles = "ADMIN")
+    @Test
+    void 게시글대량적재_결과반환() throws Exception {
+        // Given
+        given(bulkIngestService.ingestArticles(any(InputStream.class))).willReturn(BulkIngestResult.of(2L, 0L, 10L));
+
+        // When & Then
+        mvc.perform(post("/bulk/articles")
+                        .contentType(BulkIngestController.APPLICATION_NDJSON_VALUE)
+                        .content("""
+                                {"userId":"uno","title":"첫 글","content":"본문"}
+                                {"userId":"uno","title":"두번째 글","content":"본문"}
+                                """)
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.insertedRows").value(2))
+                .andExpect(jsonPath("$.rowsPerSecond").value(200.0));
+        then(bulkIngestService).should().ingestArticles(any(InputStream.class));
+    }
+
+    @DisplayName("[api][POST] 게시글 대량 적재 - 로그인하지 않으면 401 을 돌려주고 적재하지 않는다")
+    @Test
+    void 게시글대량적재_익명거부() throws Exception {
+        // Given
+
+        // When & Then
+        mvc.perform(post("/bulk/articles")
+                        .contentType(BulkIngestController.APPLICATION_NDJSON_VALUE)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .content("{\"userId\":\"uno\",\"title\":\"첫 글\",\"content\":\"본문\"}")
+                        .with(csrf()))
+                .andExpect(status().isUnauthorized());
+        then(bulkIngestService).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("[api][POST] 댓글 대량 적재 - 관리자가 아니면 403 을 돌려주고 적재하지 않는다")
+    @WithMockUser
+    @Test
+    void 댓글대량적재_일반사용자거부() throws Exception {
+        // Given
+
+        // When & Then
+        mvc.perform(post("/bulk/article-comments")
+                        .contentType(BulkIngestController.APPLICATION_NDJSON_VALUE)
+                        .content("{\"articleId\":1,\"userId\":\"uno\",\"content\":\"댓글\"}")
+                        .with(csrf()))
+                .andExpect(status().isForbidden());
+        then(bulkIngestService).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("[api][POST] 게시글 대량 적재 - CSRF 토큰이 없으면 관리자라도 403 을 돌려준다")
+    @WithMockUser(roles = "ADMIN")
+    @Test
+    void 게시글대량적재_CSRF토큰없음_거부() throws Exception {
+        // Given
+
+        // When & Then
+        mvc.perform(post("/bulk/articles")
+                        .contentType(BulkIngestController.APPLICATION_NDJSON_VALUE)
+                        .content("{\"userId\":\"uno\",\"title\":\"첫 글\",\"content\":\"본문\"}"))
+                .andExpect(status().isForbidden());
+        then(bulkIngestService).shouldHaveNoInteractions();
+    }
+
+}
@@ -0,0 +1,84 @@
+package copro.controller;
+
+import copro.projectboard.config.SecurityConfig;
+import copro.projectboard.controller.ExportController;
+import copro.projectboard.domain.type.ExportFormat;
+import copro.projectboard.service.ExportService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@DisplayName("API 컨트롤러 - 내보내기")
+@Import(SecurityConfig.class)
+@WebMvcTest(ExportController.class)
+class ExportControllerTest {
+
+    private final MockMvc mvc;
+
+    @MockBean
+    private ExportService exportService;
+
+    public ExportControllerTest(@Autowired MockMvc mvc) {
+        this.mvc = mvc;
+    }
+
+    @DisplayName("[api][GET] 게시글 내보내기 - 형식을 고르지 않으면 NDJSON 을 첨부 파일로 내려준다")
+    @Test
+    void 게시글내보내기_NDJSON() throws Exception {
+        // Given
+        given(exportService.exportArticles(eq(ExportFormat.NDJSON), any(OutputStream.class))).willAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(1).write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        });
+
+        // When & Then
+        mvc.perform(get("/export/articles"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, ExportFormat.NDJSON.getContentType()))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"articles.ndjson\""))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(content().string("{\"id\":1}\n"));
+        then(exportService).should().exportArticles(eq(ExportFormat.NDJSON), any(OutputStream.class));
+    }
+
+    @DisplayName("[api][GET] 댓글 내보내기 - gzip 을 받을 수 있으면 압축해서 내려준다")
+    @Test
+    void 댓글내보내기_gzip() throws Exception {
+        // Given
+        given(exportService.exportArticleComments(eq(ExportFormat.CSV), any(OutputStream.class))).willAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(1).write("id,content\n1,댓글\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        });
+
+        // When
+        byte[] body = mvc.perform(get("/export/article-comments")
+                        .queryParam("format", "CSV")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"article-comments.csv\""))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Then
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("id,content\n1,댓글\n");
+        }
+    }
+
+}
@@ -0,0 +1,36 @@
+package copro.projectboard.bootstrap;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("기동 - 시드 CSV 읽기")
+class SeedCsvReaderTest {
+
+    @DisplayName("따옴표 안의 쉼표/줄바꿈/큰따옴표를 값으로 읽고, 따옴표 없는 \\N 은 NULL 로 읽는다.")
+    @Test
+    void 따옴표와NULL_읽기() throws IOException {
+        // Given
+        String csv = """
+                title,content,hashtag
+                "a, b","첫 줄
+                둘째 줄 ""인용""",\\N
+                c,"\\N",
+                """;
+
+        // When
+        try (SeedCsvReader sut = new SeedCsvReader(new StringReader(csv))) {
+            // Then
+            assertThat(sut.readRow()).containsExactly("title", "content", "hashtag");
+            assertThat(sut.readRow()).containsExactly("a, b", "첫 줄\n둘째 줄 \"인용\"", null);
+            assertThat(sut.readRow()).isEqualTo(Arrays.asList("c", "\\N", ""));
+            assertThat(sut.readRow()).isNull();
+        }
+    }
+
+}
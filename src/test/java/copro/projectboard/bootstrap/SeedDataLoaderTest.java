@@ -0,0 +1,114 @@
+package copro.projectboard.bootstrap;
+
+import copro.projectboard.config.BootstrapConfig.SeedProperties;
+import copro.projectboard.config.BootstrapConfig.SeedStrategy;
+import copro.projectboard.event.ArticleImportedEvent;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * Flyway 마이그레이션으로 만든 빈 스키마(H2, MySQL 호환 모드)에 실제 시드 CSV 를 넣어 본다.
+ */
+@DisplayName("기동 - 시드 데이터 적재")
+@ExtendWith(MockitoExtension.class)
+class SeedDataLoaderTest {
+
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    private JdbcTemplate jdbcTemplate;
+    private SeedDataLoader sut;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:seed-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        Flyway.configure().dataSource(dataSource).load().migrate();
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        sut = new SeedDataLoader(
+                jdbcTemplate,
+                new DataSourceTransactionManager(dataSource),
+                new DefaultResourceLoader(),
+                eventPublisher,
+                ApplicationStartup.DEFAULT,
+                new SeedProperties(true, SeedStrategy.BATCH, "classpath:seed/", List.of("user_account", "article", "article_comment"), 50)
+        );
+    }
+
+    @DisplayName("빈 DB 이면 시드 CSV 를 모두 적재하고, 게시글 적재를 알린다.")
+    @Test
+    void 빈DB_시드적재() {
+        // Given
+
+        // When
+        sut.run(new DefaultApplicationArguments());
+
+        // Then
+        assertThat(count("user_account")).isEqualTo(2);
+        assertThat(count("article")).isEqualTo(123);
+        assertThat(count("article_comment")).isEqualTo(300);
+        assertThat(jdbcTemplate.queryForObject("select user_id from user_account where id = 1", String.class)).isEqualTo("uno");
+        assertThat(jdbcTemplate.queryForObject("select count(*) from article where hashtag is null", Long.class)).isPositive();
+        then(eventPublisher).should().publishEvent(ArticleImportedEvent.of(123));
+    }
+
+    @DisplayName("이미 데이터가 있으면 다시 적재하지 않는다.")
+    @Test
+    void 데이터있음_적재건너뜀() {
+        // Given
+        sut.run(new DefaultApplicationArguments());
+        reset(eventPublisher);
+
+        // When
+        sut.run(new DefaultApplicationArguments());
+
+        // Then
+        assertThat(count("user_account")).isEqualTo(2);
+        assertThat(count("article")).isEqualTo(123);
+        then(eventPublisher).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("LOAD DATA 를 쓸 수 없는 DB 에서는 batch insert 로 적재한다.")
+    @Test
+    void LOAD_DATA_MySQL아님_batch적재() {
+        // Given
+        SeedDataLoader loadData = new SeedDataLoader(
+                jdbcTemplate,
+                new DataSourceTransactionManager(jdbcTemplate.getDataSource()),
+                new DefaultResourceLoader(),
+                eventPublisher,
+                ApplicationStartup.DEFAULT,
+                new SeedProperties(true, SeedStrategy.LOAD_DATA, "classpath:seed/", List.of("user_account"), 50)
+        );
+
+        // When
+        loadData.run(new DefaultApplicationArguments());
+
+        // Then
+        assertThat(count("user_account")).isEqualTo(2);
+    }
+
+
+    private Long count(String table) {
+        return jdbcTemplate.queryForObject("select count(*) from " + table, Long.class);
+    }
+
+}
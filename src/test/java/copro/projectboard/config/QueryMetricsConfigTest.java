@@ -0,0 +1,32 @@
+package copro.projectboard.config;
+
+import copro.projectboard.config.QueryMetricsConfig.QueryMetricsProperties;
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("설정 - 쿼리 지표")
+class QueryMetricsConfigTest {
+
+    @DisplayName("Hibernate 느린 SQL 로그 기준은 board.query-metrics.slow-query-threshold 를 따른다.")
+    @Test
+    void 느린쿼리로그기준_설정값() {
+        // Given
+        Map<String, Object> hibernateProperties = new HashMap<>();
+
+        // When
+        new QueryMetricsConfig()
+                .slowQueryLogCustomizer(new QueryMetricsProperties(Duration.ofMillis(350), 100))
+                .customize(hibernateProperties);
+
+        // Then
+        assertThat(hibernateProperties).containsEntry(AvailableSettings.LOG_SLOW_QUERY, 350L);
+    }
+
+}
@@ -0,0 +1,66 @@
+package copro.projectboard.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import copro.projectboard.config.WebExecutionConfig.Mode;
+import copro.projectboard.config.WebExecutionConfig.WebExecutionProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.*;
+
+@DisplayName("설정 - 요청 처리 스레드 모드")
+class WebExecutionConfigTest {
+
+    @DisplayName("플랫폼 스레드 모드면, 커넥션 풀 크기를 바꾸지 않는다.")
+    @Test
+    void 플랫폼모드_풀크기유지() {
+        // Given
+        BeanPostProcessor sut = WebExecutionConfig.jdbcPoolSizer(new WebExecutionProperties(Mode.PLATFORM, 50, Duration.ofSeconds(3)));
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setMaximumPoolSize(10);
+
+        // When
+        sut.postProcessAfterInitialization(dataSource, "dataSource");
+
+        // Then
+        assertThat(dataSource.getMaximumPoolSize()).isEqualTo(10);
+    }
+
+    @DisplayName("가상 스레드가 없는 JDK 에서 가상 스레드 모드를 켜면, 플랫폼 스레드로 돌지 않고 기동을 멈춘다.")
+    @Test
+    void 가상스레드없는JDK_가상스레드모드_예외() {
+        // Given
+        assumeFalse(WebExecutionConfig.isVirtualThreadSupported());
+        WebExecutionProperties properties = new WebExecutionProperties(Mode.VIRTUAL, 50, Duration.ofSeconds(3));
+
+        // When
+        Throwable requestExecutor = catchThrowable(() -> new WebExecutionConfig().requestExecutorCustomizer(properties));
+        Throwable poolSizer = catchThrowable(() -> WebExecutionConfig.jdbcPoolSizer(properties)
+                .postProcessAfterInitialization(new HikariDataSource(), "dataSource"));
+
+        // Then
+        assertThat(requestExecutor).isInstanceOf(IllegalStateException.class);
+        assertThat(poolSizer).isInstanceOf(IllegalStateException.class);
+    }
+
+    @DisplayName("가상 스레드가 있는 JDK 에서 가상 스레드 모드를 켜면, 커넥션 풀 크기를 동시성 상한으로 맞춘다.")
+    @Test
+    void 가상스레드모드_풀크기조정() {
+        // Given
+        assumeTrue(WebExecutionConfig.isVirtualThreadSupported());
+        BeanPostProcessor sut = WebExecutionConfig.jdbcPoolSizer(new WebExecutionProperties(Mode.VIRTUAL, 50, Duration.ofSeconds(3)));
+        HikariDataSource dataSource = new HikariDataSource();
+
+        // When
+        sut.postProcessAfterInitialization(dataSource, "dataSource");
+
+        // Then
+        assertThat(dataSource.getMaximumPoolSize()).isEqualTo(50);
+        assertThat(dataSource.getConnectionTimeout()).isEqualTo(3000L);
+    }
+
+}
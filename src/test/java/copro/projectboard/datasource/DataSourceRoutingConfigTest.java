@@ -0,0 +1,62 @@
+package copro.projectboard.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import copro.projectboard.config.DataSourceRoutingConfig;
+import copro.projectboard.config.DataSourceRoutingConfig.DataSourceRoutingProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("데이터소스 - 라우팅 설정")
+class DataSourceRoutingConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(DataSourceAutoConfiguration.class))
+            .withUserConfiguration(RoutingPropertiesConfig.class, DataSourceRoutingConfig.class)
+            .withPropertyValues(
+                    "spring.datasource.url=jdbc:h2:mem:primary",
+                    "spring.datasource.hikari.maximum-pool-size=7",
+                    "spring.datasource.hikari.connection-timeout=1500",
+                    "board.datasource-routing.enabled=true",
+                    "board.datasource-routing.replicas[0].url=jdbc:h2:mem:replica-0",
+                    "board.datasource-routing.replicas[0].username=sa",
+                    "board.datasource-routing.replicas[1].url=jdbc:h2:mem:replica-1",
+                    "board.datasource-routing.replicas[1].username=sa",
+                    "board.datasource-routing.replicas[1].hikari.maximum-pool-size=3"
+            );
+
+    @DisplayName("primary 와 replica 커넥션 풀을 빈으로 등록하고, spring.datasource.hikari 와 replica 별 설정을 적용한다.")
+    @Test
+    void 커넥션풀_빈등록_hikari설정() {
+        contextRunner.run(context -> {
+            HikariDataSource primary = context.getBean(DataSourceRoutingConfig.PRIMARY_DATA_SOURCE, HikariDataSource.class);
+            HikariDataSource replica0 = context.getBean(DataSourceRoutingConfig.REPLICA_DATA_SOURCE_PREFIX + 0, HikariDataSource.class);
+            HikariDataSource replica1 = context.getBean(DataSourceRoutingConfig.REPLICA_DATA_SOURCE_PREFIX + 1, HikariDataSource.class);
+
+            assertThat(context.getBean(DataSource.class)).isInstanceOf(LazyConnectionDataSourceProxy.class);
+            assertThat(primary.getPoolName()).isEqualTo("primary");
+            assertThat(primary.getMaximumPoolSize()).isEqualTo(7);
+            assertThat(replica0.getPoolName()).isEqualTo("replica-0");
+            assertThat(replica0.isReadOnly()).isTrue();
+            assertThat(replica0.getMaximumPoolSize()).isEqualTo(7);
+            assertThat(replica0.getConnectionTimeout()).isEqualTo(1500L);
+            assertThat(replica1.getMaximumPoolSize()).isEqualTo(3);
+        });
+    }
+
+
+    @Configuration(proxyBeanMethods = false)
+    @EnableConfigurationProperties(DataSourceRoutingProperties.class)
+    static class RoutingPropertiesConfig {
+    }
+
+}
@@ -0,0 +1,204 @@
+package copro.projectboard.datasource;
+
+import copro.projectboard.config.DataSourceRoutingConfig;
+import copro.projectboard.config.DataSourceRoutingConfig.RoutingStrategy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * primary 와 replica 를 각각 H2 메모리 DB 로 띄우고, 각 DB 에 자기 이름을 적어 두어 어느 쪽에서 읽었는지 확인한다.
+ */
+@DisplayName("데이터소스 - 읽기/쓰기 라우팅")
+class ReplicaRoutingDataSourceTest {
+
+    private final List<EmbeddedDatabase> databases = new ArrayList<>();
+    private final List<EntityManagerFactory> entityManagerFactories = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        entityManagerFactories.forEach(EntityManagerFactory::close);
+        databases.forEach(EmbeddedDatabase::shutdown);
+    }
+
+    @DisplayName("읽기 전용 트랜잭션은 replica 를 돌아가며 쓰고, 쓰기 트랜잭션은 primary 를 쓴다.")
+    @Test
+    void 읽기전용_replica_쓰기_primary() {
+        // Given
+        DataSource dataSource = routingDataSource(Duration.ZERO);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        TransactionTemplate readOnly = transactionTemplate(dataSource, true);
+        TransactionTemplate readWrite = transactionTemplate(dataSource, false);
+
+        // When
+        String first = readOnly.execute(status -> serverName(jdbcTemplate));
+        String second = readOnly.execute(status -> serverName(jdbcTemplate));
+        String third = readOnly.execute(status -> serverName(jdbcTemplate));
+        String write = readWrite.execute(status -> serverName(jdbcTemplate));
+
+        // Then
+        assertThat(List.of(first, second, third)).containsExactly("replica-0", "replica-1", "replica-0");
+        assertThat(write).isEqualTo("primary");
+    }
+
+    @DisplayName("쓰기를 커밋한 직후의 읽기는, 복제 지연을 피하도록 primary 에서 읽는다.")
+    @Test
+    void 쓰기직후읽기_primary() {
+        // Given
+        DataSource dataSource = routingDataSource(Duration.ofMinutes(1));
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        TransactionTemplate readOnly = transactionTemplate(dataSource, true);
+        TransactionTemplate readWrite = transactionTemplate(dataSource, false);
+        String beforeWrite = readOnly.execute(status -> serverName(jdbcTemplate));
+
+        // When
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("update server set name = name"));
+        String afterWrite = readOnly.execute(status -> serverName(jdbcTemplate));
+
+        // Then
+        assertThat(beforeWrite).isEqualTo("replica-0");
+        assertThat(afterWrite).isEqualTo("primary");
+    }
+
+    @DisplayName("로그인하지 않은 요청은 세션별로 보므로, 다른 사람이 쓴 뒤에도 내 읽기는 replica 에서 읽는다.")
+    @Test
+    void 익명쓰기후_다른세션읽기_replica() {
+        // Given
+        DataSource dataSource = routingDataSource(Duration.ofMinutes(1));
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        TransactionTemplate readOnly = transactionTemplate(dataSource, true);
+        TransactionTemplate readWrite = transactionTemplate(dataSource, false);
+        MockHttpServletRequest writer = new MockHttpServletRequest();
+        MockHttpServletRequest reader = new MockHttpServletRequest();
+
+        // When
+        String writerRead;
+        String readerRead;
+        try {
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(writer));
+            readWrite.executeWithoutResult(status -> jdbcTemplate.update("update server set name = name"));
+            writerRead = readOnly.execute(status -> serverName(jdbcTemplate));
+
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(reader));
+            readerRead = readOnly.execute(status -> serverName(jdbcTemplate));
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+
+        // Then
+        assertThat(writerRead).isEqualTo("primary");
+        assertThat(readerRead).isEqualTo("replica-0");
+    }
+
+    @DisplayName("OSIV 처럼 요청 내내 EntityManager 가 열려 있어도, 읽기 전용 트랜잭션 뒤의 쓰기 트랜잭션은 primary 를 쓴다.")
+    @Test
+    void OSIV_읽기후쓰기_primary() {
+        // Given
+        DataSource dataSource = routingDataSource(Duration.ZERO);
+        EntityManagerFactory entityManagerFactory = entityManagerFactory(dataSource);
+        JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory);
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(entityManager));
+
+        // When
+        String read;
+        String write;
+        try {
+            read = readOnly.execute(status -> serverName(entityManager));
+            write = readWrite.execute(status -> serverName(entityManager));
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            entityManager.close();
+        }
+
+        // Then
+        assertThat(read).isEqualTo("replica-0");
+        assertThat(write).isEqualTo("primary");
+    }
+
+
+    private DataSource routingDataSource(Duration readYourWritesWindow) {
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(
+                database("primary"),
+                List.of(database("replica-0"), database("replica-1")),
+                RoutingStrategy.ROUND_ROBIN,
+                new ReadYourWritesGuard(readYourWritesWindow)
+        );
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    private EmbeddedDatabase database(String name) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("create table server (name varchar(20))");
+        jdbcTemplate.update("insert into server (name) values (?)", name);
+        databases.add(database);
+        return database;
+    }
+
+    /**
+     * 엔티티 없이 네이티브 쿼리만 쓰는 영속성 단위. 운영과 같은 Hibernate 커넥션 설정을 쓴다.
+     */
+    private EntityManagerFactory entityManagerFactory(DataSource dataSource) {
+        Map<String, Object> jpaProperties = new HashMap<>();
+        new DataSourceRoutingConfig().releaseConnectionAfterTransaction().customize(jpaProperties);
+
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan(getClass().getPackageName());
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(jpaProperties);
+        factoryBean.afterPropertiesSet();
+
+        EntityManagerFactory entityManagerFactory = factoryBean.getObject();
+        entityManagerFactories.add(entityManagerFactory);
+        return entityManagerFactory;
+    }
+
+    private TransactionTemplate transactionTemplate(DataSource dataSource, boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate;
+    }
+
+    private static String serverName(JdbcTemplate jdbcTemplate) {
+        return jdbcTemplate.queryForObject("select name from server", String.class);
+    }
+
+    private static String serverName(EntityManager entityManager) {
+        return (String) entityManager.createNativeQuery("select name from server").getSingleResult();
+    }
+
+}
@@ -0,0 +1,73 @@
+package copro.projectboard.metrics;
+
+import copro.projectboard.config.JpaConfig;
+import copro.projectboard.config.QueryPlanCacheConfig;
+import copro.projectboard.config.QueryPlanCacheConfig.QueryPlanCacheProperties;
+import copro.projectboard.domain.type.SearchType;
+import copro.projectboard.repository.ArticleRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.export.simple.SimpleMetricsExportAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.orm.jpa.HibernateMetricsAutoConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("지표 - 쿼리 계획 캐시")
+@EnableConfigurationProperties(QueryPlanCacheProperties.class)
+@ImportAutoConfiguration({
+        MetricsAutoConfiguration.class,
+        CompositeMeterRegistryAutoConfiguration.class,
+        SimpleMetricsExportAutoConfiguration.class,
+        HibernateMetricsAutoConfiguration.class
+})
+@Import({JpaConfig.class, QueryPlanCacheConfig.class})
+@DataJpaTest(properties = "board.query-plan-cache.statistics=true")
+class QueryPlanCacheMetricsTest {
+
+    private final ArticleRepository articleRepository;
+    private final MeterRegistry meterRegistry;
+
+    public QueryPlanCacheMetricsTest(
+            @Autowired ArticleRepository articleRepository,
+            @Autowired MeterRegistry meterRegistry) {
+        this.articleRepository = articleRepository;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @DisplayName("검색어만 다른 같은 모양의 검색은, 쿼리 계획을 캐시에서 꺼내고 hibernate.cache.query.plan 적중으로 센다.")
+    @Test
+    void 같은모양검색_계획캐시적중() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
+        articleRepository.findSliceBySearch(SearchType.TITLE, "first", null, pageable);
+        double previousHits = queryPlans("hit");
+        double previousMisses = queryPlans("miss");
+
+        // When
+        articleRepository.findSliceBySearch(SearchType.TITLE, "second", null, pageable);
+        articleRepository.findSliceBySearch(SearchType.TITLE, "third", null, pageable);
+
+        // Then
+        assertThat(queryPlans("hit")).isGreaterThanOrEqualTo(previousHits + 2);
+        assertThat(queryPlans("miss")).isEqualTo(previousMisses);
+    }
+
+    private double queryPlans(String result) {
+        FunctionCounter counter = meterRegistry.find("hibernate.cache.query.plan").tag("result", result).functionCounter();
+        assertThat(counter).isNotNull();
+        return counter.count();
+    }
+
+}
@@ -0,0 +1,103 @@
+package copro.projectboard.metrics;
+
+import copro.projectboard.config.QueryMetricsConfig.QueryMetricsProperties;
+import copro.projectboard.domain.Article;
+import copro.projectboard.domain.type.SearchType;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.data.repository.Repository;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("지표 - 리포지토리 호출 시간")
+class RepositoryMetricsAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SlowQueryLog slowQueryLog;
+    private SampleRepository sut;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        slowQueryLog = new SlowQueryLog(new QueryMetricsProperties(Duration.ofMillis(50), 10));
+
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new SampleRepositoryImpl());
+        proxyFactory.addInterface(SampleRepository.class);
+        proxyFactory.addAspect(new RepositoryMetricsAspect(meterRegistry, slowQueryLog));
+        sut = proxyFactory.getProxy();
+    }
+
+    @DisplayName("리포지토리 메서드를 호출하면, 리포지토리/메서드/검색 유형 태그로 시간을 잰다.")
+    @Test
+    void 리포지토리호출_타이머기록() {
+        // When
+        sut.search(SearchType.TITLE, "title", 0L);
+        sut.search(null, null, 0L);
+
+        // Then
+        Timer titleSearch = meterRegistry.find("board.repository.invocations")
+                .tags("repository", "SampleRepository", "method", "search", "searchType", "TITLE", "exception", "none")
+                .timer();
+        Timer plainSearch = meterRegistry.find("board.repository.invocations")
+                .tags("searchType", RepositoryMetricsAspect.NONE)
+                .timer();
+        assertThat(titleSearch).isNotNull();
+        assertThat(titleSearch.count()).isEqualTo(1L);
+        assertThat(plainSearch).isNotNull();
+        assertThat(slowQueryLog.getRecent()).isEmpty();
+    }
+
+    @DisplayName("기준 시간보다 오래 걸리면, 느린 쿼리로 남긴다.")
+    @Test
+    void 느린호출_느린쿼리기록() {
+        // When
+        sut.search(SearchType.CONTENT, "content", 80L);
+
+        // Then
+        assertThat(slowQueryLog.getRecent())
+                .singleElement()
+                .hasFieldOrPropertyWithValue("repository", "SampleRepository")
+                .hasFieldOrPropertyWithValue("method", "search")
+                .hasFieldOrPropertyWithValue("searchType", "CONTENT");
+    }
+
+    @DisplayName("리포지토리가 예외를 던지면, 예외 이름으로 태그를 달고 그대로 던진다.")
+    @Test
+    void 리포지토리예외_예외태그() {
+        // When
+        Throwable thrown = catchThrowable(() -> sut.search(SearchType.ID, "boom", 0L));
+
+        // Then
+        assertThat(thrown).isInstanceOf(IllegalStateException.class);
+        assertThat(meterRegistry.find("board.repository.invocations").tags("exception", "IllegalStateException").timer())
+                .isNotNull();
+    }
+
+
+    interface SampleRepository extends Repository<Article, Long> {
+        List<Article> search(SearchType searchType, String searchKeyword, long delayMillis);
+    }
+
+    static class SampleRepositoryImpl implements SampleRepository {
+        @Override
+        public List<Article> search(SearchType searchType, String searchKeyword, long delayMillis) {
+            if ("boom".equals(searchKeyword)) {
+                throw new IllegalStateException(searchKeyword);
+            }
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return List.of();
+        }
+    }
+
+}
@@ -0,0 +1,123 @@
+package copro.projectboard.repository;
+
+import copro.projectboard.config.JpaConfig;
+import copro.projectboard.config.SearchConfig.FullTextProperties;
+import copro.projectboard.domain.Article;
+import copro.projectboard.domain.UserAccount;
+import copro.projectboard.domain.type.SearchType;
+import copro.projectboard.dto.ArticleSummaryDto;
+import copro.projectboard.search.FullTextIndexInitializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("전문 검색 - H2 FullText")
+@ImportAutoConfiguration(JdbcTemplateAutoConfiguration.class)
+@Import(JpaConfig.class)
+@DataJpaTest
+class ArticleFullTextSearchTest {
+
+    private final ArticleRepository articleRepository;
+    private final UserAccountRepository userAccountRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    public ArticleFullTextSearchTest(
+            @Autowired ArticleRepository articleRepository,
+            @Autowired UserAccountRepository userAccountRepository,
+            @Autowired JdbcTemplate jdbcTemplate) {
+        this.articleRepository = articleRepository;
+        this.userAccountRepository = userAccountRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @BeforeEach
+    void setUp() {
+        new FullTextIndexInitializer(jdbcTemplate, new FullTextProperties(Set.of(SearchType.TITLE, SearchType.CONTENT)))
+                .createIndexes();
+    }
+
+    @DisplayName("본문 전문 검색을 하면, 본문에 검색어가 있는 게시글만 요약으로 돌려준다.")
+    @Test
+    void 본문전문검색_본문일치게시글반환() {
+        // Given
+        UserAccount userAccount = userAccountRepository.findById(1L).orElseThrow();
+        Article inContent = articleRepository.save(Article.of(userAccount, "첫 글", "전문검색 대상 본문", "#java"));
+        articleRepository.save(Article.of(userAccount, "전문검색 제목", "다른 본문", "#java"));
+        articleRepository.flush();
+
+        // When
+        Slice<ArticleSummaryDto> articles = articleRepository.findSliceByFullText(SearchType.CONTENT, "전문검색", PageRequest.of(0, 10));
+
+        // Then
+        assertThat(articles.getContent())
+                .extracting(ArticleSummaryDto::id)
+                .containsExactly(inContent.getId());
+        assertThat(articles.getContent().get(0).nickname()).isEqualTo(userAccount.getNickname());
+        assertThat(articles.hasNext()).isFalse();
+    }
+
+    @DisplayName("전문 검색 결과가 페이지 크기보다 많으면, 다음 페이지가 있다고 알려준다.")
+    @Test
+    void 제목전문검색_다음페이지있음() {
+        // Given
+        UserAccount userAccount = userAccountRepository.findById(1L).orElseThrow();
+        for (int i = 0; i < 3; i++) {
+            articleRepository.save(Article.of(userAccount, "관련도 " + i, "본문", null));
+        }
+        articleRepository.flush();
+
+        // When
+        Slice<ArticleSummaryDto> articles = articleRepository.findSliceByFullText(SearchType.TITLE, "관련도", PageRequest.of(0, 2));
+
+        // Then
+        assertThat(articles.getContent()).hasSize(2);
+        assertThat(articles.hasNext()).isTrue();
+    }
+
+    @DisplayName("전문 검색 건수는 목록과 같은 조건으로 센다.")
+    @Test
+    void 제목전문검색_건수() {
+        // Given
+        UserAccount userAccount = userAccountRepository.findById(1L).orElseThrow();
+        for (int i = 0; i < 3; i++) {
+            articleRepository.save(Article.of(userAccount, "건수확인 " + i, "본문", null));
+        }
+        articleRepository.save(Article.of(userAccount, "다른 제목", "건수확인 본문", null));
+        articleRepository.flush();
+
+        // When
+        long count = articleRepository.countByFullText(SearchType.TITLE, "건수확인");
+
+        // Then
+        assertThat(count).isEqualTo(3L);
+    }
+
+    @DisplayName("전문 색인을 확인하기 전에는, 전문 검색을 켠 검색 유형이어도 준비되지 않았다고 알려준다.")
+    @Test
+    void 전문색인확인전_준비안됨() {
+        // Given
+        FullTextIndexInitializer initializer = new FullTextIndexInitializer(jdbcTemplate, new FullTextProperties(Set.of(SearchType.TITLE)));
+
+        // When
+        boolean readyBefore = initializer.isReadyFor(SearchType.TITLE);
+        initializer.createIndexes();
+
+        // Then
+        assertThat(readyBefore).isFalse();
+        assertThat(initializer.isReadyFor(SearchType.TITLE)).isTrue();
+        assertThat(initializer.isReadyFor(SearchType.CONTENT)).isFalse();
+    }
+
+}
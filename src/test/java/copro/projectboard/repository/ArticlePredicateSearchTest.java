@@ -0,0 +1,184 @@
+package copro.projectboard.repository;
+
+import com.querydsl.core.types.Predicate;
+import copro.projectboard.config.JpaConfig;
+import copro.projectboard.domain.Article;
+import copro.projectboard.domain.Hashtag;
+import copro.projectboard.domain.QArticle;
+import copro.projectboard.domain.UserAccount;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.querydsl.SimpleEntityPathResolver;
+import org.springframework.data.querydsl.binding.QuerydslBindings;
+import org.springframework.data.querydsl.binding.QuerydslPredicateBuilder;
+import org.springframework.data.util.ClassTypeInformation;
+import org.springframework.format.support.DefaultFormattingConversionService;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Data REST 조건 검색 바인딩이 만든 SQL 을 그대로 H2 EXPLAIN 에 넣어, 앞부분 일치가 색인을 타는지 확인한다.
+ */
+@DisplayName("조건 검색 - QueryDSL 바인딩")
+@ImportAutoConfiguration(JdbcTemplateAutoConfiguration.class)
+@Import(JpaConfig.class)
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=copro.projectboard.repository.ArticlePredicateSearchTest$LastSelectInspector")
+class ArticlePredicateSearchTest {
+
+    private final ArticleRepository articleRepository;
+    private final HashtagRepository hashtagRepository;
+    private final UserAccountRepository userAccountRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    public ArticlePredicateSearchTest(
+            @Autowired ArticleRepository articleRepository,
+            @Autowired HashtagRepository hashtagRepository,
+            @Autowired UserAccountRepository userAccountRepository,
+            @Autowired JdbcTemplate jdbcTemplate) {
+        this.articleRepository = articleRepository;
+        this.hashtagRepository = hashtagRepository;
+        this.userAccountRepository = userAccountRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @DisplayName("제목 끝에 * 를 붙이면, 앞부분 일치로 찾고 title 색인을 탄다.")
+    @Test
+    void 제목앞부분일치_색인사용() {
+        // Given
+        Predicate predicate = predicate("title", "Quisque*");
+
+        // When
+        List<Article> articles = findAll(predicate);
+        String plan = explain(LastSelectInspector.last(), "'Quisque%'");
+
+        // Then
+        assertThat(articles).isNotEmpty().allSatisfy(article -> assertThat(article.getTitle()).startsWith("Quisque"));
+        assertThat(plan).doesNotContain("tableScan").contains("TITLE >=");
+    }
+
+    @DisplayName("작성자 끝에 * 를 붙이면, 앞부분 일치로 찾고 createdBy 색인을 탄다.")
+    @Test
+    void 작성자앞부분일치_색인사용() {
+        // Given
+        Predicate predicate = predicate("createdBy", "Ka*");
+
+        // When
+        List<Article> articles = findAll(predicate);
+        String plan = explain(LastSelectInspector.last(), "'Ka%'");
+
+        // Then
+        assertThat(articles).isNotEmpty().allSatisfy(article -> assertThat(article.getCreatedBy()).startsWith("Ka"));
+        assertThat(plan).doesNotContain("tableScan").contains("CREATED_BY >=");
+    }
+
+    @DisplayName("* 없이 찾으면, 예전처럼 대소문자 무시 부분 일치라 색인 없이 전체를 훑는다.")
+    @Test
+    void 제목부분일치_전체훑기() {
+        // Given
+        Predicate predicate = predicate("title", "quisque");
+
+        // When
+        List<Article> articles = findAll(predicate);
+        String plan = explain(LastSelectInspector.last(), "'%quisque%'");
+
+        // Then
+        assertThat(articles).isNotEmpty();
+        assertThat(plan).contains("tableScan");
+    }
+
+    @DisplayName("해시태그 끝에 * 를 붙이면, 대소문자와 # 에 상관없이 정규화한 해시태그 이름의 앞부분 일치로 찾는다.")
+    @Test
+    void 해시태그앞부분일치_정규화() {
+        // Given
+        UserAccount userAccount = userAccountRepository.findById(1L).orElseThrow();
+        Hashtag hashtag = hashtagRepository.save(Hashtag.of("Javascript"));
+        Article tagged = Article.of(userAccount, "해시태그 글", "본문", "#Javascript");
+        tagged.replaceHashtags(Set.of(hashtag));
+        articleRepository.saveAndFlush(tagged);
+
+        // When
+        List<Article> articles = findAll(predicate("hashtag", "#JAVA*"));
+
+        // Then
+        assertThat(articles).extracting(Article::getId).containsExactly(tagged.getId());
+    }
+
+    @DisplayName("작성일시를 두 개 주면, 그 사이에 쓴 게시글을 찾는다.")
+    @Test
+    void 작성일시범위검색() {
+        // Given
+        LocalDateTime from = LocalDateTime.of(2021, 1, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2021, 6, 30, 23, 59, 59);
+        MultiValueMap<String, String> values = new LinkedMultiValueMap<>();
+        values.add("createdAt", to.toString());
+        values.add("createdAt", from.toString());
+
+        // When
+        List<Article> articles = findAll(predicate(values));
+
+        // Then
+        assertThat(articles).isNotEmpty().allSatisfy(article -> assertThat(article.getCreatedAt()).isBetween(from, to));
+    }
+
+
+    private Predicate predicate(String property, String value) {
+        MultiValueMap<String, String> values = new LinkedMultiValueMap<>();
+        values.add(property, value);
+        return predicate(values);
+    }
+
+    private Predicate predicate(MultiValueMap<String, String> values) {
+        QuerydslBindings bindings = new QuerydslBindings();
+        articleRepository.customize(bindings, QArticle.article);
+        return new QuerydslPredicateBuilder(new DefaultFormattingConversionService(), SimpleEntityPathResolver.INSTANCE)
+                .getPredicate(ClassTypeInformation.from(Article.class), values, bindings);
+    }
+
+    private List<Article> findAll(Predicate predicate) {
+        return StreamSupport.stream(articleRepository.findAll(predicate).spliterator(), false).toList();
+    }
+
+    // 파라미터가 하나뿐인 쿼리만 넘긴다.
+    private String explain(String sql, String literal) {
+        assertThat(sql).containsOnlyOnce("?");
+        return jdbcTemplate.queryForList("explain " + sql.replace("?", literal), String.class)
+                .stream()
+                .collect(Collectors.joining("\n"));
+    }
+
+
+    // 게시글을 읽은 쿼리만 남긴다. 뒤따르는 회원 즉시 로딩 쿼리는 건너뛴다.
+    public static class LastSelectInspector implements StatementInspector {
+
+        private static volatile String last;
+
+        static String last() {
+            return last;
+        }
+
+        @Override
+        public String inspect(String sql) {
+            String lowerCase = sql.toLowerCase();
+            if (lowerCase.startsWith("select") && lowerCase.contains(" from article ")) {
+                last = sql;
+            }
+            return sql;
+        }
+    }
+
+}
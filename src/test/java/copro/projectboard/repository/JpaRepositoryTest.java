@@ -2,14 +2,25 @@ package copro.projectboard.repository;
 
 import copro.projectboard.config.JpaConfig;
 import copro.projectboard.domain.Article;
+import copro.projectboard.domain.ArticleComment;
 import copro.projectboard.domain.UserAccount;
+import copro.projectboard.dto.ArticleSummaryDto;
+import copro.projectboard.dto.ArticleVersion;
+import copro.projectboard.dto.response.ArticleCommentResponse;
+import copro.projectboard.dto.response.ArticleResponse;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 
+import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
@@ -23,6 +34,8 @@ class JpaRepositoryTest {
     private ArticleCommentRepository articleCommentRepository;
     private final UserAccountRepository userAccountRepository;
 
+    @Autowired private TestEntityManager entityManager;
+
     public JpaRepositoryTest(
             @Autowired ArticleRepository articleRepository,
             @Autowired ArticleCommentRepository articleCommentRepository,
@@ -44,6 +57,93 @@ class JpaRepositoryTest {
         Assertions.assertThat(articles).isNotNull().hasSize(123);
     }
 
+    @DisplayName("목록 요약 조회 - 본문 없이 작성자 정보까지 함께 읽는다")
+    @Test
+    void 목록요약조회테스트(){
+        //given
+        Article article = articleRepository.findById(1L).orElseThrow();
+
+        //when
+        Slice<ArticleSummaryDto> summaries = articleRepository.findSliceBySearch(
+                null, null, null, PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "id")));
+
+        //Then
+        Assertions.assertThat(summaries.hasNext()).isTrue();
+        Assertions.assertThat(summaries.getContent()).hasSize(10);
+        Assertions.assertThat(summaries.getContent().get(0))
+                .hasFieldOrPropertyWithValue("id", article.getId())
+                .hasFieldOrPropertyWithValue("title", article.getTitle())
+                .hasFieldOrPropertyWithValue("userId", article.getUserAccount().getUserId())
+                .hasFieldOrPropertyWithValue("nickname", article.getUserAccount().getNickname());
+    }
+
+    @DisplayName("작성자 검색 - 회원 ID 목록으로 작성자의 게시글만 작성일시 순으로 읽는다")
+    @Test
+    void 작성자검색테스트(){
+        //given
+        Article article = articleRepository.findById(1L).orElseThrow();
+        Long userAccountId = article.getUserAccount().getId();
+        long expected = articleRepository.findAll().stream()
+                .filter(it -> it.getUserAccount().getId().equals(userAccountId))
+                .count();
+
+        //when
+        Slice<ArticleSummaryDto> summaries = articleRepository.findSliceByUserAccountIds(
+                List.of(userAccountId), PageRequest.of(0, 200, Sort.by(Sort.Direction.DESC, "createdAt")));
+
+        //Then
+        Assertions.assertThat(summaries.hasNext()).isFalse();
+        Assertions.assertThat(summaries.getContent())
+                .hasSize((int) expected)
+                .allSatisfy(summary -> Assertions.assertThat(summary.userId()).isEqualTo(article.getUserAccount().getUserId()))
+                .extracting(ArticleSummaryDto::createdAt)
+                .isSortedAccordingTo(Comparator.reverseOrder());
+    }
+
+    @DisplayName("작성자 커서 검색 - 회원 ID 목록으로 세고, 커서 페이징해도 같은 게시글을 읽는다")
+    @Test
+    void 작성자커서검색테스트(){
+        //given
+        Article article = articleRepository.findById(1L).orElseThrow();
+        List<Long> userAccountIds = List.of(article.getUserAccount().getId());
+
+        //when
+        long count = articleRepository.countByUserAccountIds(userAccountIds);
+        List<ArticleSummaryDto> summaries = articleRepository.findByCursorAndUserAccountIds(userAccountIds, null, 200);
+
+        //Then
+        Assertions.assertThat(summaries)
+                .hasSize((int) count)
+                .allSatisfy(summary -> Assertions.assertThat(summary.userId()).isEqualTo(article.getUserAccount().getUserId()))
+                .extracting(ArticleSummaryDto::createdAt)
+                .isSortedAccordingTo(Comparator.reverseOrder());
+    }
+
+    @DisplayName("JSON API 조회 - 엔티티 없이 응답 레코드로 바로 읽는다")
+    @Test
+    void 응답레코드조회테스트(){
+        //given
+        Article article = articleRepository.findById(1L).orElseThrow();
+
+        //when
+        Slice<ArticleResponse> articles = articleRepository.findResponseSlice(PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "id")));
+        ArticleResponse single = articleRepository.findResponseById(1L).orElseThrow();
+        Slice<ArticleCommentResponse> articleComments = articleCommentRepository.findResponseSlice(
+                1L, PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "createdAt")));
+
+        //Then
+        Assertions.assertThat(articles.hasNext()).isTrue();
+        Assertions.assertThat(articles.getContent()).hasSize(10);
+        Assertions.assertThat(articles.getContent().get(0)).isEqualTo(single);
+        Assertions.assertThat(single)
+                .hasFieldOrPropertyWithValue("id", article.getId())
+                .hasFieldOrPropertyWithValue("content", article.getContent())
+                .hasFieldOrPropertyWithValue("email", article.getUserAccount().getEmail())
+                .hasFieldOrPropertyWithValue("commentCount", article.getCommentCount());
+        Assertions.assertThat(articleComments.getContent()).hasSize(2);
+        Assertions.assertThat(articleComments.hasNext()).isEqualTo(articleCommentRepository.findByArticle_Id(1L).size() > 2);
+    }
+
     @DisplayName("insert테스트")
     @Test
     void insert테스트(){
@@ -90,4 +190,49 @@ class JpaRepositoryTest {
         Assertions.assertThat(articleRepository.count()).isEqualTo(previousArticleCount-1);
         Assertions.assertThat(articleCommentRepository.count()).isEqualTo(previousArticleCommentCount -deletedCommentsSize);
     }
+
+    @DisplayName("댓글 수 갱신 - 증가는 누적하고, 재계산은 댓글 테이블 기준으로 되돌린다")
+    @Test
+    void 댓글수갱신테스트(){
+        //given
+        Article article = articleRepository.findById(1L).orElseThrow();
+        int actualCommentCount = articleCommentRepository.findByArticle_Id(1L).size();
+        LocalDateTime commentedAt = LocalDateTime.of(2030, 1, 1, 0, 0);
+        Assertions.assertThat(article.getCommentCount()).isEqualTo(actualCommentCount);
+
+        //when
+        articleRepository.increaseCommentCount(1L, 2, commentedAt);
+        entityManager.clear();
+        Article increased = articleRepository.findById(1L).orElseThrow();
+        articleRepository.refreshCommentStats(1L, 1L);
+        entityManager.clear();
+        Article refreshed = articleRepository.findById(1L).orElseThrow();
+
+        //Then
+        Assertions.assertThat(increased.getCommentCount()).isEqualTo(actualCommentCount + 2);
+        Assertions.assertThat(increased.getLastCommentedAt()).isEqualTo(commentedAt);
+        Assertions.assertThat(refreshed.getCommentCount()).isEqualTo(actualCommentCount);
+        Assertions.assertThat(refreshed.getLastCommentedAt()).isBefore(commentedAt);
+    }
+
+    @DisplayName("버전 조회 - 댓글 수는 반정규화 컬럼으로, 댓글 최종 수정 시각은 댓글 테이블에서 읽는다")
+    @Test
+    void 버전조회테스트(){
+        //given
+        Article article = articleRepository.findById(1L).orElseThrow();
+        LocalDateTime lastCommentModifiedAt = articleCommentRepository.findByArticle_Id(1L).stream()
+                .map(ArticleComment::getModifiedAt)
+                .max(Comparator.naturalOrder())
+                .orElseThrow();
+
+        //when
+        ArticleVersion version = articleRepository.findVersionById(1L).orElseThrow();
+
+        //Then
+        Assertions.assertThat(version.articleModifiedAt()).isEqualTo(article.getModifiedAt());
+        Assertions.assertThat(version.commentsModifiedAt()).isEqualTo(lastCommentModifiedAt);
+        Assertions.assertThat(version.commentCount()).isEqualTo(article.getCommentCount());
+        Assertions.assertThat(version.viewCount()).isEqualTo(article.getViewCount());
+        Assertions.assertThat(articleRepository.findVersionById(-1L)).isEmpty();
+    }
 }
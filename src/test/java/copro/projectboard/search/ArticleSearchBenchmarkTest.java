@@ -0,0 +1,141 @@
+package copro.projectboard.search;
+
+import copro.projectboard.config.JpaConfig;
+import copro.projectboard.config.SearchConfig.FullTextProperties;
+import copro.projectboard.config.SearchConfig.SearchIndexProperties;
+import copro.projectboard.domain.Article;
+import copro.projectboard.domain.UserAccount;
+import copro.projectboard.domain.type.SearchType;
+import copro.projectboard.dto.ArticleSummaryDto;
+import copro.projectboard.repository.ArticleRepository;
+import copro.projectboard.repository.UserAccountRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * LIKE 전체 검색과 역색인 + 후보 검증 검색, DB 전문 검색의 응답 시간을 비교한다.
+ * 기본 test 태스크에서는 제외되고, ./gradlew benchmark 로 실행한다.
+ */
+@Slf4j
+@Tag("benchmark")
+@DisplayName("검색 색인 - LIKE 검색 대비 벤치마크")
+@ImportAutoConfiguration(JdbcTemplateAutoConfiguration.class)
+@Import(JpaConfig.class)
+@DataJpaTest
+class ArticleSearchBenchmarkTest {
+
+    private static final int ARTICLE_COUNT = 20_000;
+    private static final int ITERATIONS = 50;
+    private static final String[] WORDS = {"스프링", "게시판", "자바", "댓글", "검색", "색인", "spring", "board", "java", "query"};
+
+    private final ArticleRepository articleRepository;
+    private final UserAccountRepository userAccountRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    public ArticleSearchBenchmarkTest(
+            @Autowired ArticleRepository articleRepository,
+            @Autowired UserAccountRepository userAccountRepository,
+            @Autowired JdbcTemplate jdbcTemplate) {
+        this.articleRepository = articleRepository;
+        this.userAccountRepository = userAccountRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @DisplayName("본문 검색 - LIKE vs 역색인")
+    @Test
+    void 본문검색_벤치마크() {
+        // Given
+        seedArticles();
+        ArticleSearchIndex index = new ArticleSearchIndex(articleRepository, new SearchIndexProperties(true, 2, 1000, 500));
+        index.rebuild();
+        String keyword = "희귀한단어";
+        Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+        // When
+        long likeNanos = measure(() -> articleRepository.findByContentContaining(keyword, pageable));
+        long indexNanos = measure(() -> {
+            Set<Long> candidates = index.findCandidates(SearchType.CONTENT, keyword).orElseThrow();
+            return articleRepository.findSliceBySearch(SearchType.CONTENT, keyword, candidates, pageable);
+        });
+
+        // Then
+        log.info("게시글 {}건 본문 검색 평균 - LIKE: {}us, 역색인: {}us",
+                articleRepository.count(), likeNanos / 1_000, indexNanos / 1_000);
+        assertThat(articleRepository.findByContentContaining(keyword, pageable).map(Article::getId).getContent())
+                .isEqualTo(articleRepository.findSliceBySearch(
+                        SearchType.CONTENT, keyword, index.findCandidates(SearchType.CONTENT, keyword).orElseThrow(), pageable).map(ArticleSummaryDto::id).getContent());
+    }
+
+
+    @DisplayName("본문 검색 - LIKE vs DB 전문 검색")
+    @Test
+    void 본문전문검색_벤치마크() {
+        // Given
+        seedArticles();
+        new FullTextIndexInitializer(jdbcTemplate, new FullTextProperties(Set.of(SearchType.CONTENT))).createIndexes();
+        String keyword = "희귀한단어";
+        Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+        // When
+        long likeNanos = measure(() -> articleRepository.findByContentContaining(keyword, pageable));
+        long fullTextNanos = measure(() -> articleRepository.findSliceByFullText(SearchType.CONTENT, keyword, pageable));
+
+        // Then
+        log.info("게시글 {}건 본문 검색 평균 - LIKE: {}us, 전문 검색: {}us",
+                articleRepository.count(), likeNanos / 1_000, fullTextNanos / 1_000);
+        // 정렬 기준이 다르므로(관련도 vs 작성일) 한 페이지에 모두 담아 결과 집합만 비교한다.
+        Pageable all = PageRequest.of(0, ARTICLE_COUNT / 1000 + 1);
+        assertThat(articleRepository.findSliceByFullText(SearchType.CONTENT, keyword, all).map(ArticleSummaryDto::id).getContent())
+                .containsExactlyInAnyOrderElementsOf(articleRepository.findByContentContaining(keyword, all).map(Article::getId).getContent());
+    }
+
+    private long measure(Supplier<Slice<?>> search) {
+        for (int i = 0; i < ITERATIONS / 5; i++) {
+            search.get();
+        }
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            search.get();
+        }
+        return (System.nanoTime() - startedAt) / ITERATIONS;
+    }
+
+    private void seedArticles() {
+        UserAccount userAccount = userAccountRepository.findById(1L).orElseThrow();
+        Random random = new Random(42);
+        List<Article> articles = new ArrayList<>();
+        for (int i = 0; i < ARTICLE_COUNT; i++) {
+            StringBuilder content = new StringBuilder();
+            for (int w = 0; w < 200; w++) {
+                content.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+            }
+            if (i % 1000 == 0) {
+                content.append("희귀한단어");
+            }
+            articles.add(Article.of(userAccount, "benchmark " + i, content.toString(), "#benchmark"));
+        }
+        articleRepository.saveAll(articles);
+        articleRepository.flush();
+    }
+
+}
@@ -0,0 +1,139 @@
+package copro.projectboard.search;
+
+import copro.projectboard.config.SearchConfig.SearchIndexProperties;
+import copro.projectboard.domain.Article;
+import copro.projectboard.domain.UserAccount;
+import copro.projectboard.domain.type.SearchType;
+import copro.projectboard.dto.ArticleDto;
+import copro.projectboard.dto.UserAccountDto;
+import copro.projectboard.event.ArticleEvent;
+import copro.projectboard.repository.ArticleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("검색 색인 - 게시글")
+@ExtendWith(MockitoExtension.class)
+class ArticleSearchIndexTest {
+
+    @Mock private ArticleRepository articleRepository;
+
+    private ArticleSearchIndex sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new ArticleSearchIndex(articleRepository, new SearchIndexProperties(true, 2, 1000, 500));
+        given(articleRepository.findByIdGreaterThan(eq(0L), any(Pageable.class)))
+                .willReturn(new SliceImpl<>(List.of(createArticle(1L, "Quisque ut erat.", "스프링 부트로 게시판을 만든다."))));
+        sut.rebuild();
+    }
+
+    @DisplayName("DB 에서 색인을 재구성하면, 제목과 본문으로 후보를 찾을 수 있다.")
+    @Test
+    void 색인재구성_후보검색() {
+        // When & Then
+        assertThat(sut.isReady()).isTrue();
+        assertThat(sut.size()).isEqualTo(1);
+        assertThat(sut.findCandidates(SearchType.TITLE, "ERAT")).hasValue(Set.of(1L));
+        assertThat(sut.findCandidates(SearchType.CONTENT, "게시판")).hasValue(Set.of(1L));
+    }
+
+    @DisplayName("한글은 조사가 붙어 있어도 부분 문자열로 찾을 수 있다.")
+    @Test
+    void 한글부분문자열_후보검색() {
+        // Given
+        sut.index(2L, "게시글을 작성했습니다", "본문");
+
+        // When & Then
+        assertThat(sut.findCandidates(SearchType.TITLE, "게시글")).hasValue(Set.of(2L));
+        assertThat(sut.findCandidates(SearchType.TITLE, "작")).hasValue(Set.of(2L));
+        assertThat(sut.findCandidates(SearchType.TITLE, "없는말")).hasValue(Set.of());
+    }
+
+    @DisplayName("게시글 수정/삭제 이벤트를 받으면, 색인을 갱신한다.")
+    @Test
+    void 게시글이벤트_색인갱신() {
+        // When
+        sut.onArticleEvent(ArticleEvent.updated(createArticleDto(1L, "새 제목", "새 본문")));
+
+        // Then
+        assertThat(sut.findCandidates(SearchType.TITLE, "erat")).hasValue(Set.of());
+        assertThat(sut.findCandidates(SearchType.TITLE, "새 제목")).hasValue(Set.of(1L));
+
+        // When
+        sut.onArticleEvent(ArticleEvent.deleted(1L));
+
+        // Then
+        assertThat(sut.size()).isZero();
+        assertThat(sut.findCandidates(SearchType.TITLE, "새 제목")).hasValue(Set.of());
+    }
+
+    @DisplayName("재구성 중에 들어온 쓰기 이벤트는, 먼저 읽은 DB 내용보다 나중 것으로 새 색인에 반영한다.")
+    @Test
+    void 재구성중이벤트_새색인반영() {
+        // Given
+        given(articleRepository.findByIdGreaterThan(eq(0L), any(Pageable.class))).willAnswer(invocation -> {
+            SliceImpl<Article> staleSlice = new SliceImpl<>(List.of(createArticle(1L, "Quisque ut erat.", "본문")));
+            sut.onArticleEvent(ArticleEvent.deleted(1L));
+            sut.onArticleEvent(ArticleEvent.saved(createArticleDto(2L, "재구성 중에 쓴 글", "본문")));
+            return staleSlice;
+        });
+
+        // When
+        sut.rebuild();
+
+        // Then
+        assertThat(sut.findCandidates(SearchType.TITLE, "erat")).hasValue(Set.of());
+        assertThat(sut.findCandidates(SearchType.TITLE, "재구성")).hasValue(Set.of(2L));
+        assertThat(sut.size()).isEqualTo(1);
+    }
+
+    @DisplayName("후보가 너무 많거나 색인 대상이 아닌 검색이면, 색인을 쓰지 않는다.")
+    @Test
+    void 색인사용불가_빈결과() {
+        // Given
+        SearchIndexProperties properties = new SearchIndexProperties(true, 2, 0, 500);
+        ArticleSearchIndex index = new ArticleSearchIndex(articleRepository, properties);
+        index.rebuild();
+        index.index(1L, "title", "content");
+
+        // When & Then
+        assertThat(index.findCandidates(SearchType.TITLE, "title")).isEmpty();
+        assertThat(sut.findCandidates(SearchType.HASHTAG, "#java")).isEmpty();
+    }
+
+
+    private Article createArticle(Long id, String title, String content) {
+        Article article = Article.of(
+                UserAccount.of("Copro", "password", "Copro@email.com", "Copro", null),
+                title,
+                content,
+                "#java"
+        );
+        ReflectionTestUtils.setField(article, "id", id);
+        return article;
+    }
+
+    private ArticleDto createArticleDto(Long id, String title, String content) {
+        return ArticleDto.of(id, createUserAccountDto(), title, content, "#java", LocalDateTime.now(), "Copro", LocalDateTime.now(), "Copro", 0L, null);
+    }
+
+    private UserAccountDto createUserAccountDto() {
+        return UserAccountDto.of(1L, "Copro", "password", "Copro@mail.com", "Copro", null, LocalDateTime.now(), "Copro", LocalDateTime.now(), "Copro");
+    }
+
+}
@@ -0,0 +1,79 @@
+package copro.projectboard.search;
+
+import copro.projectboard.config.JpaConfig;
+import copro.projectboard.config.SearchConfig.SearchIndexProperties;
+import copro.projectboard.domain.Article;
+import copro.projectboard.domain.UserAccount;
+import copro.projectboard.domain.type.SearchType;
+import copro.projectboard.repository.ArticleRepository;
+import copro.projectboard.repository.UserAccountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 색인은 커밋된 뒤에 갱신되므로, 테스트 트랜잭션 없이 저장소 호출마다 커밋한다.
+ */
+@DisplayName("검색 색인 - 저장소 쓰기 반영")
+@Import({JpaConfig.class, ArticleSearchIndex.class})
+@EnableConfigurationProperties(SearchIndexProperties.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DataJpaTest
+class ArticleSearchIndexUpdateTest {
+
+    private final ArticleRepository articleRepository;
+    private final UserAccountRepository userAccountRepository;
+    private final ArticleSearchIndex articleSearchIndex;
+
+    public ArticleSearchIndexUpdateTest(
+            @Autowired ArticleRepository articleRepository,
+            @Autowired UserAccountRepository userAccountRepository,
+            @Autowired ArticleSearchIndex articleSearchIndex) {
+        this.articleRepository = articleRepository;
+        this.userAccountRepository = userAccountRepository;
+        this.articleSearchIndex = articleSearchIndex;
+    }
+
+    @BeforeEach
+    void setUp() {
+        articleSearchIndex.rebuild();
+    }
+
+    @DisplayName("서비스를 거치지 않고 저장소로 게시글을 쓰고, 고치고, 지워도 색인에 반영된다.")
+    @Test
+    void 저장소쓰기_색인반영() {
+        // Given
+        UserAccount userAccount = userAccountRepository.findById(1L).orElseThrow();
+
+        // When
+        Article article = articleRepository.save(Article.of(userAccount, "저장소직접쓰기 제목", "저장소직접쓰기 본문", null));
+        Long articleId = article.getId();
+        Optional<Set<Long>> afterSave = articleSearchIndex.findCandidates(SearchType.TITLE, "저장소직접쓰기");
+
+        article.setTitle("저장소고쳐쓰기 제목");
+        articleRepository.save(article);
+        Optional<Set<Long>> afterUpdate = articleSearchIndex.findCandidates(SearchType.TITLE, "저장소직접쓰기");
+        Optional<Set<Long>> updatedTitle = articleSearchIndex.findCandidates(SearchType.TITLE, "저장소고쳐쓰기");
+
+        articleRepository.deleteById(articleId);
+        Optional<Set<Long>> afterDelete = articleSearchIndex.findCandidates(SearchType.CONTENT, "저장소직접쓰기");
+
+        // Then
+        assertThat(afterSave).hasValue(Set.of(articleId));
+        assertThat(afterUpdate).hasValue(Set.of());
+        assertThat(updatedTitle).hasValue(Set.of(articleId));
+        assertThat(afterDelete).hasValue(Set.of());
+    }
+
+}
@@ -0,0 +1,140 @@
+package copro.projectboard.search;
+
+import copro.projectboard.config.SearchConfig.HashtagIndexProperties;
+import copro.projectboard.domain.Article;
+import copro.projectboard.domain.Hashtag;
+import copro.projectboard.domain.UserAccount;
+import copro.projectboard.dto.ArticleDto;
+import copro.projectboard.dto.HashtagCountDto;
+import copro.projectboard.dto.UserAccountDto;
+import copro.projectboard.event.ArticleEvent;
+import copro.projectboard.repository.ArticleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("검색 색인 - 해시태그")
+@ExtendWith(MockitoExtension.class)
+class HashtagIndexTest {
+
+    @Mock private ArticleRepository articleRepository;
+
+    private HashtagIndex sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new HashtagIndex(articleRepository, new HashtagIndexProperties(2, 1000, 500));
+        given(articleRepository.findByIdGreaterThan(eq(0L), any(Pageable.class)))
+                .willReturn(new SliceImpl<>(List.of(
+                        createArticle(1L, "#java #spring"),
+                        createArticle(2L, "#Java, jpa"),
+                        createArticle(3L, "#java")
+                )));
+        sut.rebuild();
+    }
+
+    @DisplayName("해시태그 문자열은 '#', 공백, 쉼표로 나누고 소문자로 정규화한다.")
+    @Test
+    void 해시태그파싱_정규화() {
+        // When & Then
+        assertThat(Hashtag.parseNames(" #Java #spring,jpa  #JAVA")).containsExactly("java", "spring", "jpa");
+        assertThat(Hashtag.parseNames(null)).isEmpty();
+        assertThat(Hashtag.normalizeName("##Spring ")).isEqualTo("spring");
+    }
+
+    @DisplayName("DB 에서 색인을 재구성하면, 해시태그로 게시글을 찾고 인기 해시태그를 집계한다.")
+    @Test
+    void 색인재구성_해시태그검색() {
+        // When & Then
+        assertThat(sut.isReady()).isTrue();
+        assertThat(sut.findArticleIds("#JAVA")).hasValue(Set.of(1L, 2L, 3L));
+        assertThat(sut.findArticleIds("없는태그")).hasValue(Set.of());
+        assertThat(sut.getTopHashtags()).containsExactly(
+                HashtagCountDto.of("java", 3),
+                HashtagCountDto.of("jpa", 1)
+        );
+    }
+
+    @DisplayName("게시글 수정/삭제 이벤트를 받으면, 색인과 인기 해시태그를 갱신한다.")
+    @Test
+    void 게시글이벤트_색인갱신() {
+        // When
+        sut.onArticleEvent(ArticleEvent.updated(createArticleDto(2L, "#spring")));
+
+        // Then
+        assertThat(sut.findArticleIds("java")).hasValue(Set.of(1L, 3L));
+        assertThat(sut.findArticleIds("jpa")).hasValue(Set.of());
+        assertThat(sut.getTopHashtags()).containsExactly(
+                HashtagCountDto.of("java", 2),
+                HashtagCountDto.of("spring", 2)
+        );
+
+        // When
+        sut.onArticleEvent(ArticleEvent.deleted(1L));
+
+        // Then
+        assertThat(sut.findArticleIds("java")).hasValue(Set.of(3L));
+        assertThat(sut.getTopHashtags()).containsExactly(
+                HashtagCountDto.of("java", 1),
+                HashtagCountDto.of("spring", 1)
+        );
+    }
+
+
+    @DisplayName("재구성 중에 들어온 쓰기 이벤트는, 새 색인과 인기 해시태그에 반영한다.")
+    @Test
+    void 재구성중이벤트_새색인반영() {
+        // Given
+        given(articleRepository.findByIdGreaterThan(eq(0L), any(Pageable.class))).willAnswer(invocation -> {
+            SliceImpl<Article> staleSlice = new SliceImpl<>(List.of(createArticle(1L, "#java"), createArticle(2L, "#java")));
+            sut.onArticleEvent(ArticleEvent.updated(createArticleDto(2L, "#jpa")));
+            sut.onArticleEvent(ArticleEvent.saved(createArticleDto(3L, "#jpa")));
+            return staleSlice;
+        });
+
+        // When
+        sut.rebuild();
+
+        // Then
+        assertThat(sut.findArticleIds("java")).hasValue(Set.of(1L));
+        assertThat(sut.findArticleIds("jpa")).hasValue(Set.of(2L, 3L));
+        assertThat(sut.getTopHashtags()).containsExactly(
+                HashtagCountDto.of("jpa", 2),
+                HashtagCountDto.of("java", 1)
+        );
+    }
+
+    private Article createArticle(Long id, String hashtag) {
+        Article article = Article.of(
+                UserAccount.of("Copro", "password", "Copro@email.com", "Copro", null),
+                "title",
+                "content",
+                hashtag
+        );
+        ReflectionTestUtils.setField(article, "id", id);
+        return article;
+    }
+
+    private ArticleDto createArticleDto(Long id, String hashtag) {
+        return ArticleDto.of(id, createUserAccountDto(), "title", "content", hashtag, LocalDateTime.now(), "Copro", LocalDateTime.now(), "Copro", 0L, null);
+    }
+
+    private UserAccountDto createUserAccountDto() {
+        return UserAccountDto.of(1L, "Copro", "password", "Copro@mail.com", "Copro", null, LocalDateTime.now(), "Copro", LocalDateTime.now(), "Copro");
+    }
+
+}
@@ -0,0 +1,109 @@
+package copro.projectboard.search;
+
+import copro.projectboard.config.SearchConfig.UserAccountIndexProperties;
+import copro.projectboard.domain.UserAccount;
+import copro.projectboard.domain.type.SearchType;
+import copro.projectboard.dto.UserAccountDto;
+import copro.projectboard.event.UserAccountEvent;
+import copro.projectboard.repository.UserAccountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("검색 색인 - 회원 ID/닉네임")
+@ExtendWith(MockitoExtension.class)
+class UserAccountIndexTest {
+
+    @Mock private UserAccountRepository userAccountRepository;
+
+    private UserAccountIndex sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new UserAccountIndex(userAccountRepository, new UserAccountIndexProperties(true, 3, 1000, 2, 500));
+        given(userAccountRepository.findByIdGreaterThan(eq(0L), any(Pageable.class)))
+                .willReturn(new SliceImpl<>(List.of(
+                        createUserAccount(1L, "copro", "Copro"),
+                        createUserAccount(2L, "uno", "Coppola"),
+                        createUserAccount(3L, "Copper", null)
+                )));
+        sut.rebuild();
+    }
+
+    @DisplayName("DB 에서 색인을 재구성하면, 대소문자 구분 없이 부분 일치하는 회원 ID 만 정확히 찾는다.")
+    @Test
+    void 색인재구성_부분일치검색() {
+        // When & Then
+        assertThat(sut.isReady()).isTrue();
+        assertThat(sut.findUserAccountIds(SearchType.ID, "COP")).hasValue(Set.of(1L, 3L));
+        assertThat(sut.findUserAccountIds(SearchType.ID, "ppe")).hasValue(Set.of(3L));
+        assertThat(sut.findUserAccountIds(SearchType.NICKNAME, "pol")).hasValue(Set.of(2L));
+        assertThat(sut.findUserAccountIds(SearchType.NICKNAME, "proc")).hasValue(Set.of());
+        assertThat(sut.findUserAccountIds(SearchType.TITLE, "cop")).isEmpty();
+    }
+
+    @DisplayName("n-gram 이 모두 들어 있어도 이어지지 않으면, 찾지 않는다.")
+    @Test
+    void 조각만일치_제외() {
+        // Given
+        sut.index(4L, "abcxbcd", null);
+
+        // When & Then
+        assertThat(sut.findUserAccountIds(SearchType.ID, "abcd")).hasValue(Set.of());
+    }
+
+    @DisplayName("자동 완성은 앞부분이 같은 값을 정렬해서 suggest-size 개까지 원래 표기로 돌려준다.")
+    @Test
+    void 자동완성_앞부분일치() {
+        // When & Then
+        assertThat(sut.suggest(SearchType.ID, "cop")).containsExactly("Copper", "copro");
+        assertThat(sut.suggest(SearchType.NICKNAME, "cop")).containsExactly("Coppola", "Copro");
+        assertThat(sut.suggest(SearchType.NICKNAME, "no")).isEmpty();
+        assertThat(sut.suggest(SearchType.HASHTAG, "cop")).isEmpty();
+    }
+
+    @DisplayName("회원 수정/삭제 이벤트를 받으면, 색인을 갱신한다.")
+    @Test
+    void 회원이벤트_색인갱신() {
+        // When
+        sut.onUserAccountEvent(UserAccountEvent.updated(createUserAccountDto(2L, "uno", "Dos")));
+
+        // Then
+        assertThat(sut.findUserAccountIds(SearchType.NICKNAME, "cop")).hasValue(Set.of(1L));
+        assertThat(sut.findUserAccountIds(SearchType.NICKNAME, "dos")).hasValue(Set.of(2L));
+
+        // When
+        sut.onUserAccountEvent(UserAccountEvent.deleted(1L));
+
+        // Then
+        assertThat(sut.findUserAccountIds(SearchType.ID, "cop")).hasValue(Set.of(3L));
+        assertThat(sut.suggest(SearchType.NICKNAME, "c")).isEmpty();
+        assertThat(sut.size()).isEqualTo(2);
+    }
+
+
+    private UserAccount createUserAccount(Long id, String userId, String nickname) {
+        UserAccount userAccount = UserAccount.of(userId, "password", userId + "@mail.com", nickname, null);
+        ReflectionTestUtils.setField(userAccount, "id", id);
+        return userAccount;
+    }
+
+    private UserAccountDto createUserAccountDto(Long id, String userId, String nickname) {
+        return UserAccountDto.of(id, userId, "password", userId + "@mail.com", nickname, null, LocalDateTime.now(), userId, LocalDateTime.now(), userId);
+    }
+
+}
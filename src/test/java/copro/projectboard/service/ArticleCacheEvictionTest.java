@@ -0,0 +1,97 @@
+package copro.projectboard.service;
+
+import copro.projectboard.config.CacheConfig;
+import copro.projectboard.config.JpaConfig;
+import copro.projectboard.domain.Article;
+import copro.projectboard.domain.ArticleComment;
+import copro.projectboard.repository.ArticleCommentRepository;
+import copro.projectboard.repository.ArticleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Data REST 는 서비스를 거치지 않고 저장소로 바로 쓰므로, 저장소 쓰기만으로 캐시가 지워지고 게시판 버전이 오르는지 본다.
+ * 이벤트는 커밋된 뒤에 처리되므로 테스트 트랜잭션 없이 저장소 호출마다 커밋한다.
+ */
+@DisplayName("비즈니스 로직 - 저장소 쓰기의 캐시 무효화")
+@Import({JpaConfig.class, ArticleCacheEvictor.class, ArticleVersionService.class, ArticleCacheEvictionTest.TestCacheConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DataJpaTest
+class ArticleCacheEvictionTest {
+
+    private final ArticleRepository articleRepository;
+    private final ArticleCommentRepository articleCommentRepository;
+    private final ArticleVersionService articleVersionService;
+    private final Cache detailCache;
+
+    public ArticleCacheEvictionTest(
+            @Autowired ArticleRepository articleRepository,
+            @Autowired ArticleCommentRepository articleCommentRepository,
+            @Autowired ArticleVersionService articleVersionService,
+            @Autowired CacheManager cacheManager) {
+        this.articleRepository = articleRepository;
+        this.articleCommentRepository = articleCommentRepository;
+        this.articleVersionService = articleVersionService;
+        this.detailCache = cacheManager.getCache(CacheConfig.ARTICLE_DETAIL);
+    }
+
+    @BeforeEach
+    void setUp() {
+        detailCache.put(1L, "article-1");
+        detailCache.put(2L, "article-2");
+    }
+
+    @DisplayName("저장소로 게시글을 고치면, 게시판 버전이 오르고 그 게시글의 상세 캐시가 지워진다.")
+    @Test
+    void 저장소게시글수정_상세캐시삭제() {
+        // Given
+        String boardEtag = articleVersionService.getBoardEtag();
+        Article article = articleRepository.findById(1L).orElseThrow();
+
+        // When
+        article.setTitle("저장소로 고친 제목");
+        articleRepository.save(article);
+
+        // Then
+        assertThat(detailCache.get(1L)).isNull();
+        assertThat(detailCache.get(2L)).isNotNull();
+        assertThat(articleVersionService.getBoardEtag()).isNotEqualTo(boardEtag);
+    }
+
+    @DisplayName("저장소로 댓글을 쓰면, 그 게시글의 상세 캐시가 지워진다.")
+    @Test
+    void 저장소댓글저장_상세캐시삭제() {
+        // Given
+        Article article = articleRepository.findById(2L).orElseThrow();
+
+        // When
+        articleCommentRepository.save(ArticleComment.of(article, article.getUserAccount(), "저장소로 쓴 댓글"));
+
+        // Then
+        assertThat(detailCache.get(2L)).isNull();
+        assertThat(detailCache.get(1L)).isNotNull();
+    }
+
+
+    @TestConfiguration
+    static class TestCacheConfig {
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager(CacheConfig.ARTICLE_DETAIL, CacheConfig.ARTICLE_PAGES);
+        }
+    }
+
+}
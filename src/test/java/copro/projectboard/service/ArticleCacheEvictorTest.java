@@ -0,0 +1,74 @@
+package copro.projectboard.service;
+
+import copro.projectboard.config.CacheConfig;
+import copro.projectboard.event.ArticleCommentEvent;
+import copro.projectboard.event.ArticleEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("비즈니스 로직 - 게시글 캐시 무효화")
+class ArticleCacheEvictorTest {
+
+    private ArticleCacheEvictor sut;
+    private Cache detailCache;
+    private Cache pageCache;
+
+    @BeforeEach
+    void setUp() {
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(CacheConfig.ARTICLE_DETAIL, CacheConfig.ARTICLE_PAGES);
+        detailCache = cacheManager.getCache(CacheConfig.ARTICLE_DETAIL);
+        pageCache = cacheManager.getCache(CacheConfig.ARTICLE_PAGES);
+        detailCache.put(1L, "article-1");
+        detailCache.put(2L, "article-2");
+        pageCache.put("0:10:createdAt: DESC", "page-0");
+        sut = new ArticleCacheEvictor(cacheManager);
+    }
+
+    @DisplayName("게시글이 새로 저장되면, 목록 캐시만 비운다.")
+    @Test
+    void 게시글저장_목록캐시만삭제() {
+        // Given
+
+        // When
+        sut.onArticleEvent(new ArticleEvent(ArticleEvent.Type.SAVED, 3L, null));
+
+        // Then
+        assertThat(detailCache.get(1L)).isNotNull();
+        assertThat(detailCache.get(2L)).isNotNull();
+        assertThat(pageCache.get("0:10:createdAt: DESC")).isNull();
+    }
+
+    @DisplayName("게시글이 수정되면, 그 게시글의 상세 캐시와 목록 캐시를 비운다.")
+    @Test
+    void 게시글수정_해당게시글과목록캐시삭제() {
+        // Given
+
+        // When
+        sut.onArticleEvent(new ArticleEvent(ArticleEvent.Type.UPDATED, 1L, null));
+
+        // Then
+        assertThat(detailCache.get(1L)).isNull();
+        assertThat(detailCache.get(2L)).isNotNull();
+        assertThat(pageCache.get("0:10:createdAt: DESC")).isNull();
+    }
+
+    @DisplayName("댓글이 바뀌면, 그 댓글의 게시글 상세 캐시만 비운다.")
+    @Test
+    void 댓글변경_해당게시글캐시만삭제() {
+        // Given
+
+        // When
+        sut.onArticleCommentEvent(ArticleCommentEvent.saved(2L, 10L));
+
+        // Then
+        assertThat(detailCache.get(1L)).isNotNull();
+        assertThat(detailCache.get(2L)).isNull();
+        assertThat(pageCache.get("0:10:createdAt: DESC")).isNotNull();
+    }
+
+}
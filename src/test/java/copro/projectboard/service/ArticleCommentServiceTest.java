@@ -4,9 +4,11 @@ import copro.projectboard.domain.Article;
 import copro.projectboard.domain.ArticleComment;
 import copro.projectboard.domain.UserAccount;
 import copro.projectboard.dto.ArticleCommentDto;
+import copro.projectboard.dto.KeysetCursor;
 import copro.projectboard.dto.UserAccountDto;
 import copro.projectboard.repository.ArticleCommentRepository;
 import copro.projectboard.repository.ArticleRepository;
+import copro.projectboard.repository.UserAccountRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,11 +17,16 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import javax.persistence.EntityManager;
 import javax.persistence.EntityNotFoundException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -35,6 +42,8 @@ class ArticleCommentServiceTest {
 
     @Mock private ArticleRepository articleRepository;
     @Mock private ArticleCommentRepository articleCommentRepository;
+    @Mock private UserAccountRepository userAccountRepository;
+    @Mock private EntityManager entityManager;
 
     void givenArticleId_whenSearchingArticleComments_thenReturnsArticleComments() {
         // Given
@@ -50,33 +59,122 @@ class ArticleCommentServiceTest {
         then(articleCommentRepository).should().findByArticle_Id(articleId);
     }
 
+    @DisplayName("게시글 ID 와 커서로 조회하면, 다음 페이지 확인용으로 size + 1 개의 댓글을 반환한다.")
+    @Test
+    void 댓글커서조회_댓글반환() {
+        // Given
+        Long articleId = 1L;
+        KeysetCursor cursor = KeysetCursor.of(LocalDateTime.now(), 100L);
+        given(articleCommentRepository.findByCursor(articleId, cursor, 21)).willReturn(List.of(createArticleComment("content")));
+
+        // When
+        List<ArticleCommentDto> actual = sut.searchArticleComments(articleId, cursor, 20);
+
+        // Then
+        assertThat(actual)
+                .hasSize(1)
+                .first().hasFieldOrPropertyWithValue("content", "content");
+        then(articleCommentRepository).should().findByCursor(articleId, cursor, 21);
+    }
+
+    @DisplayName("댓글을 스트리밍으로 읽으면, 한 건씩 넘기고 영속성 컨텍스트에서 떼어낸다.")
+    @Test
+    void 댓글스트리밍_한건씩처리() {
+        // Given
+        Long articleId = 1L;
+        ArticleComment first = createArticleComment("첫 댓글");
+        ArticleComment second = createArticleComment("두번째 댓글");
+        given(articleCommentRepository.streamByArticleId(articleId)).willReturn(Stream.of(first, second));
+        List<String> exported = new ArrayList<>();
+
+        // When
+        sut.streamArticleComments(articleId, dto -> exported.add(dto.content()));
+
+        // Then
+        assertThat(exported).containsExactly("첫 댓글", "두번째 댓글");
+        then(entityManager).should().detach(first);
+        then(entityManager).should().detach(second);
+    }
+
     @DisplayName("댓글 정보를 입력하면, 댓글을 저장한다.")
     @Test
     void 댓글정보입력_댓글저장() {
         // Given
         ArticleCommentDto dto = createArticleCommentDto("댓글");
+        given(userAccountRepository.findByUserId(dto.userAccountDto().userId())).willReturn(Optional.of(createUserAccount()));
+        given(articleRepository.existsById(dto.articleId())).willReturn(true);
         given(articleRepository.getReferenceById(dto.articleId())).willReturn(createArticle());
         given(articleCommentRepository.save(any(ArticleComment.class))).willReturn(null);
         // When
         sut.saveArticleComment(dto);
         // Then
+        then(userAccountRepository).should().findByUserId(dto.userAccountDto().userId());
         then(articleRepository).should().getReferenceById(dto.articleId());
         then(articleCommentRepository).should().save(any(ArticleComment.class));
+        then(articleRepository).should().increaseCommentCount(eq(dto.articleId()), eq(1L), any());
     }
 
 
-    @DisplayName("댓글 저장을 시도했는데 맞는 게시글이 없으면, 경고 로그를 찍고 아무것도 안 한다.")
+    @DisplayName("댓글 여러 개를 입력하면, 입력 순서대로 저장한다. 댓글 수는 게시글마다 한 번에 올린다.")
+    @Test
+    void 댓글묶음입력_댓글저장() {
+        // Given
+        List<ArticleCommentDto> dtos = List.of(createArticleCommentDto("첫 댓글"), createArticleCommentDto("둘째 댓글"));
+        given(userAccountRepository.findByUserIdIn(Set.of("Copro"))).willReturn(List.of(createUserAccount()));
+        given(articleRepository.getReferenceById(1L)).willReturn(createArticle());
+
+        // When
+        sut.saveArticleComments(dtos);
+
+        // Then
+        then(userAccountRepository).should(times(1)).findByUserIdIn(Set.of("Copro"));
+        then(articleCommentRepository).should(times(2)).save(any(ArticleComment.class));
+        then(articleRepository).should().increaseCommentCount(eq(1L), eq(2L), any());
+    }
+
+    @DisplayName("댓글 묶음에 없는 작성자가 있으면, 예외를 던져 묶음 전체를 되돌린다.")
     @Test
-    void 댓글저장_게시글없음_경고로그() {
+    void 댓글묶음입력_작성자없음_예외() {
+        // Given
+        List<ArticleCommentDto> dtos = List.of(createArticleCommentDto("첫 댓글"));
+        given(userAccountRepository.findByUserIdIn(Set.of("Copro"))).willReturn(List.of());
+
+        // When
+        Throwable t = catchThrowable(() -> sut.saveArticleComments(dtos));
+
+        // Then
+        assertThat(t).isInstanceOf(EntityNotFoundException.class);
+        then(articleCommentRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("댓글 저장을 시도했는데 맞는 게시글이 없으면, 예외를 던지고 아무것도 안 한다.")
+    @Test
+    void 댓글저장_게시글없음_예외() {
         // Given
         ArticleCommentDto dto = createArticleCommentDto("댓글");
-        given(articleRepository.getReferenceById(dto.articleId())).willThrow(EntityNotFoundException.class);
+        given(userAccountRepository.findByUserId(dto.userAccountDto().userId())).willReturn(Optional.of(createUserAccount()));
+        given(articleRepository.existsById(dto.articleId())).willReturn(false);
 
         // When
-        sut.saveArticleComment(dto);
+        Throwable t = catchThrowable(() -> sut.saveArticleComment(dto));
 
         // Then
-        then(articleRepository).should().getReferenceById(dto.articleId());
+        assertThat(t).isInstanceOf(EntityNotFoundException.class);
+        then(articleCommentRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("댓글 저장을 시도했는데 맞는 작성자가 없으면, 예외를 던지고 아무것도 안 한다.")
+    @Test
+    void 댓글저장_작성자없음_예외() {
+        // Given
+        ArticleCommentDto dto = createArticleCommentDto("댓글");
+        given(userAccountRepository.findByUserId(dto.userAccountDto().userId())).willReturn(Optional.empty());
+
+        // When
+        Throwable t = catchThrowable(() -> sut.saveArticleComment(dto));
+
+        // Then
+        assertThat(t).isInstanceOf(EntityNotFoundException.class);
         then(articleCommentRepository).shouldHaveNoInteractions();
     }
 
@@ -114,11 +212,14 @@ class ArticleCommentServiceTest {
         then(articleCommentRepository).should().getReferenceById(dto.id());
     }
 
-    @DisplayName("댓글 ID를 입력하면, 댓글을 삭제한다.")
+    @DisplayName("댓글 ID를 입력하면, 댓글을 삭제하고 게시글의 댓글 수를 다시 계산한다.")
     @Test
     void 댓글ID입력_댓글삭제() {
         // Given
         Long articleCommentId = 1L;
+        ArticleComment articleComment = createArticleComment("content");
+        ReflectionTestUtils.setField(articleComment.getArticle(), "id", 1L);
+        given(articleCommentRepository.findById(articleCommentId)).willReturn(Optional.of(articleComment));
         willDoNothing().given(articleCommentRepository).deleteById(articleCommentId);
 
         // When
@@ -126,6 +227,37 @@ class ArticleCommentServiceTest {
 
         // Then
         then(articleCommentRepository).should().deleteById(articleCommentId);
+        then(articleRepository).should().refreshCommentStats(1L, 1L);
+    }
+
+    @DisplayName("Data REST 로 댓글이 만들어지면, 게시글의 댓글 수를 올린다.")
+    @Test
+    void 저장소댓글생성_댓글수증가() {
+        // Given
+        ArticleComment articleComment = createArticleComment("content");
+        ReflectionTestUtils.setField(articleComment.getArticle(), "id", 1L);
+        LocalDateTime createdAt = LocalDateTime.of(2022, 1, 1, 0, 0);
+        ReflectionTestUtils.setField(articleComment, "createdAt", createdAt);
+
+        // When
+        sut.onRestCreate(articleComment);
+
+        // Then
+        then(articleRepository).should().increaseCommentCount(1L, 1, createdAt);
+    }
+
+    @DisplayName("Data REST 로 댓글이 지워지면, 게시글의 댓글 수를 다시 계산한다.")
+    @Test
+    void 저장소댓글삭제_댓글수재계산() {
+        // Given
+        ArticleComment articleComment = createArticleComment("content");
+        ReflectionTestUtils.setField(articleComment.getArticle(), "id", 1L);
+
+        // When
+        sut.onRestDelete(articleComment);
+
+        // Then
+        then(articleRepository).should().refreshCommentStats(1L, 1L);
     }
 
 
@@ -0,0 +1,174 @@
+package copro.projectboard.service;
+
+import copro.projectboard.config.CommentWriteBehindConfig.AckMode;
+import copro.projectboard.config.CommentWriteBehindConfig.CommentWriteBehindProperties;
+import copro.projectboard.dto.ArticleCommentDto;
+import copro.projectboard.dto.UserAccountDto;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.persistence.EntityNotFoundException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비즈니스 로직 - 댓글 쓰기 큐")
+@ExtendWith(MockitoExtension.class)
+class ArticleCommentWriterTest {
+
+    @Mock private ArticleCommentService articleCommentService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ArticleCommentWriter sut;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        sut.shutdown();
+    }
+
+    @DisplayName("write-behind 가 꺼져 있으면, 호출한 스레드에서 바로 저장한다.")
+    @Test
+    void 쓰기지연꺼짐_동기저장() {
+        // Given
+        sut = createWriter(false, AckMode.FLUSH);
+        ArticleCommentDto dto = createArticleCommentDto(1L, "댓글");
+
+        // When
+        boolean committed = sut.write(dto);
+
+        // Then
+        assertThat(committed).isTrue();
+        then(articleCommentService).should().saveArticleComment(dto);
+        then(articleCommentService).shouldHaveNoMoreInteractions();
+    }
+
+    @DisplayName("FLUSH 모드에서는, 댓글이 묶음으로 저장된 뒤에 돌아온다.")
+    @Test
+    void 쓰기지연_FLUSH_묶음저장후반환() {
+        // Given
+        sut = createWriter(true, AckMode.FLUSH);
+        ArticleCommentDto dto = createArticleCommentDto(1L, "댓글");
+
+        // When
+        boolean committed = sut.write(dto);
+
+        // Then
+        assertThat(committed).isTrue();
+        then(articleCommentService).should().saveArticleComments(List.of(dto));
+        Timer flushTimer = meterRegistry.find("board.comment.write-behind.flush").timer();
+        assertThat(flushTimer).isNotNull();
+        assertThat(flushTimer.count()).isEqualTo(1L);
+    }
+
+    @DisplayName("묶음 저장이 실패하면, 한 건씩 순서대로 다시 저장한다.")
+    @Test
+    void 묶음저장실패_한건씩재시도() throws InterruptedException {
+        // Given
+        sut = createWriter(true, AckMode.NONE);
+        ArticleCommentDto first = createArticleCommentDto(1L, "첫 댓글");
+        ArticleCommentDto second = createArticleCommentDto(1L, "둘째 댓글");
+        willThrow(IllegalStateException.class).given(articleCommentService).saveArticleComments(anyList());
+
+        // When
+        sut.write(first);
+        sut.write(second);
+        sut.shutdown();
+
+        // Then
+        then(articleCommentService).should(atLeastOnce()).saveArticleComments(anyList());
+        then(articleCommentService).should().saveArticleComment(first);
+        then(articleCommentService).should().saveArticleComment(second);
+        assertThat(meterRegistry.get("board.comment.write-behind.queue").gauge().value()).isZero();
+    }
+
+    @DisplayName("NONE 모드에서는, 큐에 넣기만 하고 커밋되지 않았다고 알려준다.")
+    @Test
+    void 쓰기지연_NONE_미커밋반환() {
+        // Given
+        sut = createWriter(true, AckMode.NONE);
+        ArticleCommentDto dto = createArticleCommentDto(1L, "댓글");
+
+        // When
+        boolean committed = sut.write(dto);
+
+        // Then
+        assertThat(committed).isFalse();
+    }
+
+    @DisplayName("FLUSH 모드에서 확인 시간 안에 커밋되지 않으면, 커밋되지 않았다고 알려준다.")
+    @Test
+    void 쓰기지연_FLUSH_시간초과_미커밋반환() {
+        // Given
+        sut = createWriter(true, AckMode.FLUSH, Duration.ofMillis(50));
+        ArticleCommentDto dto = createArticleCommentDto(1L, "댓글");
+        willAnswer(invocation -> {
+            Thread.sleep(500L);
+            return null;
+        }).given(articleCommentService).saveArticleComments(anyList());
+
+        // When
+        boolean committed = sut.write(dto);
+
+        // Then
+        assertThat(committed).isFalse();
+    }
+
+    @DisplayName("FLUSH 모드에서 댓글의 게시글이 없으면, 저장 스레드의 예외를 그대로 던진다.")
+    @Test
+    void 쓰기지연_FLUSH_게시글없음_예외() {
+        // Given
+        sut = createWriter(true, AckMode.FLUSH);
+        ArticleCommentDto dto = createArticleCommentDto(1L, "댓글");
+        willThrow(IllegalStateException.class).given(articleCommentService).saveArticleComments(anyList());
+        willThrow(new EntityNotFoundException("댓글의 게시글을 찾을 수 없습니다")).given(articleCommentService).saveArticleComment(dto);
+
+        // When
+        Throwable t = catchThrowable(() -> sut.write(dto));
+
+        // Then
+        assertThat(t).isInstanceOf(EntityNotFoundException.class);
+    }
+
+
+    private ArticleCommentWriter createWriter(boolean enabled, AckMode ackMode) {
+        return createWriter(enabled, ackMode, Duration.ofSeconds(5));
+    }
+
+    private ArticleCommentWriter createWriter(boolean enabled, AckMode ackMode, Duration ackTimeout) {
+        return new ArticleCommentWriter(
+                articleCommentService,
+                new CommentWriteBehindProperties(enabled, 100, 10, ackMode,
+                        ackTimeout, Duration.ofSeconds(1), Duration.ofSeconds(5)),
+                meterRegistry
+        );
+    }
+    private ArticleCommentDto createArticleCommentDto(Long articleId, String content) {
+        return ArticleCommentDto.of(null, articleId, createUserAccountDto(), content, null, null, null, null);
+    }
+
+    private UserAccountDto createUserAccountDto() {
+        return UserAccountDto.of(
+                1L,
+                "Copro",
+                "password",
+                "Copro@mail.com",
+                "Copro",
+                "This is memo",
+                LocalDateTime.now(),
+                "Copro",
+                LocalDateTime.now(),
+                "Copro"
+        );
+    }
+
+}
@@ -0,0 +1,98 @@
+package copro.projectboard.service;
+
+import copro.projectboard.config.ArticleCountConfig.ArticleCountProperties;
+import copro.projectboard.domain.type.SearchType;
+import copro.projectboard.event.ArticleEvent;
+import copro.projectboard.repository.ArticleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비즈니스 로직 - 게시글 수")
+@ExtendWith(MockitoExtension.class)
+class ArticleCountServiceTest {
+
+    @Mock private ArticleRepository articleRepository;
+
+    private ArticleCountService sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new ArticleCountService(articleRepository, new ArticleCountProperties(Duration.ofMinutes(1), 10));
+    }
+
+    @DisplayName("게시글 수는 처음 한 번만 DB 에서 세고, 이후 쓰기 이벤트로 갱신한다.")
+    @Test
+    void 게시글수_이벤트갱신() {
+        // Given
+        given(articleRepository.count()).willReturn(10L);
+
+        // When
+        long loaded = sut.getTotalCount();
+        sut.onArticleEvent(ArticleEvent.deleted(1L));
+        sut.onArticleEvent(ArticleEvent.deleted(2L));
+
+        // Then
+        assertThat(loaded).isEqualTo(10L);
+        assertThat(sut.getTotalCount()).isEqualTo(8L);
+        then(articleRepository).should(times(1)).count();
+    }
+
+    @DisplayName("주기적으로 보정하면, DB 의 게시글 수로 맞춘다.")
+    @Test
+    void 게시글수_보정() {
+        // Given
+        given(articleRepository.count()).willReturn(10L, 12L);
+        sut.getTotalCount();
+
+        // When
+        sut.reconcile();
+
+        // Then
+        assertThat(sut.getTotalCount()).isEqualTo(12L);
+    }
+
+    @DisplayName("검색 조건별 게시글 수는 정해진 시간 동안 재사용한다.")
+    @Test
+    void 검색조건별게시글수_재사용() {
+        // Given
+        given(articleRepository.countBySearch(SearchType.NICKNAME, "Uno")).willReturn(3L);
+
+        // When
+        long first = sut.estimateCount(SearchType.NICKNAME, "Uno");
+        long second = sut.estimateCount(SearchType.NICKNAME, "Uno");
+
+        // Then
+        assertThat(first).isEqualTo(3L);
+        assertThat(second).isEqualTo(3L);
+        then(articleRepository).should(times(1)).countBySearch(SearchType.NICKNAME, "Uno");
+    }
+
+    @DisplayName("작성자 회원 ID 로 센 게시글 수도 같은 검색 조건으로 재사용한다.")
+    @Test
+    void 작성자별게시글수_재사용() {
+        // Given
+        Set<Long> userAccountIds = Set.of(1L, 2L);
+        given(articleRepository.countByUserAccountIds(userAccountIds)).willReturn(5L);
+
+        // When
+        long first = sut.estimateCountByUserAccounts(SearchType.ID, "cop", userAccountIds);
+        long second = sut.estimateCountByUserAccounts(SearchType.ID, "cop", userAccountIds);
+
+        // Then
+        assertThat(first).isEqualTo(5L);
+        assertThat(second).isEqualTo(5L);
+        then(articleRepository).should(times(1)).countByUserAccountIds(userAccountIds);
+        then(articleRepository).should(never()).countBySearch(any(), any());
+    }
+
+}
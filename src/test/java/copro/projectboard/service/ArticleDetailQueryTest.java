@@ -0,0 +1,60 @@
+package copro.projectboard.service;
+
+import copro.projectboard.config.JpaConfig;
+import copro.projectboard.dto.ArticleWithCommentsDto;
+import copro.projectboard.search.ArticleSearchIndex;
+import copro.projectboard.search.FullTextIndexInitializer;
+import copro.projectboard.search.HashtagIndex;
+import copro.projectboard.search.UserAccountIndex;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import javax.persistence.EntityManager;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("비즈니스 로직 - 게시글 상세 조회 쿼리 수")
+@Import({JpaConfig.class, ArticleService.class})
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ArticleDetailQueryTest {
+
+    @MockBean private ArticleSearchIndex articleSearchIndex;
+    @MockBean private ArticleCountService articleCountService;
+    @MockBean private HashtagService hashtagService;
+    @MockBean private HashtagIndex hashtagIndex;
+    @MockBean private UserAccountIndex userAccountIndex;
+    @MockBean private FullTextIndexInitializer fullTextIndexInitializer;
+
+    private final ArticleService sut;
+    private final EntityManager entityManager;
+
+    public ArticleDetailQueryTest(@Autowired ArticleService articleService, @Autowired EntityManager entityManager) {
+        this.sut = articleService;
+        this.entityManager = entityManager;
+    }
+
+    @DisplayName("댓글이 달린 게시글을 조회해도, 게시글과 댓글을 두 번의 쿼리로 읽는다.")
+    @Test
+    void 게시글상세조회_쿼리2회() {
+        // Given
+        Long articleId = 1L;
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        ArticleWithCommentsDto dto = sut.getArticle(articleId);
+
+        // Then
+        assertThat(dto.articleCommentDtos()).isNotEmpty()
+                .allSatisfy(comment -> assertThat(comment.userAccountDto().userId()).isNotNull());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2L);
+    }
+
+}
@@ -4,9 +4,16 @@ import copro.projectboard.domain.Article;
 import copro.projectboard.domain.UserAccount;
 import copro.projectboard.domain.type.SearchType;
 import copro.projectboard.dto.ArticleDto;
+import copro.projectboard.dto.ArticleSummaryDto;
 import copro.projectboard.dto.ArticleWithCommentsDto;
+import copro.projectboard.dto.KeysetCursor;
 import copro.projectboard.dto.UserAccountDto;
+import copro.projectboard.repository.ArticleCommentRepository;
 import copro.projectboard.repository.ArticleRepository;
+import copro.projectboard.search.ArticleSearchIndex;
+import copro.projectboard.search.FullTextIndexInitializer;
+import copro.projectboard.search.HashtagIndex;
+import copro.projectboard.search.UserAccountIndex;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,10 +22,13 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 
 import javax.persistence.EntityNotFoundException;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -31,6 +41,13 @@ class ArticleServiceTest {
     @InjectMocks private ArticleService sut;
 
     @Mock private ArticleRepository articleRepository;
+    @Mock private ArticleCommentRepository articleCommentRepository;
+    @Mock private ArticleSearchIndex articleSearchIndex;
+    @Mock private ArticleCountService articleCountService;
+    @Mock private HashtagService hashtagService;
+    @Mock private HashtagIndex hashtagIndex;
+    @Mock private UserAccountIndex userAccountIndex;
+    @Mock private FullTextIndexInitializer fullTextIndexInitializer;
 
 
 
@@ -39,11 +56,13 @@ class ArticleServiceTest {
     void 게시글검색_게시글반환() {
                  // Given
             Pageable pageable = Pageable.ofSize(20);
-            given(articleRepository.findAll(pageable)).willReturn(Page.empty());
+            given(articleRepository.findSliceBySearch(null, null, null, pageable)).willReturn(new SliceImpl<>(List.of(), pageable, false));
+            given(articleCountService.getTotalCount()).willReturn(0L);
             // When
-            Page<ArticleDto> articles = sut.searchArticles(null, null, pageable);
+            Page<ArticleSummaryDto> articles = sut.searchArticles(null, null, pageable);
             assertThat(articles).isEmpty();
-            then(articleRepository).should().findAll(pageable);
+            then(articleRepository).should().findSliceBySearch(null, null, null, pageable);
+            then(articleRepository).should(never()).count();
     }
 
 
@@ -54,16 +73,131 @@ class ArticleServiceTest {
             SearchType searchType = SearchType.TITLE;
             String searchKeyword = "title";
             Pageable pageable = Pageable.ofSize(20);
-            given(articleRepository.findByTitleContaining(searchKeyword, pageable)).willReturn(Page.empty());
+            given(articleRepository.findSliceBySearch(searchType, searchKeyword, null, pageable)).willReturn(new SliceImpl<>(List.of(), pageable, false));
+            given(articleCountService.estimateCount(searchType, searchKeyword)).willReturn(0L);
 
             // When
-            Page<ArticleDto> articles = sut.searchArticles(searchType, searchKeyword, pageable);
+            Page<ArticleSummaryDto> articles = sut.searchArticles(searchType, searchKeyword, pageable);
 
             // Then
             assertThat(articles).isEmpty();
-            then(articleRepository).should().findByTitleContaining(searchKeyword, pageable);
+            then(articleRepository).should().findSliceBySearch(searchType, searchKeyword, null, pageable);
         }
 
+    @DisplayName("다음 페이지가 남아 있으면, count 쿼리 대신 추정한 전체 건수로 페이지를 만든다.")
+    @Test
+    void 게시글검색_추정건수페이지() {
+        // Given
+        Pageable pageable = Pageable.ofSize(1);
+        given(articleRepository.findSliceBySearch(SearchType.ID, "Copro", null, pageable))
+                .willReturn(new SliceImpl<>(List.of(createArticleSummaryDto()), pageable, true));
+        given(articleCountService.estimateCount(SearchType.ID, "Copro")).willReturn(30L);
+
+        // When
+        Page<ArticleSummaryDto> articles = sut.searchArticles(SearchType.ID, "Copro", pageable);
+
+        // Then
+        assertThat(articles.getTotalElements()).isEqualTo(30L);
+        assertThat(articles.getTotalPages()).isEqualTo(30);
+        then(articleRepository).should(never()).count();
+    }
+
+    @DisplayName("전문 검색을 켠 검색 유형이면, 색인 대신 DB 전문 검색으로 관련도 순 페이지를 반환한다.")
+    @Test
+    void 전문검색_관련도순검색() {
+        // Given
+        SearchType searchType = SearchType.CONTENT;
+        String searchKeyword = "게시글";
+        Pageable pageable = Pageable.ofSize(20);
+        given(fullTextIndexInitializer.isReadyFor(searchType)).willReturn(true);
+        given(articleRepository.findSliceByFullText(searchType, searchKeyword, pageable))
+                .willReturn(new SliceImpl<>(List.of(createArticleSummaryDto()), pageable, false));
+
+        // When
+        Page<ArticleSummaryDto> articles = sut.searchArticles(searchType, searchKeyword, pageable);
+
+        // Then
+        assertThat(articles).hasSize(1);
+        assertThat(articles.getTotalElements()).isEqualTo(1L);
+        then(articleSearchIndex).shouldHaveNoInteractions();
+        then(articleRepository).should(never()).findSliceBySearch(any(), any(), any(), any());
+        then(articleCountService).should().estimateFullTextCount(searchType, searchKeyword);
+        then(articleCountService).should(never()).estimateCount(any(), any());
+    }
+
+    @DisplayName("검색 색인에 후보가 있으면, 후보 게시글 안에서만 본문을 검색한다.")
+    @Test
+    void 색인후보검색_후보안에서검색() {
+        // Given
+        SearchType searchType = SearchType.CONTENT;
+        String searchKeyword = "게시글";
+        Pageable pageable = Pageable.ofSize(20);
+        Set<Long> candidates = Set.of(1L, 2L);
+        given(articleSearchIndex.findCandidates(searchType, searchKeyword)).willReturn(Optional.of(candidates));
+        given(articleRepository.findSliceBySearch(searchType, searchKeyword, candidates, pageable)).willReturn(new SliceImpl<>(List.of(), pageable, false));
+
+        // When
+        Page<ArticleSummaryDto> articles = sut.searchArticles(searchType, searchKeyword, pageable);
+
+        // Then
+        assertThat(articles).isEmpty();
+        then(articleRepository).should().findSliceBySearch(searchType, searchKeyword, candidates, pageable);
+        then(articleSearchIndex).should(times(1)).findCandidates(searchType, searchKeyword);
+        then(articleCountService).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("색인 후보가 남은 페이지보다 많으면, 후보 수를 전체 건수 추정치로 쓴다.")
+    @Test
+    void 색인후보검색_후보수추정건수() {
+        // Given
+        SearchType searchType = SearchType.TITLE;
+        String searchKeyword = "title";
+        Pageable pageable = Pageable.ofSize(1);
+        Set<Long> candidates = Set.of(1L, 2L, 3L);
+        given(articleSearchIndex.findCandidates(searchType, searchKeyword)).willReturn(Optional.of(candidates));
+        given(articleRepository.findSliceBySearch(searchType, searchKeyword, candidates, pageable))
+                .willReturn(new SliceImpl<>(List.of(createArticleSummaryDto()), pageable, true));
+
+        // When
+        Page<ArticleSummaryDto> articles = sut.searchArticles(searchType, searchKeyword, pageable);
+
+        // Then
+        assertThat(articles.getTotalElements()).isEqualTo(3L);
+        then(articleCountService).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("검색 색인에 후보가 하나도 없으면, DB 를 조회하지 않고 빈 페이지를 반환한다.")
+    @Test
+    void 색인후보없음_빈페이지() {
+        // Given
+        SearchType searchType = SearchType.TITLE;
+        String searchKeyword = "없는제목";
+        Pageable pageable = Pageable.ofSize(20);
+        given(articleSearchIndex.findCandidates(searchType, searchKeyword)).willReturn(Optional.of(Set.of()));
+
+        // When
+        Page<ArticleSummaryDto> articles = sut.searchArticles(searchType, searchKeyword, pageable);
+
+        // Then
+        assertThat(articles).isEmpty();
+        then(articleRepository).shouldHaveNoInteractions();
+    }
+
+
+    @DisplayName("커서와 함께 게시글을 검색하면, 다음 페이지 확인용으로 size + 1 개를 조회한다.")
+    @Test
+    void 커서검색_게시글반환() {
+        // Given
+        KeysetCursor cursor = KeysetCursor.of(LocalDateTime.now(), 10L);
+        given(articleRepository.findByCursor(SearchType.HASHTAG, "#java", cursor, 21)).willReturn(List.of(createArticleSummaryDto()));
+
+        // When
+        List<ArticleSummaryDto> articles = sut.searchArticlesByCursor(SearchType.HASHTAG, "#java", cursor, 20);
+
+        // Then
+        assertThat(articles).hasSize(1);
+        then(articleRepository).should().findByCursor(SearchType.HASHTAG, "#java", cursor, 21);
+    }
 
     @DisplayName("게시글을 조회하면, 게시글을 반환한다.")
     @Test
@@ -81,6 +215,7 @@ class ArticleServiceTest {
                 .hasFieldOrPropertyWithValue("content", article.getContent())
                 .hasFieldOrPropertyWithValue("hashtag", article.getHashtag());
         then(articleRepository).should().findById(articleId);
+        then(articleCommentRepository).should().findByCursor(articleId, null, ArticleService.DETAIL_COMMENT_SIZE + 1);
     }
 
     @DisplayName("없는 게시글을 조회하면, 예외를 던진다.")
@@ -109,9 +244,113 @@ class ArticleServiceTest {
         // When
         sut.saveArticle(dto);
         // Then
+        then(hashtagService).should().findOrCreateHashtags(dto.hashtag());
         then(articleRepository).should().save(any(Article.class));
     }
 
+    @DisplayName("해시태그로 검색하면, 해시태그 색인의 게시글 안에서 찾고 색인의 게시글 수를 전체 건수로 쓴다.")
+    @Test
+    void 해시태그검색_색인사용() {
+        // Given
+        String hashtag = "#Java";
+        Pageable pageable = Pageable.ofSize(1);
+        Set<Long> articleIds = Set.of(1L, 2L, 3L);
+        given(hashtagIndex.findArticleIds(hashtag)).willReturn(Optional.of(articleIds));
+        given(hashtagIndex.getMaxCandidates()).willReturn(1000);
+        given(articleRepository.findSliceBySearch(SearchType.HASHTAG, hashtag, articleIds, pageable))
+                .willReturn(new SliceImpl<>(List.of(createArticleSummaryDto()), pageable, true));
+
+        // When
+        Page<ArticleSummaryDto> articles = sut.searchArticlesViaHashtag(hashtag, pageable);
+
+        // Then
+        assertThat(articles.getTotalElements()).isEqualTo(3L);
+        then(articleSearchIndex).shouldHaveNoInteractions();
+        then(articleCountService).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("해시태그의 게시글이 너무 많으면, ID 목록 대신 해시태그 조인 조건만으로 검색한다.")
+    @Test
+    void 해시태그검색_게시글많음_조인조건() {
+        // Given
+        String hashtag = "java";
+        Pageable pageable = Pageable.ofSize(20);
+        given(hashtagIndex.findArticleIds(hashtag)).willReturn(Optional.of(Set.of(1L, 2L, 3L)));
+        given(hashtagIndex.getMaxCandidates()).willReturn(2);
+        given(articleRepository.findSliceBySearch(SearchType.HASHTAG, hashtag, null, pageable))
+                .willReturn(new SliceImpl<>(List.of(), pageable, false));
+
+        // When
+        sut.searchArticlesViaHashtag(hashtag, pageable);
+
+        // Then
+        then(articleRepository).should().findSliceBySearch(SearchType.HASHTAG, hashtag, null, pageable);
+    }
+
+    @DisplayName("닉네임으로 검색하면, 회원 색인이 찾은 작성자의 게시글만 회원 조인 LIKE 없이 찾는다.")
+    @Test
+    void 닉네임검색_회원색인사용() {
+        // Given
+        String nickname = "cop";
+        Pageable pageable = Pageable.ofSize(20);
+        Set<Long> userAccountIds = Set.of(1L, 2L);
+        given(userAccountIndex.findUserAccountIds(SearchType.NICKNAME, nickname)).willReturn(Optional.of(userAccountIds));
+        given(articleRepository.findSliceByUserAccountIds(userAccountIds, pageable))
+                .willReturn(new SliceImpl<>(List.of(createArticleSummaryDto()), pageable, false));
+        given(articleCountService.estimateCountByUserAccounts(SearchType.NICKNAME, nickname, userAccountIds)).willReturn(1L);
+
+        // When
+        Page<ArticleSummaryDto> articles = sut.searchArticles(SearchType.NICKNAME, nickname, pageable);
+
+        // Then
+        assertThat(articles).hasSize(1);
+        then(articleRepository).should(never()).findSliceBySearch(any(), any(), any(), any());
+        then(articleCountService).should().estimateCountByUserAccounts(SearchType.NICKNAME, nickname, userAccountIds);
+        then(articleCountService).should(never()).estimateCount(any(), any());
+    }
+
+    @DisplayName("커서와 함께 아이디로 검색하면, 회원 색인이 찾은 작성자 조건으로 size + 1 개를 조회한다.")
+    @Test
+    void 아이디커서검색_회원색인사용() {
+        // Given
+        KeysetCursor cursor = KeysetCursor.of(LocalDateTime.now(), 10L);
+        Set<Long> userAccountIds = Set.of(1L, 2L);
+        given(userAccountIndex.findUserAccountIds(SearchType.ID, "cop")).willReturn(Optional.of(userAccountIds));
+        given(articleRepository.findByCursorAndUserAccountIds(userAccountIds, cursor, 21)).willReturn(List.of(createArticleSummaryDto()));
+
+        // When
+        List<ArticleSummaryDto> articles = sut.searchArticlesByCursor(SearchType.ID, "cop", cursor, 20);
+
+        // Then
+        assertThat(articles).hasSize(1);
+        then(articleRepository).should(never()).findByCursor(any(), any(), any(), anyInt());
+    }
+
+    @DisplayName("회원 색인에 맞는 작성자가 없으면, DB 를 읽지 않고 빈 페이지를 반환한다.")
+    @Test
+    void 아이디검색_맞는회원없음_빈페이지() {
+        // Given
+        given(userAccountIndex.findUserAccountIds(SearchType.ID, "없는회원")).willReturn(Optional.of(Set.of()));
+
+        // When
+        Page<ArticleSummaryDto> articles = sut.searchArticles(SearchType.ID, "없는회원", Pageable.ofSize(20));
+
+        // Then
+        assertThat(articles).isEmpty();
+        then(articleRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("해시태그 없이 해시태그 검색을 하면, 빈 페이지를 반환한다.")
+    @Test
+    void 해시태그없이검색_빈페이지() {
+        // When
+        Page<ArticleSummaryDto> articles = sut.searchArticlesViaHashtag(null, Pageable.ofSize(20));
+
+        // Then
+        assertThat(articles).isEmpty();
+        then(articleRepository).shouldHaveNoInteractions();
+    }
+
     @DisplayName("게시글 수정 정보를 입력하면, 게시글을 수정한다.")
     @Test
     void 게시글수정정보입력_게시글수정() {
@@ -128,6 +367,7 @@ class ArticleServiceTest {
                 .hasFieldOrPropertyWithValue("content", dto.content())
                 .hasFieldOrPropertyWithValue("hashtag", dto.hashtag());
         then(articleRepository).should().getReferenceById(dto.id());
+        then(hashtagService).should().findOrCreateHashtags(dto.hashtag());
     }
 
 
@@ -163,14 +403,15 @@ class ArticleServiceTest {
     void givenNothing_whenCountingArticles_thenReturnsArticleCount() {
         // Given
         long expected = 0L;
-        given(articleRepository.count()).willReturn(expected);
+        given(articleCountService.getTotalCount()).willReturn(expected);
 
         // When
         long actual = sut.getArticleCount();
 
         // Then
         assertThat(actual).isEqualTo(expected);
-        then(articleRepository).should().count();
+        then(articleCountService).should().getTotalCount();
+        then(articleRepository).shouldHaveNoInteractions();
     }
 
     private UserAccount createUserAccount() {
@@ -192,12 +433,16 @@ class ArticleServiceTest {
         );
     }
 
+    private ArticleSummaryDto createArticleSummaryDto() {
+        return ArticleSummaryDto.of(1L, "title", "#java", LocalDateTime.now(), "Copro", "Copro@email.com", "Uno");
+    }
+
     private ArticleDto createArticleDto() {
         return createArticleDto("title", "content", "#java");
     }
 
     private ArticleDto createArticleDto(String title, String content, String hashtag) {
-        return ArticleDto.of(1L, createUserAccountDto(), title, content, hashtag, LocalDateTime.now(), "Uno", LocalDateTime.now(), "Uno");
+        return ArticleDto.of(1L, createUserAccountDto(), title, content, hashtag, LocalDateTime.now(), "Uno", LocalDateTime.now(), "Uno", 0L, null);
     }
 
     private UserAccountDto createUserAccountDto() {
@@ -0,0 +1,98 @@
+package copro.projectboard.service;
+
+import copro.projectboard.config.JpaConfig;
+import copro.projectboard.config.ViewCountConfig.ViewCountProperties;
+import copro.projectboard.dto.ArticleViewCountDto;
+import copro.projectboard.event.ArticleEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("비즈니스 로직 - 조회수")
+@EnableConfigurationProperties(ViewCountProperties.class)
+@ImportAutoConfiguration(JdbcTemplateAutoConfiguration.class)
+@Import({JpaConfig.class, ArticleViewCounter.class})
+@DataJpaTest(properties = {"board.view-count.flush-batch-size=1", "board.view-count.top-size=2"})
+class ArticleViewCounterTest {
+
+    private final ArticleViewCounter sut;
+    private final JdbcTemplate jdbcTemplate;
+
+    public ArticleViewCounterTest(@Autowired ArticleViewCounter articleViewCounter, @Autowired JdbcTemplate jdbcTemplate) {
+        this.sut = articleViewCounter;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @DisplayName("모은 조회수를 반영하면, 게시글마다 한 번씩 view_count 에 더하고 모은 조회수를 비운다.")
+    @Test
+    void 조회수반영_게시글마다더함() {
+        // Given
+        long previousViewCount = viewCount(1L);
+        sut.increment(1L);
+        sut.increment(1L);
+        sut.increment(1L);
+        sut.increment(2L);
+
+        // When
+        int flushed = sut.flush();
+
+        // Then
+        assertThat(flushed).isEqualTo(2);
+        assertThat(viewCount(1L)).isEqualTo(previousViewCount + 3);
+        assertThat(sut.getPendingViews(1L)).isZero();
+        assertThat(sut.flush()).isZero();
+    }
+
+    @DisplayName("조회수 상위 게시글은, 반영한 조회수에 아직 반영하지 않은 조회수를 더해서 top-size 까지만 돌려준다.")
+    @Test
+    void 조회수상위게시글_반영전조회수포함() {
+        // Given
+        sut.increment(1L);
+        sut.increment(1L);
+        sut.increment(2L);
+        sut.flush();
+        sut.increment(2L);
+        sut.increment(2L);
+
+        // When
+        List<ArticleViewCountDto> mostViewed = sut.getMostViewed(10);
+
+        // Then
+        assertThat(mostViewed)
+                .hasSize(2)
+                .extracting(ArticleViewCountDto::articleId, ArticleViewCountDto::viewCount)
+                .containsExactly(tuple(2L, 3L), tuple(1L, 2L));
+    }
+
+    @DisplayName("게시글이 지워지면, 모은 조회수와 조회수 상위 목록에서 뺀다.")
+    @Test
+    void 게시글삭제_조회수제외() {
+        // Given
+        sut.increment(1L);
+        sut.flush();
+        sut.increment(1L);
+
+        // When
+        sut.onArticleEvent(ArticleEvent.deleted(1L));
+
+        // Then
+        assertThat(sut.getPendingViews(1L)).isZero();
+        assertThat(sut.getMostViewed(10)).extracting(ArticleViewCountDto::articleId).doesNotContain(1L);
+    }
+
+    private long viewCount(Long articleId) {
+        Long viewCount = jdbcTemplate.queryForObject("select view_count from article where id = ?", Long.class, articleId);
+        return viewCount == null ? 0L : viewCount;
+    }
+
+}
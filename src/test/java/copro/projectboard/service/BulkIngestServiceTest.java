@@ -0,0 +1,111 @@
+package copro.projectboard.service;
+
+import copro.projectboard.config.BulkIngestConfig.BulkIngestProperties;
+import copro.projectboard.config.JpaConfig;
+import copro.projectboard.dto.BulkIngestResult;
+import copro.projectboard.event.ArticleCommentEvent;
+import copro.projectboard.event.ArticleImportedEvent;
+import copro.projectboard.repository.ArticleCommentRepository;
+import copro.projectboard.repository.ArticleRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("비즈니스 로직 - 대량 적재")
+@RecordApplicationEvents
+@EnableConfigurationProperties(BulkIngestProperties.class)
+@ImportAutoConfiguration({JacksonAutoConfiguration.class, JdbcTemplateAutoConfiguration.class})
+@Import({JpaConfig.class, BulkIngestService.class})
+@DataJpaTest(properties = {"board.bulk-ingest.commit-size=2", "board.bulk-ingest.batch-size=2"})
+class BulkIngestServiceTest {
+
+    private final BulkIngestService sut;
+    private final ArticleRepository articleRepository;
+    private final ArticleCommentRepository articleCommentRepository;
+
+    @Autowired private ApplicationEvents events;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    public BulkIngestServiceTest(
+            @Autowired BulkIngestService bulkIngestService,
+            @Autowired ArticleRepository articleRepository,
+            @Autowired ArticleCommentRepository articleCommentRepository) {
+        this.sut = bulkIngestService;
+        this.articleRepository = articleRepository;
+        this.articleCommentRepository = articleCommentRepository;
+    }
+
+    @DisplayName("게시글 NDJSON 을 넣으면, 올바른 줄만 batch insert 하고 건너뛴 줄 수와 처리 속도를 알려준다.")
+    @Test
+    void 게시글대량적재_올바른줄만저장() throws Exception {
+        // Given
+        long previousCount = articleRepository.count();
+        InputStream ndjson = ndjson("""
+                {"userId":"uno","title":"첫 글","content":"본문","hashtag":"#java","createdAt":"2022-01-01T00:00:00"}
+                {"userId":"uno2","title":"두번째 글","content":"본문"}
+
+                {"userId":"uno","title":"세번째 글","content":"본문","hashtag":"#spring"}
+                {"userId":"nobody","title":"작성자 없음","content":"본문"}
+                {not json}
+                """);
+
+        // When
+        BulkIngestResult result = sut.ingestArticles(ndjson);
+
+        // Then
+        assertThat(result.insertedRows()).isEqualTo(3L);
+        assertThat(result.skippedRows()).isEqualTo(2L);
+        assertThat(result.rowsPerSecond()).isPositive();
+        assertThat(articleRepository.count()).isEqualTo(previousCount + 3);
+        assertThat(events.stream(ArticleImportedEvent.class)).containsExactly(ArticleImportedEvent.of(3L));
+    }
+
+    @DisplayName("댓글 NDJSON 을 넣으면, 없는 게시글의 댓글은 건너뛰고 댓글이 달린 게시글마다 댓글 수를 올리고 이벤트를 보낸다.")
+    @Test
+    void 댓글대량적재_없는게시글건너뜀() throws Exception {
+        // Given
+        long previousCount = articleCommentRepository.count();
+        long previousCommentCount = commentCount(1L);
+        InputStream ndjson = ndjson("""
+                {"articleId":1,"userId":"uno","content":"댓글"}
+                {"articleId":1,"userId":"uno2","content":"댓글"}
+                {"articleId":2,"userId":"uno","content":"댓글"}
+                {"articleId":999999,"userId":"uno","content":"없는 게시글"}
+                """);
+
+        // When
+        BulkIngestResult result = sut.ingestArticleComments(ndjson);
+
+        // Then
+        assertThat(result.insertedRows()).isEqualTo(3L);
+        assertThat(result.skippedRows()).isEqualTo(1L);
+        assertThat(articleCommentRepository.count()).isEqualTo(previousCount + 3);
+        assertThat(commentCount(1L)).isEqualTo(previousCommentCount + 2);
+        assertThat(events.stream(ArticleCommentEvent.class).map(ArticleCommentEvent::articleId)).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+
+    private long commentCount(Long articleId) {
+        return jdbcTemplate.queryForObject("select comment_count from article where id = ?", Long.class, articleId);
+    }
+
+    private InputStream ndjson(String lines) {
+        return new ByteArrayInputStream(lines.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
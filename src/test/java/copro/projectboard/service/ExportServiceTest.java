@@ -0,0 +1,83 @@
+package copro.projectboard.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import copro.projectboard.config.ExportConfig.ExportProperties;
+import copro.projectboard.config.JpaConfig;
+import copro.projectboard.domain.type.ExportFormat;
+import copro.projectboard.repository.ArticleCommentRepository;
+import copro.projectboard.repository.ArticleRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("비즈니스 로직 - 내보내기")
+@EnableConfigurationProperties(ExportProperties.class)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({JpaConfig.class, ExportService.class})
+@DataJpaTest(properties = "board.export.clear-interval=10")
+class ExportServiceTest {
+
+    private final ExportService sut;
+    private final ArticleRepository articleRepository;
+    private final ArticleCommentRepository articleCommentRepository;
+
+    @Autowired private ObjectMapper objectMapper;
+
+    public ExportServiceTest(
+            @Autowired ExportService exportService,
+            @Autowired ArticleRepository articleRepository,
+            @Autowired ArticleCommentRepository articleCommentRepository) {
+        this.sut = exportService;
+        this.articleRepository = articleRepository;
+        this.articleCommentRepository = articleCommentRepository;
+    }
+
+    @DisplayName("게시글을 CSV 로 내보내면, 헤더 다음에 모든 게시글을 ID 순으로 쓴다.")
+    @Test
+    void 게시글내보내기_CSV() throws Exception {
+        // Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        long rows = sut.exportArticles(ExportFormat.CSV, out);
+
+        // Then
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertThat(rows).isEqualTo(articleRepository.count());
+        assertThat(csv)
+                .startsWith("id,user_id,title,content,hashtag,comment_count,last_commented_at,view_count,created_at,created_by,modified_at,modified_by\n1,")
+                .endsWith("\n");
+    }
+
+    @DisplayName("댓글을 NDJSON 으로 내보내면, 영속성 컨텍스트를 비우면서도 댓글마다 한 줄씩 쓴다.")
+    @Test
+    void 댓글내보내기_NDJSON() throws Exception {
+        // Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        long rows = sut.exportArticleComments(ExportFormat.NDJSON, out);
+
+        // Then
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(rows).isEqualTo(articleCommentRepository.count());
+        assertThat(lines).hasSize((int) rows);
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertThat(first.get("id").asLong()).isEqualTo(1L);
+        assertThat(first.has("article_id")).isTrue();
+        assertThat(first.get("user_id").isTextual()).isTrue();
+    }
+
+}
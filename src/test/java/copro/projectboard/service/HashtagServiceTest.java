@@ -0,0 +1,135 @@
+package copro.projectboard.service;
+
+import copro.projectboard.config.SearchConfig.HashtagIndexProperties;
+import copro.projectboard.domain.Article;
+import copro.projectboard.domain.Hashtag;
+import copro.projectboard.domain.UserAccount;
+import copro.projectboard.repository.ArticleRepository;
+import copro.projectboard.repository.HashtagRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비즈니스 로직 - 해시태그")
+@ExtendWith(MockitoExtension.class)
+class HashtagServiceTest {
+
+    @InjectMocks private HashtagService sut;
+
+    @Mock private HashtagRepository hashtagRepository;
+    @Mock private ArticleRepository articleRepository;
+    @Mock private HashtagIndexProperties properties;
+    @Mock private EntityManager entityManager;
+    @Mock private JdbcTemplate jdbcTemplate;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    @DisplayName("Data REST 로 게시글을 저장하기 전에, 해시태그 연관관계를 해시태그 문자열에 맞춘다.")
+    @Test
+    void 게시글저장전_해시태그동기화() {
+        // Given
+        Article article = Article.of(createUserAccount(), "title", "content", "#Java, spring");
+        article.replaceHashtags(Set.of(createHashtag(3L, "jpa")));
+        Hashtag java = createHashtag(1L, "java");
+        Hashtag spring = createHashtag(2L, "spring");
+        given(hashtagRepository.findByHashtagNameIn(Set.of("java", "spring"))).willReturn(List.of(java, spring));
+
+        // When
+        sut.syncHashtags(article);
+
+        // Then
+        assertThat(article.getHashtags()).containsExactly(java, spring);
+    }
+
+
+    @DisplayName("없는 해시태그만 새로 넣고, 입력 순서대로 돌려준다.")
+    @Test
+    void 해시태그생성_없는것만생성() {
+        // Given
+        Hashtag java = createHashtag(1L, "java");
+        Hashtag spring = createHashtag(2L, "spring");
+        given(hashtagRepository.findByHashtagNameIn(Set.of("spring", "java"))).willReturn(List.of(java));
+        given(hashtagRepository.findWithLockByHashtagNameIn(List.of("spring"))).willReturn(List.of(spring));
+
+        // When
+        Set<Hashtag> actual = sut.findOrCreateHashtags("#spring #java");
+
+        // Then
+        assertThat(actual).containsExactly(spring, java);
+        then(jdbcTemplate).should().update(anyString(), eq("spring"));
+        then(jdbcTemplate).should(never()).update(anyString(), eq("java"));
+    }
+
+    @DisplayName("다른 요청이 같은 해시태그를 먼저 만들어 유니크 키 위반이 나면, 예외 없이 그 해시태그를 다시 읽어 쓴다.")
+    @Test
+    void 해시태그생성_동시생성_다시읽기() {
+        // Given
+        Hashtag spring = createHashtag(2L, "spring");
+        given(hashtagRepository.findByHashtagNameIn(Set.of("spring"))).willReturn(List.of());
+        given(jdbcTemplate.update(anyString(), eq("spring"))).willThrow(new DuplicateKeyException("uk_hashtag_hashtag_name"));
+        given(hashtagRepository.findWithLockByHashtagNameIn(List.of("spring"))).willReturn(List.of(spring));
+
+        // When
+        Set<Hashtag> actual = sut.findOrCreateHashtags("#spring");
+
+        // Then
+        assertThat(actual).containsExactly(spring);
+    }
+
+    @DisplayName("조인 테이블 보정은 배치마다 따로 커밋한다.")
+    @Test
+    void 해시태그보정_배치마다커밋() {
+        // Given
+        Article first = createArticle(1L, "#java");
+        Article second = createArticle(2L, "#java");
+        Hashtag java = createHashtag(1L, "java");
+        given(properties.getRebuildBatchSize()).willReturn(1);
+        given(articleRepository.findByIdGreaterThanAndHashtagIsNotNullAndHashtagsIsEmpty(eq(0L), any(Pageable.class)))
+                .willReturn(new SliceImpl<>(List.of(first), Pageable.ofSize(1), true));
+        given(articleRepository.findByIdGreaterThanAndHashtagIsNotNullAndHashtagsIsEmpty(eq(1L), any(Pageable.class)))
+                .willReturn(new SliceImpl<>(List.of(second), Pageable.ofSize(1), false));
+        given(hashtagRepository.findByHashtagNameIn(Set.of("java"))).willReturn(List.of(java));
+
+        // When
+        sut.backfillHashtags();
+
+        // Then
+        assertThat(first.getHashtags()).containsExactly(java);
+        assertThat(second.getHashtags()).containsExactly(java);
+        then(transactionManager).should(times(2)).commit(any());
+        then(entityManager).should(times(2)).clear();
+    }
+
+    private UserAccount createUserAccount() {
+        return UserAccount.of("Copro", "password", "Copro@email.com", "Copro", null);
+    }
+
+    private Article createArticle(Long id, String hashtag) {
+        Article article = Article.of(createUserAccount(), "title", "content", hashtag);
+        ReflectionTestUtils.setField(article, "id", id);
+        return article;
+    }
+
+    private Hashtag createHashtag(Long id, String hashtagName) {
+        Hashtag hashtag = Hashtag.of(hashtagName);
+        ReflectionTestUtils.setField(hashtag, "id", id);
+        return hashtag;
+    }
+
+}
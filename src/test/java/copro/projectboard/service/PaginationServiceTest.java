@@ -1,5 +1,7 @@
 package copro.projectboard.service;
 
+import copro.projectboard.dto.CursorPage;
+import copro.projectboard.dto.KeysetCursor;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -8,6 +10,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -53,6 +56,57 @@ class PaginationServiceTest {
         );
     }
 
+    @DisplayName("전체 페이지 수 없이 다음 페이지 유무만 주면, 다음 페이지까지의 페이징 바를 만들어준다.")
+    @MethodSource
+    @ParameterizedTest(name = "[{index}] 현재 페이지: {0}, 다음 페이지 있음: {1} => {2}")
+    void 현재페이지번호_다음페이지여부_페이징바_리스트(int currentPageNumber, boolean hasNext, List<Integer> expected) {
+        // When
+        List<Integer> actual = sut.getPaginationBarNumbers(currentPageNumber, hasNext);
+
+        // Then
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    static Stream<Arguments> 현재페이지번호_다음페이지여부_페이징바_리스트() {
+        return Stream.of(
+                arguments(0, true, List.of(0, 1)),
+                arguments(0, false, List.of(0)),
+                arguments(4, true, List.of(2, 3, 4, 5)),
+                arguments(10, false, List.of(8, 9, 10))
+        );
+    }
+
+    @DisplayName("첫 페이지를 size + 1 개로 조회하면, 다음 커서만 만들어준다.")
+    @Test
+    void 커서페이징_첫페이지() {
+        // Given
+        List<Long> rows = List.of(5L, 4L, 3L);
+
+        // When
+        CursorPage<Long> actual = sut.getCursorPage(rows, 2, null, this::cursorOf);
+
+        // Then
+        assertThat(actual.content()).containsExactly(5L, 4L);
+        assertThat(actual.hasPrevious()).isFalse();
+        assertThat(KeysetCursor.decode(actual.nextCursor())).isEqualTo(cursorOf(4L));
+    }
+
+    @DisplayName("이전 방향 커서로 조회하면, 앞쪽의 남는 한 건을 잘라내고 양쪽 커서를 만들어준다.")
+    @Test
+    void 커서페이징_이전페이지() {
+        // Given
+        KeysetCursor cursor = cursorOf(2L).toward(KeysetCursor.Direction.PREVIOUS);
+        List<Long> rows = List.of(5L, 4L, 3L);
+
+        // When
+        CursorPage<Long> actual = sut.getCursorPage(rows, 2, cursor, this::cursorOf);
+
+        // Then
+        assertThat(actual.content()).containsExactly(4L, 3L);
+        assertThat(KeysetCursor.decode(actual.previousCursor())).isEqualTo(cursorOf(4L).toward(KeysetCursor.Direction.PREVIOUS));
+        assertThat(KeysetCursor.decode(actual.nextCursor())).isEqualTo(cursorOf(3L));
+    }
+
     @DisplayName("현재 설정되어 있는 페이지네이션 바의 길이를 알려준다.")
     @Test
     void 현재설정_페이지네이션바() {
@@ -65,4 +119,8 @@ class PaginationServiceTest {
         assertThat(barLength).isEqualTo(5);
     }
 
+    private KeysetCursor cursorOf(Long id) {
+        return KeysetCursor.of(LocalDateTime.of(2022, 1, 1, 0, 0).plusMinutes(id), id);
+    }
+
 }